@@ -0,0 +1,80 @@
+package com.api.backend.global.security.jwt;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.global.security.data.dto.TokenDto;
+import com.api.backend.global.security.jwt.service.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 요청마다 거치는 토큰 발급 / 인증 비용.
+ * 로그아웃 목록은 Redis 를 mock 으로 채운 뒤 로컬 목록만 조회하는 상태로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+  private static final String SECRET = Base64.getEncoder()
+      .encodeToString("benchmark-secret-key-for-jwt-token-provider-0123456789".getBytes());
+
+  private JwtTokenProvider cachedProvider;
+  private JwtTokenProvider uncachedProvider;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    RedisService redisService = mock(RedisService.class);
+    when(redisService.getSortedSetValuesByScore(anyString(), anyDouble(), anyDouble()))
+        .thenReturn(Set.of());
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TokenRevocationService tokenRevocationService = new TokenRevocationService(
+        redisService, mock(RedisMessageListenerContainer.class), meterRegistry);
+    tokenRevocationService.init();
+
+    cachedProvider = new JwtTokenProvider(SECRET, 60 * 60 * 1000L, 24 * 60 * 60 * 1000L,
+        redisService, new VerifiedTokenCache(10_000, meterRegistry), tokenRevocationService);
+    // 크기 0 이면 넣자마자 제거되어 매번 서명을 검증한다.
+    uncachedProvider = new JwtTokenProvider(SECRET, 60 * 60 * 1000L, 24 * 60 * 60 * 1000L,
+        redisService, new VerifiedTokenCache(0, meterRegistry), tokenRevocationService);
+
+    accessToken = cachedProvider.createToken("1", "ROLE_USER").getAccessToken();
+  }
+
+  @Benchmark
+  public TokenDto createToken() {
+    return cachedProvider.createToken("1", "ROLE_USER");
+  }
+
+  @Benchmark
+  public Authentication authenticateCached() {
+    return cachedProvider.authenticate(accessToken);
+  }
+
+  @Benchmark
+  public Authentication authenticateUncached() {
+    return uncachedProvider.authenticate(accessToken);
+  }
+
+  @Benchmark
+  public Authentication getAuthentication() {
+    return cachedProvider.getAuthentication(accessToken);
+  }
+}
@@ -0,0 +1,64 @@
+package com.api.backend.notification.data.repository;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 연결 등록 / 해제와 알람 전송 시 조회가 같은 팀에 몰릴 때의 비용.
+ * 4개 스레드가 등록 후 바로 해제하고, 4개 스레드가 같은 팀의 emitter 를 조회한다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmitterRepositoryBenchmark {
+
+  private static final int TEAM_COUNT = 10;
+  private static final int PARTICIPANT_COUNT = 100;
+
+  private EmitterRepository emitterRepository;
+
+  @Setup
+  public void setUp() {
+    emitterRepository = new EmitterRepository();
+    for (long teamId = 0; teamId < TEAM_COUNT; teamId++) {
+      for (long participantId = 0; participantId < PARTICIPANT_COUNT; participantId++) {
+        emitterRepository.saveTeamParticipantsEmitter(teamId, participantId, new SseEmitter());
+        emitterRepository.saveMemberEmitter(teamId * PARTICIPANT_COUNT + participantId,
+            new SseEmitter());
+      }
+    }
+  }
+
+  @Benchmark
+  @Group("contention")
+  @GroupThreads(4)
+  public void saveAndDelete() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long teamId = random.nextInt(TEAM_COUNT);
+    long participantId = random.nextInt(PARTICIPANT_COUNT);
+
+    SseEmitter sseEmitter = new SseEmitter();
+    emitterRepository.saveTeamParticipantsEmitter(teamId, participantId, sseEmitter);
+    emitterRepository.delete(sseEmitter);
+  }
+
+  @Benchmark
+  @Group("contention")
+  @GroupThreads(4)
+  public Set<SseEmitter> get() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return emitterRepository.getTeamParticipantEmitters(
+        (long) random.nextInt(TEAM_COUNT), (long) random.nextInt(PARTICIPANT_COUNT));
+  }
+}
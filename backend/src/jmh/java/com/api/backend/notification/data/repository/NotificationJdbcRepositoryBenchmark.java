@@ -0,0 +1,106 @@
+package com.api.backend.notification.data.repository;
+
+import com.api.backend.notification.data.entity.Notification;
+import com.api.backend.notification.data.type.AlarmType;
+import com.api.backend.team.data.entity.TeamParticipants;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * 팀 전체 알람 저장 시 multi-row insert 와 한 건씩 insert (IDENTITY 전략의 saveAll) 비교.
+ * MySQL 대신 H2(MySQL 모드) 메모리 DB 를 사용하므로 네트워크 왕복 비용은 포함되지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NotificationJdbcRepositoryBenchmark {
+
+  private static final String SINGLE_INSERT_QUERY =
+      "insert into notification "
+          + "(create_dt, update_dt, alarm_type, nick_name, message, is_read, member_id, team_participants_id) "
+          + "values (?, ?, ?, ?, ?, false, ?, ?)";
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private JdbcTemplate jdbcTemplate;
+  private NotificationJdbcRepository notificationJdbcRepository;
+  private List<Notification> notifications;
+
+  @Setup
+  public void setUp() {
+    SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:notification;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("create table if not exists notification ("
+        + "notification_id bigint auto_increment primary key, "
+        + "create_dt timestamp, update_dt timestamp, alarm_type varchar(255), "
+        + "nick_name varchar(255), message varchar(255), is_read boolean default false, "
+        + "member_id bigint, team_participants_id bigint)");
+    notificationJdbcRepository = new NotificationJdbcRepository(jdbcTemplate);
+
+    notifications = new ArrayList<>(size);
+    for (long i = 0; i < size; i++) {
+      notifications.add(Notification.builder()
+          .teamParticipants(TeamParticipants.builder().teamParticipantsId(i).build())
+          .nickName("참가자" + i)
+          .message("문서가 생성되었습니다.")
+          .alarmType(AlarmType.DOCUMENTS)
+          .build());
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void truncate() {
+    jdbcTemplate.execute("truncate table notification");
+  }
+
+  @Benchmark
+  public List<Long> batchInsert() {
+    return notificationJdbcRepository.batchInsert(notifications);
+  }
+
+  @Benchmark
+  public List<Long> singleInsert() {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Long> ids = new ArrayList<>(notifications.size());
+    for (Notification notification : notifications) {
+      KeyHolder keyHolder = new GeneratedKeyHolder();
+      jdbcTemplate.update(connection -> {
+        PreparedStatement ps =
+            connection.prepareStatement(SINGLE_INSERT_QUERY, Statement.RETURN_GENERATED_KEYS);
+        ps.setTimestamp(1, now);
+        ps.setTimestamp(2, now);
+        ps.setString(3, notification.getAlarmType().name());
+        ps.setString(4, notification.getNickName());
+        ps.setString(5, notification.getMessage());
+        ps.setNull(6, Types.BIGINT);
+        ps.setLong(7, notification.getTeamParticipants().getTeamParticipantsId());
+        return ps;
+      }, keyHolder);
+      ids.add(keyHolder.getKey().longValue());
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,159 @@
+package com.api.backend.schedule.data.dto;
+
+import com.api.backend.category.data.entity.ScheduleCategory;
+import com.api.backend.category.type.CategoryType;
+import com.api.backend.schedule.data.entity.SimpleSchedule;
+import com.api.backend.schedule.data.type.RepeatCycle;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 월별 일정 조회 응답 변환 비용 (엔티티 / projection).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AllSchedulesMonthlyViewBenchmark {
+
+  @Param({"1000", "10000"})
+  private int size;
+
+  private List<SimpleSchedule> simpleSchedules;
+  private List<MonthlyScheduleProjection> projections;
+
+  @Setup
+  public void setUp() {
+    ScheduleCategory scheduleCategory = ScheduleCategory.builder()
+        .scheduleCategoryId(1L)
+        .categoryName("회의")
+        .categoryType(CategoryType.SCHEDULE)
+        .color("#ff0000")
+        .build();
+    LocalDateTime startDt = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    simpleSchedules = new ArrayList<>(size);
+    projections = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      LocalDateTime dt = startDt.plusMinutes(i);
+      simpleSchedules.add(SimpleSchedule.builder()
+          .simpleScheduleId((long) i)
+          .title("기획 회의 " + i)
+          .content("컨셉 선정")
+          .place("회의실")
+          .startDt(dt)
+          .endDt(dt.plusHours(1))
+          .color("#ff0000")
+          .scheduleCategory(scheduleCategory)
+          .build());
+      projections.add(new Projection((long) i, dt));
+    }
+  }
+
+  @Benchmark
+  public List<AllSchedulesMonthlyView> fromSimpleSchedule() {
+    return simpleSchedules.stream()
+        .map(AllSchedulesMonthlyViewBenchmark::fromEntity)
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<AllSchedulesMonthlyView> fromProjection() {
+    return projections.stream()
+        .map(AllSchedulesMonthlyView::from)
+        .collect(Collectors.toList());
+  }
+
+  // projection 도입 전 엔티티에서 변환하던 방식
+  private static AllSchedulesMonthlyView fromEntity(SimpleSchedule simpleSchedule) {
+    return AllSchedulesMonthlyView.builder()
+        .scheduleId(simpleSchedule.getSimpleScheduleId())
+        .scheduleType("단순일정")
+        .categoryId(simpleSchedule.getScheduleCategory().getScheduleCategoryId())
+        .category(simpleSchedule.getScheduleCategory().getCategoryType())
+        .categoryName(simpleSchedule.getScheduleCategory().getCategoryName())
+        .title(simpleSchedule.getTitle())
+        .content(simpleSchedule.getContent())
+        .place(simpleSchedule.getPlace())
+        .startDt(simpleSchedule.getStartDt())
+        .endDt(simpleSchedule.getEndDt())
+        .color(simpleSchedule.getColor())
+        .build();
+  }
+
+  private static class Projection implements MonthlyScheduleProjection {
+
+    private final Long scheduleId;
+    private final LocalDateTime startDt;
+
+    private Projection(Long scheduleId, LocalDateTime startDt) {
+      this.scheduleId = scheduleId;
+      this.startDt = startDt;
+    }
+
+    @Override
+    public Long getScheduleId() {
+      return scheduleId;
+    }
+
+    @Override
+    public Long getCategoryId() {
+      return 1L;
+    }
+
+    @Override
+    public CategoryType getCategoryType() {
+      return CategoryType.SCHEDULE;
+    }
+
+    @Override
+    public String getCategoryName() {
+      return "회의";
+    }
+
+    @Override
+    public String getTitle() {
+      return "기획 회의";
+    }
+
+    @Override
+    public String getContent() {
+      return "컨셉 선정";
+    }
+
+    @Override
+    public String getPlace() {
+      return "회의실";
+    }
+
+    @Override
+    public LocalDateTime getStartDt() {
+      return startDt;
+    }
+
+    @Override
+    public LocalDateTime getEndDt() {
+      return startDt.plusHours(1);
+    }
+
+    @Override
+    public String getColor() {
+      return "#ff0000";
+    }
+
+    @Override
+    public RepeatCycle getRepeatCycle() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.api.backend.team.crypt;
+
+import com.api.backend.team.crypt.InviteTokenProvider.InviteToken;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 팀 초대 토큰 발급 / 검증 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InviteTokenProviderBenchmark {
+
+  private static final String INVITE_CODE = "1b4e28ba-2fa1-11d2-883f-0016d3cca427";
+
+  private InviteTokenProvider inviteTokenProvider;
+  private String token;
+  private String tamperedToken;
+
+  @Setup
+  public void setUp() {
+    inviteTokenProvider = new InviteTokenProvider("benchmark-secret", List.of("previous-secret"));
+    token = inviteTokenProvider.createToken(
+        1L, INVITE_CODE, System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1));
+
+    char[] chars = token.toCharArray();
+    chars[10] = chars[10] == 'A' ? 'B' : 'A';
+    tamperedToken = new String(chars);
+  }
+
+  @Benchmark
+  public String createToken() {
+    return inviteTokenProvider.createToken(1L, INVITE_CODE, System.currentTimeMillis());
+  }
+
+  @Benchmark
+  public boolean verify() {
+    InviteToken inviteToken = inviteTokenProvider.verify(token);
+    return inviteTokenProvider.matchesCode(inviteToken, INVITE_CODE);
+  }
+
+  @Benchmark
+  public boolean verifyTampered() {
+    try {
+      inviteTokenProvider.verify(tamperedToken);
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+}
@@ -5,7 +5,6 @@ import static com.api.backend.global.exception.type.ErrorCode.SCHEDULE_CATEGORY_
 import static com.api.backend.global.exception.type.ErrorCode.SCHEDULE_CATEGORY_CREATOR_NOT_MATCH_TEAM_PARTICIPANTS_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.SCHEDULE_CATEGORY_NOT_FOUND_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_NOT_FOUND_EXCEPTION;
-import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION;
 
 import com.api.backend.category.data.dto.ScheduleCategoryDeleteRequest;
 import com.api.backend.category.data.dto.ScheduleCategoryEditRequest;
@@ -14,12 +13,14 @@ import com.api.backend.category.data.entity.ScheduleCategory;
 import com.api.backend.category.data.repository.ScheduleCategoryRepository;
 import com.api.backend.category.type.CategoryType;
 import com.api.backend.global.exception.CustomException;
+import com.api.backend.schedule.cache.ScheduleCalendarCache;
 import com.api.backend.schedule.data.entity.RepeatSchedule;
 import com.api.backend.schedule.data.entity.SimpleSchedule;
 import com.api.backend.schedule.data.repository.RepeatScheduleRepository;
 import com.api.backend.schedule.data.repository.SimpleScheduleRepository;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.entity.Team;
-import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.data.repository.TeamParticipantsRepository;
 import com.api.backend.team.data.repository.TeamRepository;
 import com.api.backend.team.data.type.TeamRole;
@@ -41,9 +42,11 @@ public class ScheduleCategoryService {
   private final ScheduleCategoryRepository scheduleCategoryRepository;
   private final TeamRepository teamRepository;
   private final TeamParticipantsRepository teamParticipantsRepository;
+  private final TeamMembershipCache teamMembershipCache;
   private final TeamParticipantsService teamParticipantsService;
   private final SimpleScheduleRepository simpleScheduleRepository;
   private final RepeatScheduleRepository repeatScheduleRepository;
+  private final ScheduleCalendarCache scheduleCalendarCache;
 
   @Transactional
   public ScheduleCategory add(ScheduleCategoryRequest scheduleCategoryRequest, Long memberId) {
@@ -84,6 +87,7 @@ public class ScheduleCategoryService {
 
     scheduleCategory.editScheduleCategory(scheduleCategoryEditRequest);
     ScheduleCategory editCategory = scheduleCategoryRepository.save(scheduleCategory);
+    scheduleCalendarCache.evictTeam(scheduleCategoryEditRequest.getTeamId());
     log.info("일정 카테고리 수정에 성공하였습니다.");
     return editCategory;
   }
@@ -91,7 +95,7 @@ public class ScheduleCategoryService {
   @Transactional
   public void delete(ScheduleCategoryDeleteRequest deleteRequest, Long memberId) {
     ScheduleCategory category = findCategoryOrElseThrow(deleteRequest.getCategoryId());
-    TeamParticipants teamParticipants = teamParticipantsService.getTeamParticipant(deleteRequest.getTeamId(), memberId);
+    TeamMembership teamParticipants = teamParticipantsService.getTeamMembership(deleteRequest.getTeamId(), memberId);
 
     List<RepeatSchedule> repeatScheduleList = repeatScheduleRepository.findAllByScheduleCategory_ScheduleCategoryIdAndTeam_TeamId(
         deleteRequest.getCategoryId(), deleteRequest.getTeamId()
@@ -149,6 +153,7 @@ public class ScheduleCategoryService {
       }
 
     }
+    scheduleCalendarCache.evictTeam(deleteRequest.getTeamId());
   }
 
   private Team findTeamOrElseThrow(Long teamId) {
@@ -162,8 +167,7 @@ public class ScheduleCategoryService {
   }
 
   private void validTeamParticipant(Long teamId, Long memberId) {
-    teamParticipantsRepository.findByTeam_TeamIdAndMember_MemberId(teamId, memberId)
-        .orElseThrow(() -> new CustomException(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION));
+    teamMembershipCache.getMembership(memberId, teamId);
   }
 
 }
@@ -1,5 +1,6 @@
 package com.api.backend.comment.controller;
 
+import com.api.backend.comment.data.dto.CommentCursorResponse;
 import com.api.backend.comment.data.dto.CommentEditRequest;
 import com.api.backend.comment.data.dto.CommentInitRequest;
 import com.api.backend.comment.data.dto.CommentResponse;
@@ -15,8 +16,6 @@ import io.swagger.annotations.ApiResponses;
 import java.security.Principal;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import springfox.documentation.annotations.ApiIgnore;
 
@@ -114,20 +114,32 @@ public class CommentController {
               , dataType = "String"
               , paramType = "path"
               , defaultValue = "None"
-              , example = "657595c6c97b622e0440f394")
+              , example = "657595c6c97b622e0440f394"),
+          @ApiImplicitParam(
+              name = "cursor"
+              , value = "이전 페이지의 마지막 댓글 id (첫 페이지는 생략)"
+              , required = false
+              , dataType = "String"
+              , paramType = "query"
+              , example = "6575d6fe99101a62f9710877"),
+          @ApiImplicitParam(
+              name = "size"
+              , value = "조회할 댓글 수 (최대 100)"
+              , required = false
+              , dataType = "int"
+              , paramType = "query"
+              , defaultValue = "20")
       })
   @GetMapping()
-  public ResponseEntity<Page<CommentResponse>> getCommentsList(
+  public ResponseEntity<CommentCursorResponse> getCommentsList(
       @PathVariable Long teamId, @PathVariable String documentId,
       @ApiIgnore
       Principal principal,
-      Pageable pageable) {
-    Page<Comment> commentPage = commentService.getCommentList(teamId, documentId, principal, pageable);
-    Page<CommentResponse> commentDtoPage = commentPage.map(
-        comment -> CommentResponse.from(comment)
-    );
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
 
-    return ResponseEntity.ok(commentDtoPage);
+    return ResponseEntity.ok(
+        commentService.getCommentList(teamId, documentId, principal, cursor, size));
   }
 
   @ApiOperation(value = "해당 문서의 댓글을 수정합니다.")
@@ -0,0 +1,43 @@
+package com.api.backend.comment.data.dto;
+
+import com.api.backend.comment.data.entity.Comment;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentCursorResponse {
+
+  private List<CommentResponse> content;
+
+  @Schema(description = "다음 페이지 조회에 사용할 마지막 댓글 id", example = "6575d6fe99101a62f9710877")
+  private String nextCursor;
+
+  private boolean hasNext;
+
+  /**
+   * size + 1 개를 조회해 다음 페이지가 있는지 판단한다.
+   */
+  public static CommentCursorResponse of(List<Comment> comments, int size) {
+    boolean hasNext = comments.size() > size;
+    List<CommentResponse> content = comments.stream()
+        .limit(size)
+        .map(CommentResponse::from)
+        .collect(Collectors.toList());
+
+    return CommentCursorResponse.builder()
+        .content(content)
+        .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+}
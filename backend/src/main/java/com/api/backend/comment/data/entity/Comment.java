@@ -29,6 +29,9 @@ public class Comment {
   @Field(name = "team_id")
   private Long teamId;
 
+  @Field(name = "document_id")
+  private String documentId;
+
   @CreatedDate
   @Field(name = "created_dt")
   private LocalDateTime createdDt;
@@ -2,6 +2,8 @@ package com.api.backend.comment.data.repository;
 
 
 import com.api.backend.comment.data.entity.Comment;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,4 +13,11 @@ public interface CommentRepository extends MongoRepository<Comment, String> {
 
   @Transactional
   void deleteById(String id);
+
+  List<Comment> findAllByDocumentIdOrderByIdAsc(String documentId, Pageable pageable);
+
+  List<Comment> findAllByDocumentIdAndIdGreaterThanOrderByIdAsc(
+      String documentId, String id, Pageable pageable);
+
+  void deleteAllByDocumentId(String documentId);
 }
@@ -1,27 +1,30 @@
 package com.api.backend.comment.service;
 
+import com.api.backend.comment.data.dto.CommentCursorResponse;
 import com.api.backend.comment.data.dto.CommentEditRequest;
 import com.api.backend.comment.data.dto.CommentInitRequest;
 import com.api.backend.comment.data.dto.DeleteCommentsResponse;
 import com.api.backend.comment.data.entity.Comment;
 import com.api.backend.comment.data.repository.CommentRepository;
 import com.api.backend.documents.data.entity.Documents;
-import com.api.backend.documents.data.repository.DocumentsRepository;
 import com.api.backend.documents.valid.DocumentAndCommentValidCheck;
-import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.mongodb.bulk.BulkWriteResult;
 import java.security.Principal;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,60 +32,90 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final String DOCUMENTS_COLLECTION = "Documents";
+  private static final String LEGACY_COMMENT_IDS = "comment_ids";
+
   private final MongoTemplate mongoTemplate;
   private final CommentRepository commentRepository;
-  private final DocumentsRepository documentsRepository;
   private final DocumentAndCommentValidCheck validCheck;
 
 
+  /**
+   * 문서의 comment_ids 배열로만 연결되어 있던 기존 댓글에 document_id 를 채우고 배열을 제거한다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrateLegacyCommentReferences() {
+    Query legacyQuery = new Query(Criteria.where(LEGACY_COMMENT_IDS).exists(true));
+    legacyQuery.fields().include(LEGACY_COMMENT_IDS);
+
+    List<Document> legacyDocuments =
+        mongoTemplate.find(legacyQuery, Document.class, DOCUMENTS_COLLECTION);
+    for (Document legacyDocument : legacyDocuments) {
+      Object documentId = legacyDocument.get("_id");
+      List<?> commentIds = legacyDocument.getList(LEGACY_COMMENT_IDS, Object.class);
+      if (commentIds != null && !commentIds.isEmpty()) {
+        mongoTemplate.updateMulti(
+            new Query(Criteria.where("_id").in(commentIds)),
+            new Update().set("document_id", documentId.toString()),
+            Comment.class);
+      }
+      mongoTemplate.updateFirst(
+          new Query(Criteria.where("_id").is(documentId)),
+          new Update().unset(LEGACY_COMMENT_IDS),
+          DOCUMENTS_COLLECTION);
+    }
+
+    if (!legacyDocuments.isEmpty()) {
+      log.info("문서 {}개의 댓글에 document_id 를 채웠습니다.", legacyDocuments.size());
+    }
+  }
+
   @Transactional
   public Comment createComment(Long teamId, String documentId, CommentInitRequest commentInitRequest, Principal principal) {
 
     Long memberId = validCheck.getMemberId(principal);
-    validCheck.validTeamParticipant(memberId);
-    TeamParticipants teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    TeamMembership teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
 
     Documents validDocument = validCheck.findValidDocument(documentId);
 
     validCheck.validDocumentByTeamId(teamId, validDocument.getTeamId());
 
-    Comment comment = commentRepository.save(Comment.builder()
+    return commentRepository.save(Comment.builder()
         .teamId(teamId)
+        .documentId(documentId)
         .content(commentInitRequest.getContent())
         .writerId(commentInitRequest.getWriterId())
         .build());
-
-    validDocument.getCommentIds().add(comment);
-    documentsRepository.save(validDocument);
-    return comment;
   }
 
-  public Page<Comment> getCommentList(Long teamId, String documentId,  Principal principal, Pageable pageable) {
+  /**
+   * cursor(이전 페이지의 마지막 댓글 id) 이후의 댓글을 size 개 조회한다.
+   */
+  public CommentCursorResponse getCommentList(Long teamId, String documentId, Principal principal,
+      String cursor, int size) {
 
     Long memberId = validCheck.getMemberId(principal);
-    validCheck.validTeamParticipant(memberId);
-    TeamParticipants teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    TeamMembership teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
 
     Documents validDocument = validCheck.findValidDocument(documentId);
     validCheck.validDocumentByTeamId(teamId, validDocument.getTeamId());
-    List<Comment> commentIds = validDocument.getCommentIds();
 
-    if (commentIds != null && !commentIds.isEmpty()) {
-      int start = (int) pageable.getOffset();
-      int end = Math.min((start + pageable.getPageSize()), commentIds.size());
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    Pageable limit = PageRequest.of(0, pageSize + 1);
+    List<Comment> comments = cursor == null
+        ? commentRepository.findAllByDocumentIdOrderByIdAsc(documentId, limit)
+        : commentRepository.findAllByDocumentIdAndIdGreaterThanOrderByIdAsc(documentId, cursor, limit);
 
-      List<Comment> sublist = commentIds.subList(start, end);
-      return new PageImpl<>(sublist, pageable, commentIds.size());
-    }
-    return Page.empty();
+    return CommentCursorResponse.of(comments, pageSize);
   }
 
   @Transactional
   public Comment editComment(Long teamId, String documentId, String commentId, CommentEditRequest commentEditRequest, Principal principal) {
 
     Long memberId = validCheck.getMemberId(principal);
-    validCheck.validTeamParticipant(memberId);
-    TeamParticipants teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    TeamMembership teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
 
     Documents validDocument = validCheck.findValidDocument(documentId);
     validCheck.validDocumentByTeamId(teamId, validDocument.getTeamId());
@@ -96,6 +129,7 @@ public class CommentService {
         .writerId(commentEditRequest.getEditorId())
         .content(commentEditRequest.getContent())
         .teamId(teamId)
+        .documentId(documentId)
         .createdDt(comment.getCreatedDt())
         .build());
   }
@@ -104,8 +138,7 @@ public class CommentService {
   public DeleteCommentsResponse deleteComment(Long teamId, String documentId, String commentId, Principal principal) {
 
     Long memberId = validCheck.getMemberId(principal);
-    validCheck.validTeamParticipant(memberId);
-    TeamParticipants teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    TeamMembership teamParticipants = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
 
     Documents validDocument = validCheck.findValidDocument(documentId);
 
@@ -116,8 +149,6 @@ public class CommentService {
     validCheck.validCommentByWriterId(validComment.getWriterId(), teamParticipants.getTeamParticipantsId());
 
     commentRepository.deleteById(commentId);
-    validDocument.getCommentIds().removeIf(deletedComment -> deletedComment.getId().equals(commentId));
-    documentsRepository.save(validDocument);
 
     return DeleteCommentsResponse.builder()
         .id(commentId)
@@ -128,7 +159,7 @@ public class CommentService {
   }
 
   @Transactional
-  public void deleteAllCommentsInTeams(List<Long> teamIdList) {
+  public long deleteAllCommentsInTeams(List<Long> teamIdList) {
     BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Comment.class);
 
     for (Long teamId : teamIdList) {
@@ -139,5 +170,6 @@ public class CommentService {
     BulkWriteResult bulkWriteResult = bulkOperations.execute();
     long deletedCount = bulkWriteResult.getDeletedCount();
     log.info("{}개의 팀들의 댓글 총 {}개가 삭제되었습니다.", teamIdList.size(), deletedCount);
+    return deletedCount;
   }
 }
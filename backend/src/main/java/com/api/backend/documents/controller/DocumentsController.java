@@ -2,6 +2,7 @@ package com.api.backend.documents.controller;
 
 import com.api.backend.documents.data.dto.DocumentInitRequest;
 import com.api.backend.documents.data.dto.DocumentResponse;
+import com.api.backend.documents.data.dto.DocumentSummaryCursorResponse;
 import com.api.backend.documents.data.entity.Documents;
 import com.api.backend.documents.service.DocumentService;
 import com.api.backend.notification.aop.annotation.TeamParticipantsSendNotify;
@@ -78,6 +79,59 @@ public class DocumentsController {
     return ResponseEntity.ok(documentDtoList);
   }
 
+  @ApiOperation(value = "해당 팀의 문서 목록을 본문 없이 최신순으로 조회합니다.")
+  @ApiResponses(value = {
+      @ApiResponse(code = 200, message = "해당 팀의 문서 목록을 가져왔습니다."),
+      @ApiResponse(code = 404, message = "페이지를 찾을 수 없습니다."),
+      @ApiResponse(code = 400, message = "CustomException을 반환합니다."),
+  })
+  @ApiImplicitParams(
+      {
+          @ApiImplicitParam(
+              name = "access token"
+              , value = "jwt access token"
+              , required = true
+              , dataType = "String"
+              , paramType = "header"
+              , defaultValue = "None"
+          ),
+          @ApiImplicitParam(
+              name = "teamId"
+              , value = "팀 id"
+              , required = true
+              , dataType = "Long"
+              , paramType = "path"
+              , defaultValue = "None"
+              , example = "1"),
+          @ApiImplicitParam(
+              name = "cursor"
+              , value = "이전 페이지의 nextCursor (첫 페이지는 생략)"
+              , required = false
+              , dataType = "String"
+              , paramType = "query"),
+          @ApiImplicitParam(
+              name = "size"
+              , value = "조회할 문서 수 (최대 100)"
+              , required = false
+              , dataType = "int"
+              , paramType = "query"
+              , defaultValue = "20")
+      })
+  @GetMapping("/summary")
+  public ResponseEntity<DocumentSummaryCursorResponse> getDocsSummaryList(
+      @PathVariable
+      Long teamId,
+      @ApiIgnore
+      Principal principal,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDt,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDt,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+
+    return ResponseEntity.ok(
+        documentService.getDocsSummaryList(teamId, principal, startDt, endDt, cursor, size));
+  }
+
   @ApiOperation(value = "해당 팀의 문서를 생성합니다.")
   @ApiResponses(value = {
       @ApiResponse(code = 200, message = "문서를 성공적으로 생성했습니다."),
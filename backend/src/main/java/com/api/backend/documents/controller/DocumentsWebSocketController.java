@@ -2,17 +2,27 @@ package com.api.backend.documents.controller;
 
 import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_NOT_FOUND_EXCEPTION;
 
+import com.api.backend.documents.data.dto.DeltaMessage;
 import com.api.backend.documents.data.dto.DocumentResponse;
 import com.api.backend.documents.data.dto.RequestedDocument;
 import com.api.backend.documents.data.dto.TotalMessage;
 import com.api.backend.documents.data.entity.Documents;
 import com.api.backend.documents.data.repository.DocumentsRepository;
+import com.api.backend.documents.service.DocumentDeltaService;
+import com.api.backend.documents.service.DocumentSaveBuffer;
 import com.api.backend.global.exception.CustomException;
+import com.api.backend.global.exception.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,32 +31,58 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class DocumentsWebSocketController {
   private final DocumentsRepository documentsRepository;
+  private final DocumentDeltaService documentDeltaService;
+  private final DocumentSaveBuffer documentSaveBuffer;
   private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
 
   @MessageMapping("/doc.showDocs")
   public void getDocs(
       @Payload RequestedDocument requestedDocument
   ) {
+    // 아직 저장되지 않은 변경이 있으면 먼저 저장한 뒤 조회
+    documentSaveBuffer.flush(requestedDocument.getDocumentId());
     Documents documents = documentsRepository.findById(requestedDocument.getDocumentId())
         .orElseThrow(() -> new CustomException(DOCUMENT_NOT_FOUND_EXCEPTION));
     messagingTemplate.convertAndSend("/topic/display/" + requestedDocument.getDocumentId(), DocumentResponse.from(documents));
     log.info("subsribe로 전송 : /topic/display/{}", requestedDocument.getDocumentId());
   }
 
+  // 저장 요청은 문서별로 모아 두었다가 DocumentSaveBuffer 에서 한 번에 저장
   @MessageMapping("/doc.saveDocs")
-  @SendTo("/topic/save")
-  public DocumentResponse saveDocs(
-      @Payload TotalMessage totalMessage
+  public void saveDocs(
+      @Payload TotalMessage totalMessage,
+      SimpMessageHeaderAccessor headerAccessor
   ) {
-    Documents documents = documentsRepository.findById(totalMessage.getDocumentId())
-        .orElseThrow(() -> new CustomException(DOCUMENT_NOT_FOUND_EXCEPTION));
+    Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+    if (sessionAttributes != null) {
+      sessionAttributes.put("documentId", totalMessage.getDocumentId());
+    }
+    documentSaveBuffer.buffer(totalMessage);
+  }
+
+  // 변경분(delta)만 버전을 붙여 브로드 캐스팅
+  @MessageMapping("/doc.updateDocsByDelta")
+  public void handleDeltaBroadCast(@Payload DeltaMessage deltaMessage) {
+    DeltaMessage applied = documentDeltaService.applyDelta(deltaMessage);
+    messagingTemplate.convertAndSend("/topic/delta/" + applied.getDocumentId(), applied);
+  }
 
-    documents.setDifference(totalMessage);
-    log.info("document가 수정되서 저장되었습니다. document is {}", documents);
-    return DocumentResponse.from(documentsRepository.save(documents));
+  // revision 이후의 변경분을 요청한 클라이언트에게만 전송
+  @MessageMapping("/doc.syncDelta")
+  public void syncDelta(@Payload DeltaMessage deltaMessage) {
+    List<DeltaMessage> deltas = documentDeltaService.getDeltasSince(
+        deltaMessage.getDocumentId(),
+        deltaMessage.getRevision() == null ? 0 : deltaMessage.getRevision()
+    );
+    messagingTemplate.convertAndSend(
+        "/topic/delta/" + deltaMessage.getDocumentId() + "/sync/" + deltaMessage.getClientId(),
+        deltas
+    );
   }
 
-  // 브로드 캐스팅
+  // 브로드 캐스팅 - delta 를 보내지 않는 이전 클라이언트용으로 전체 본문을 전달한다.
+  @Deprecated
   @MessageMapping("/doc.updateDocsByTextChange")
   public void handleTotalBroadCastByTextChange(@Payload TotalMessage totalMessage) {
 
@@ -54,4 +90,36 @@ public class DocumentsWebSocketController {
     messagingTemplate.convertAndSend("/topic/broadcastByTextChange/" + totalMessage.getDocumentId() , totalMessage);
   }
 
+  /**
+   * 변경분이 거절되면(버전 불일치, 충돌, 잘못된 메세지) 보낸 클라이언트에게만 에러를 전달한다.
+   * 클라이언트는 에러를 받으면 syncDelta 또는 showDocs 로 문서를 다시 불러온다.
+   */
+  @MessageExceptionHandler(CustomException.class)
+  public void handleCustomException(CustomException e, Message<?> message) {
+    DeltaMessage deltaMessage = readDeltaMessage(message);
+    if (deltaMessage == null || deltaMessage.getDocumentId() == null || deltaMessage.getClientId() == null) {
+      log.warn("문서 웹소켓 요청 처리 실패 : {}", e.getErrorCode());
+      return;
+    }
+    messagingTemplate.convertAndSend(
+        "/topic/delta/" + deltaMessage.getDocumentId() + "/error/" + deltaMessage.getClientId(),
+        new ErrorResponse(e.getErrorCode(), e.getErrorMessage())
+    );
+  }
+
+  private DeltaMessage readDeltaMessage(Message<?> message) {
+    Object payload = message.getPayload();
+    try {
+      if (payload instanceof byte[]) {
+        return objectMapper.readValue((byte[]) payload, DeltaMessage.class);
+      }
+      if (payload instanceof String) {
+        return objectMapper.readValue((String) payload, DeltaMessage.class);
+      }
+    } catch (IOException ignored) {
+      // DeltaMessage 형식이 아닌 요청은 보낸 클라이언트를 알 수 없다.
+    }
+    return null;
+  }
+
 }
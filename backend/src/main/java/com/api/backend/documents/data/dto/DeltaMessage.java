@@ -0,0 +1,29 @@
+package com.api.backend.documents.data.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 문서 변경분. 요청에서 revision 은 클라이언트가 마지막으로 받은 버전이고,
+ * 브로드캐스트에서는 서버가 이 변경에 부여한 버전이다.
+ * clientId 는 보낸 클라이언트가 자신의 변경이 반영되었는지 확인하는 데 쓴다.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeltaMessage {
+
+  private String documentId;
+  private Long revision;
+  private List<DeltaOp> ops;
+  private Long participantsId;
+  private String clientId;
+}
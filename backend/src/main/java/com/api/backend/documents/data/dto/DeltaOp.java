@@ -0,0 +1,80 @@
+package com.api.backend.documents.data.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Quill Delta 의 op 하나. insert / retain / delete 중 하나만 값을 가진다.
+ * insert 는 문자열이거나 이미지 같은 embed(길이 1) 이다.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class DeltaOp {
+
+  private Object insert;
+  private Integer retain;
+  private Integer delete;
+  private Map<String, Object> attributes;
+
+  public static DeltaOp insert(Object insert, Map<String, Object> attributes) {
+    return new DeltaOp(insert, null, null, normalize(attributes));
+  }
+
+  public static DeltaOp retain(int retain, Map<String, Object> attributes) {
+    return new DeltaOp(null, retain, null, normalize(attributes));
+  }
+
+  public static DeltaOp delete(int delete) {
+    return new DeltaOp(null, null, delete, null);
+  }
+
+  @JsonIgnore
+  public boolean isInsert() {
+    return insert != null;
+  }
+
+  @JsonIgnore
+  public boolean isDelete() {
+    return delete != null;
+  }
+
+  @JsonIgnore
+  public int length() {
+    if (delete != null) {
+      return delete;
+    }
+    if (retain != null) {
+      return retain;
+    }
+    return insert instanceof String ? ((String) insert).length() : 1;
+  }
+
+  /**
+   * insert / retain / delete 중 정확히 하나만 있고 길이가 1 이상인지 확인
+   */
+  @JsonIgnore
+  public boolean isValid() {
+    int count = (insert != null ? 1 : 0) + (retain != null ? 1 : 0) + (delete != null ? 1 : 0);
+    if (count != 1) {
+      return false;
+    }
+    return insert != null ? !"".equals(insert) : length() > 0;
+  }
+
+  private static Map<String, Object> normalize(Map<String, Object> attributes) {
+    return attributes == null || attributes.isEmpty() ? null : attributes;
+  }
+}
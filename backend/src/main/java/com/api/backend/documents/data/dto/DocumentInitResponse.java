@@ -1,15 +1,11 @@
 package com.api.backend.documents.data.dto;
 
-import com.api.backend.comment.data.entity.Comment;
 import com.api.backend.documents.data.entity.Documents;
 import com.api.backend.notification.data.NotificationMessage;
 import com.api.backend.notification.data.type.AlarmType;
 import com.api.backend.notification.transfers.TeamParticipantsNotifyByDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -47,8 +43,6 @@ public class DocumentInitResponse implements TeamParticipantsNotifyByDto {
   @Schema(description = "document id", example = "12월 10일 회의사항")
   private Long teamId;
 
-  private List<String> commentsId;
-
   @NotNull
   private LocalDateTime createdDt;
   @NotNull
@@ -58,7 +52,7 @@ public class DocumentInitResponse implements TeamParticipantsNotifyByDto {
 
   public static DocumentInitResponse from(Documents documents,String nickName) {
 
-    DocumentInitResponse documentResponse = DocumentInitResponse.builder()
+    return DocumentInitResponse.builder()
         .id(documents.getId())
         .title(documents.getTitle())
         .content(documents.getContent())
@@ -69,28 +63,6 @@ public class DocumentInitResponse implements TeamParticipantsNotifyByDto {
         .createdDt(documents.getCreatedDt())
         .updatedDt(documents.getUpdatedDt())
         .build();
-
-    if (documents.getCommentIds() == null) {
-        documentResponse.setCommentList(new ArrayList<>());
-        return documentResponse;
-    }
-
-    List<String> commentIds = documents.getCommentIds().stream()
-        .map(Comment::getId)
-        .collect(Collectors.toList());
-    documentResponse.setCommentList(commentIds);
-
-    return documentResponse;
-  }
-
-  public void setCommentList(List<String> commentList) {
-    if (commentsId == null) {
-      commentsId = new ArrayList<>();
-    }
-
-    for (String commentId : commentList) {
-      commentsId.add(commentId);
-    }
   }
 
   @Override
@@ -1,12 +1,8 @@
 package com.api.backend.documents.data.dto;
 
-import com.api.backend.comment.data.entity.Comment;
 import com.api.backend.documents.data.entity.Documents;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -44,7 +40,8 @@ public class DocumentResponse {
   @Schema(description = "document id", example = "12월 10일 회의사항")
   private Long teamId;
 
-  private List<String> commentsId;
+  @Schema(description = "document revision", example = "본문에 반영된 마지막 변경 버전")
+  private Long revision;
 
   @NotNull
   private LocalDateTime createdDt;
@@ -53,38 +50,17 @@ public class DocumentResponse {
 
   public static DocumentResponse from(Documents documents) {
 
-    DocumentResponse documentResponse = DocumentResponse.builder()
+    return DocumentResponse.builder()
         .id(documents.getId())
         .title(documents.getTitle())
         .content(documents.getContent())
         .writerId(documents.getWriterId())
         .modifierId(documents.getModifierId())
         .teamId(documents.getTeamId())
+        .revision(documents.getRevision())
         .createdDt(documents.getCreatedDt())
         .updatedDt(documents.getUpdatedDt())
         .build();
-
-    if (documents.getCommentIds() == null) {
-        documentResponse.setCommentList(new ArrayList<>());
-        return documentResponse;
-    }
-
-    List<String> commentIds = documents.getCommentIds().stream()
-        .map(Comment::getId)
-        .collect(Collectors.toList());
-    documentResponse.setCommentList(commentIds);
-
-    return documentResponse;
-  }
-
-  public void setCommentList(List<String> commentList) {
-    if (commentsId == null) {
-      commentsId = new ArrayList<>();
-    }
-
-    for (String commentId : commentList) {
-      commentsId.add(commentId);
-    }
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.api.backend.documents.data.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentSummaryCursorResponse {
+
+  private List<DocumentSummaryResponse> content;
+
+  @Schema(description = "다음 페이지 조회에 사용할 cursor")
+  private String nextCursor;
+
+  private boolean hasNext;
+}
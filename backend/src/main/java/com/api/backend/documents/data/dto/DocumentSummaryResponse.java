@@ -0,0 +1,50 @@
+package com.api.backend.documents.data.dto;
+
+import com.api.backend.documents.data.entity.Documents;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentSummaryResponse {
+
+  @Schema(description = "document id", example = "657595c6c97b622e0440f394")
+  private String id;
+
+  @Schema(description = "document title", example = "12월 10일 회의사항")
+  private String title;
+
+  @Schema(description = "document writer id", example = "문서를 작성한 팀참가자 id")
+  private Long writerId;
+
+  private Long modifierId;
+
+  private Long teamId;
+
+  @Schema(description = "comment count", example = "3")
+  private long commentCount;
+
+  private LocalDateTime createdDt;
+  private LocalDateTime updatedDt;
+
+  public static DocumentSummaryResponse from(Documents documents, long commentCount) {
+    return DocumentSummaryResponse.builder()
+        .id(documents.getId())
+        .title(documents.getTitle())
+        .writerId(documents.getWriterId())
+        .modifierId(documents.getModifierId())
+        .teamId(documents.getTeamId())
+        .commentCount(commentCount)
+        .createdDt(documents.getCreatedDt())
+        .updatedDt(documents.getUpdatedDt())
+        .build();
+  }
+}
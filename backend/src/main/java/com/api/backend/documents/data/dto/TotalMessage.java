@@ -20,5 +20,6 @@ public class TotalMessage {
   private String memberEmail;
   private Long participantsId;
   private String documentId;
+  private Long revision; // content 에 반영된 마지막 변경 버전
 }
 
@@ -0,0 +1,47 @@
+package com.api.backend.documents.data.entity;
+
+import com.api.backend.documents.data.dto.DeltaOp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 문서별 변경 이력. (document_id, revision) unique 인덱스(DocumentDeltaService 에서 생성)로
+ * 같은 버전이 두 번 저장되지 않게 한다.
+ */
+@Getter
+@Builder
+@Document(collection = "DocumentOperation")
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentOperation {
+
+  @Id
+  private String id;
+
+  @Field(name = "document_id")
+  private String documentId;
+
+  @Field(name = "revision")
+  private long revision;
+
+  @Field(name = "ops")
+  private List<DeltaOp> ops;
+
+  @Field(name = "participants_id")
+  private Long participantsId;
+
+  @Field(name = "client_id")
+  private String clientId;
+
+  @CreatedDate
+  @Field(name = "created_dt")
+  private LocalDateTime createdDt;
+}
@@ -1,10 +1,6 @@
 package com.api.backend.documents.data.entity;
 
-import com.api.backend.comment.data.entity.Comment;
-import com.api.backend.documents.data.dto.TotalMessage;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import javax.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +9,6 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.data.mongodb.core.mapping.DocumentReference;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 @Getter
@@ -41,10 +36,9 @@ public class Documents {
   @Field(name = "team_id")
   private Long teamId;
 
-  @DocumentReference
-  @Field(name = "comment_ids")
-  @Builder.Default
-  private List<Comment> commentIds = new ArrayList<>();;
+  // 본문에 반영된 마지막 변경 버전
+  @Field(name = "revision")
+  private long revision;
 
   @CreatedDate
   @Field(name = "created_dt")
@@ -52,20 +46,4 @@ public class Documents {
   @LastModifiedDate
   @Field(name = "updated_dt")
   private LocalDateTime updatedDt;
-
-  public void setDifference(TotalMessage totalMessage) {
-
-    if (totalMessage.getTitle() == this.title && totalMessage.getContent() == this.content) {
-      return;
-    }
-
-    if (totalMessage.getTitle() != this.title) {
-      this.title = totalMessage.getTitle();
-    }
-
-    if (totalMessage.getContent() != this.content) {
-      this.content = totalMessage.getContent();
-    }
-    this.modifierId = totalMessage.getParticipantsId();
-  }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.api.backend.documents.data.repository;
+
+import com.api.backend.documents.data.entity.DocumentOperation;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DocumentOperationRepository extends MongoRepository<DocumentOperation, String> {
+
+  List<DocumentOperation> findAllByDocumentIdAndRevisionGreaterThanOrderByRevisionAsc(
+      String documentId, long revision);
+
+  Optional<DocumentOperation> findFirstByDocumentIdOrderByRevisionDesc(String documentId);
+
+  boolean existsByDocumentIdAndRevision(String documentId, long revision);
+
+  void deleteAllByDocumentIdAndRevisionLessThanEqual(String documentId, long revision);
+
+  void deleteAllByDocumentId(String documentId);
+}
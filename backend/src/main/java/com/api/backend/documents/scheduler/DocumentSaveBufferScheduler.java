@@ -0,0 +1,23 @@
+package com.api.backend.documents.scheduler;
+
+import com.api.backend.documents.service.DocumentSaveBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentSaveBufferScheduler {
+
+  private final DocumentSaveBuffer documentSaveBuffer;
+
+  @Scheduled(fixedDelayString = "${documents.save-buffer.flush-interval:1000}")
+  public void flushDue() {
+    int flushed = documentSaveBuffer.flushDue();
+    if (flushed > 0) {
+      log.debug("모아 둔 문서 저장 : {}개, 남은 문서 : {}개", flushed, documentSaveBuffer.size());
+    }
+  }
+}
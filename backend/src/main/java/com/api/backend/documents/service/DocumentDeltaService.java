@@ -0,0 +1,150 @@
+package com.api.backend.documents.service;
+
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_NOT_FOUND_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_REVISION_CONFLICT_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_REVISION_NOT_VALID_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.INVALID_MESSAGE_EXCEPTION;
+
+import com.api.backend.documents.data.dto.DeltaMessage;
+import com.api.backend.documents.data.dto.DeltaOp;
+import com.api.backend.documents.data.entity.DocumentOperation;
+import com.api.backend.documents.data.repository.DocumentOperationRepository;
+import com.api.backend.documents.data.repository.DocumentsRepository;
+import com.api.backend.documents.util.DeltaTransformer;
+import com.api.backend.global.exception.CustomException;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 문서 변경분(Quill Delta)에 버전을 부여하고 이력으로 남긴다.
+ * 클라이언트가 보낸 버전 이후에 먼저 반영된 변경이 있으면 그 변경들을 기준으로 transform 한 뒤 다음 버전으로 저장한다.
+ * 버전 부여는 (document_id, revision) unique 인덱스에 맡기므로 여러 노드에서 동시에 저장해도 같은 버전이 두 번 생기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentDeltaService {
+
+  private static final int MAX_RETRY = 5;
+  // 저장된 본문 버전보다 이만큼 이전의 이력은 지운다.
+  private static final long OPERATION_LOG_RETENTION = 1000;
+
+  private final MongoTemplate mongoTemplate;
+  private final DocumentsRepository documentsRepository;
+  private final DocumentOperationRepository documentOperationRepository;
+
+
+  public DeltaMessage applyDelta(DeltaMessage deltaMessage) {
+    validOps(deltaMessage.getOps());
+
+    String documentId = deltaMessage.getDocumentId();
+    long baseRevision = deltaMessage.getRevision() == null ? 0 : deltaMessage.getRevision();
+    List<DeltaOp> ops = deltaMessage.getOps();
+
+    for (int attempt = 0; attempt < MAX_RETRY; attempt++) {
+      List<DocumentOperation> concurrentOperations = getOperationsSince(documentId, baseRevision);
+      for (DocumentOperation operation : concurrentOperations) {
+        ops = DeltaTransformer.transform(operation.getOps(), ops, true);
+      }
+      long revision = baseRevision + concurrentOperations.size() + 1;
+
+      try {
+        documentOperationRepository.insert(
+            DocumentOperation.builder()
+                .documentId(documentId)
+                .revision(revision)
+                .ops(ops)
+                .participantsId(deltaMessage.getParticipantsId())
+                .clientId(deltaMessage.getClientId())
+                .build()
+        );
+      } catch (DuplicateKeyException e) {
+        // 그 사이 다른 요청이 같은 버전을 저장했으면 지금까지 변환한 ops 를 기준으로 다시 시도한다.
+        baseRevision = revision - 1;
+        continue;
+      }
+
+      return DeltaMessage.builder()
+          .documentId(documentId)
+          .revision(revision)
+          .ops(ops)
+          .participantsId(deltaMessage.getParticipantsId())
+          .clientId(deltaMessage.getClientId())
+          .build();
+    }
+
+    log.warn("문서 변경 반영 재시도 초과. documentId = {}", documentId);
+    throw new CustomException(DOCUMENT_REVISION_CONFLICT_EXCEPTION);
+  }
+
+  /**
+   * 재접속하거나 뒤처진 클라이언트가 revision 이후의 변경을 순서대로 받아 간다.
+   */
+  public List<DeltaMessage> getDeltasSince(String documentId, long revision) {
+    return getOperationsSince(documentId, revision).stream()
+        .map(operation -> DeltaMessage.builder()
+            .documentId(documentId)
+            .revision(operation.getRevision())
+            .ops(operation.getOps())
+            .participantsId(operation.getParticipantsId())
+            .clientId(operation.getClientId())
+            .build())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * 이력에 남은 가장 최신 버전. 이력이 없으면 0 이다.
+   */
+  public long getLatestRevision(String documentId) {
+    return documentOperationRepository.findFirstByDocumentIdOrderByRevisionDesc(documentId)
+        .map(DocumentOperation::getRevision)
+        .orElse(0L);
+  }
+
+  /**
+   * 본문이 revision 까지 반영되어 저장되었으면 그보다 오래된 이력은 정리한다.
+   */
+  public void trimOperations(String documentId, long snapshotRevision) {
+    if (snapshotRevision > OPERATION_LOG_RETENTION) {
+      documentOperationRepository.deleteAllByDocumentIdAndRevisionLessThanEqual(
+          documentId, snapshotRevision - OPERATION_LOG_RETENTION);
+    }
+  }
+
+  public void deleteOperations(String documentId) {
+    documentOperationRepository.deleteAllByDocumentId(documentId);
+  }
+
+  // 이력이 정리되어 중간 버전이 없거나, 아직 없는 버전을 기준으로 보냈으면 다시 불러오도록 한다.
+  private List<DocumentOperation> getOperationsSince(String documentId, long revision) {
+    List<DocumentOperation> operations = documentOperationRepository
+        .findAllByDocumentIdAndRevisionGreaterThanOrderByRevisionAsc(documentId, revision);
+
+    if (!operations.isEmpty()) {
+      if (operations.get(0).getRevision() != revision + 1) {
+        throw new CustomException(DOCUMENT_REVISION_NOT_VALID_EXCEPTION);
+      }
+      return operations;
+    }
+
+    if (revision == 0) {
+      if (!documentsRepository.existsById(documentId)) {
+        throw new CustomException(DOCUMENT_NOT_FOUND_EXCEPTION);
+      }
+    } else if (!documentOperationRepository.existsByDocumentIdAndRevision(documentId, revision)) {
+      throw new CustomException(DOCUMENT_REVISION_NOT_VALID_EXCEPTION);
+    }
+    return operations;
+  }
+
+  private static void validOps(List<DeltaOp> ops) {
+    if (ops == null || ops.isEmpty() || !ops.stream().allMatch(DeltaOp::isValid)) {
+      throw new CustomException(INVALID_MESSAGE_EXCEPTION);
+    }
+  }
+}
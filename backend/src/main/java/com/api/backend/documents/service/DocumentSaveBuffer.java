@@ -0,0 +1,224 @@
+package com.api.backend.documents.service;
+
+import com.api.backend.documents.data.dto.TotalMessage;
+import com.api.backend.documents.data.entity.Documents;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 문서 저장 요청을 문서별로 모아 두었다가 한 번에 저장한다.
+ * 마지막 요청 후 debounce 만큼 지나거나, 처음 요청 후 max-delay 가 지나거나, max-merges 만큼 쌓이면 저장한다.
+ * 저장은 조회 없이 바뀐 필드만 $set 하고, 이미 더 최신 버전(revision)이 저장되어 있으면 덮어쓰지 않는다.
+ * 클라이언트가 보낸 revision 은 변경 이력의 최신 버전까지만 인정한다.
+ */
+@Slf4j
+@Service
+public class DocumentSaveBuffer {
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final MongoTemplate mongoTemplate;
+  private final DocumentDeltaService documentDeltaService;
+
+  private final long debounceMillis;
+  private final long maxDelayMillis;
+  private final int maxMerges;
+
+  private final Map<String, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+  // 같은 문서의 저장 순서를 지키기 위한 잠금
+  private final Object[] flushLocks = new Object[LOCK_STRIPES];
+
+  private final Counter mergedCounter;
+  private final Counter savedCounter;
+  private final Counter staleCounter;
+  private final Counter clampedCounter;
+
+  public DocumentSaveBuffer(
+      MongoTemplate mongoTemplate,
+      DocumentDeltaService documentDeltaService,
+      MeterRegistry meterRegistry,
+      @Value("${documents.save-buffer.debounce:2s}") Duration debounce,
+      @Value("${documents.save-buffer.max-delay:10s}") Duration maxDelay,
+      @Value("${documents.save-buffer.max-merges:50}") int maxMerges
+  ) {
+    this.mongoTemplate = mongoTemplate;
+    this.documentDeltaService = documentDeltaService;
+    this.debounceMillis = debounce.toMillis();
+    this.maxDelayMillis = maxDelay.toMillis();
+    this.maxMerges = maxMerges;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      flushLocks[i] = new Object();
+    }
+
+    this.mergedCounter = meterRegistry.counter("documents.save-buffer.requests", "result", "merged");
+    this.savedCounter = meterRegistry.counter("documents.save-buffer.flush", "result", "saved");
+    this.staleCounter = meterRegistry.counter("documents.save-buffer.flush", "result", "stale");
+    this.clampedCounter = meterRegistry.counter("documents.save-buffer.revision-clamped");
+    Gauge.builder("documents.save-buffer.pending", pendingSaves, Map::size)
+        .register(meterRegistry);
+  }
+
+  public void buffer(TotalMessage totalMessage) {
+    long now = System.currentTimeMillis();
+    PendingSave pendingSave = pendingSaves.merge(
+        totalMessage.getDocumentId(),
+        new PendingSave(totalMessage, now),
+        (previous, next) -> {
+          mergedCounter.increment();
+          return previous.merge(next);
+        }
+    );
+
+    if (pendingSave.merges >= maxMerges) {
+      flush(totalMessage.getDocumentId());
+    }
+  }
+
+  /**
+   * debounce, max-delay 가 지난 문서를 저장한다.
+   */
+  public int flushDue() {
+    long now = System.currentTimeMillis();
+    List<String> dueDocumentIds = new ArrayList<>();
+    pendingSaves.forEach((documentId, pendingSave) -> {
+      if (now - pendingSave.lastBufferedAt >= debounceMillis
+          || now - pendingSave.firstBufferedAt >= maxDelayMillis) {
+        dueDocumentIds.add(documentId);
+      }
+    });
+
+    dueDocumentIds.forEach(this::flush);
+    return dueDocumentIds.size();
+  }
+
+  public void flush(String documentId) {
+    synchronized (flushLocks[Math.floorMod(documentId.hashCode(), LOCK_STRIPES)]) {
+      PendingSave pendingSave = pendingSaves.remove(documentId);
+      if (pendingSave == null) {
+        return;
+      }
+
+      try {
+        save(documentId, pendingSave);
+      } catch (RuntimeException e) {
+        // 저장에 실패하면 그 사이 들어온 요청과 합쳐 다음에 다시 저장한다.
+        log.warn("문서 저장에 실패하였습니다. documentId = {}", documentId, e);
+        pendingSaves.merge(documentId, pendingSave, PendingSave::mergeOlder);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void flushAll() {
+    new ArrayList<>(pendingSaves.keySet()).forEach(this::flush);
+  }
+
+  public int size() {
+    return pendingSaves.size();
+  }
+
+  private void save(String documentId, PendingSave pendingSave) {
+    Query query = new Query(Criteria.where("id").is(documentId));
+    Update update = new Update()
+        .set("title", pendingSave.title)
+        .set("content", pendingSave.content)
+        .set("updatedDt", LocalDateTime.now());
+    if (pendingSave.modifierId != null) {
+      update.set("modifierId", pendingSave.modifierId);
+    }
+    // revision 을 보내지 않는 클라이언트는 버전 확인 없이 저장한다.
+    Long revision = pendingSave.revision == null ? null : validRevision(documentId, pendingSave.revision);
+    if (revision != null) {
+      // revision 도입 이전에 만든 문서에는 필드가 없어 $lte 와 일치하지 않으므로 함께 허용한다.
+      query.addCriteria(new Criteria().orOperator(
+          Criteria.where("revision").lte(revision),
+          Criteria.where("revision").exists(false)));
+      update.set("revision", revision);
+    }
+
+    UpdateResult result = mongoTemplate.updateFirst(query, update, Documents.class);
+    if (result.getMatchedCount() == 0) {
+      staleCounter.increment();
+      log.info("더 최신 버전이 저장되어 있거나 삭제된 문서입니다. documentId = {}, revision = {}",
+          documentId, revision);
+      return;
+    }
+
+    savedCounter.increment();
+    if (revision != null) {
+      documentDeltaService.trimOperations(documentId, revision);
+    }
+  }
+
+  // 클라이언트가 보낸 revision 은 이력의 최신 버전을 넘지 않도록 맞춘다.
+  // 그대로 쓰면 이후 저장이 모두 막히고, 아직 필요한 이력까지 정리된다.
+  private Long validRevision(String documentId, long revision) {
+    long latestRevision = documentDeltaService.getLatestRevision(documentId);
+    if (revision > latestRevision) {
+      clampedCounter.increment();
+      log.warn("이력보다 앞선 문서 버전입니다. documentId = {}, revision = {}, latest = {}",
+          documentId, revision, latestRevision);
+      return latestRevision;
+    }
+    return revision;
+  }
+
+  private static class PendingSave {
+
+    private final String title;
+    private final String content;
+    private final Long modifierId;
+    private final Long revision;
+    private final long firstBufferedAt;
+    private final long lastBufferedAt;
+    private final int merges;
+
+    private PendingSave(TotalMessage totalMessage, long now) {
+      this(totalMessage.getTitle(), totalMessage.getContent(), totalMessage.getParticipantsId(),
+          totalMessage.getRevision(), now, now, 1);
+    }
+
+    private PendingSave(String title, String content, Long modifierId, Long revision,
+        long firstBufferedAt, long lastBufferedAt, int merges) {
+      this.title = title;
+      this.content = content;
+      this.modifierId = modifierId;
+      this.revision = revision;
+      this.firstBufferedAt = firstBufferedAt;
+      this.lastBufferedAt = lastBufferedAt;
+      this.merges = merges;
+    }
+
+    // 나중 요청의 본문을 쓰되, 더 오래된 버전의 본문이 늦게 도착했으면 무시한다.
+    private PendingSave merge(PendingSave next) {
+      PendingSave latest = isNewer(next, this) ? next : this;
+      return new PendingSave(latest.title, latest.content, latest.modifierId, latest.revision,
+          Math.min(firstBufferedAt, next.firstBufferedAt),
+          Math.max(lastBufferedAt, next.lastBufferedAt), merges + next.merges);
+    }
+
+    private PendingSave mergeOlder(PendingSave older) {
+      return older.merge(this);
+    }
+
+    private static boolean isNewer(PendingSave next, PendingSave current) {
+      return next.revision == null || current.revision == null || next.revision >= current.revision;
+    }
+  }
+}
@@ -1,26 +1,39 @@
 package com.api.backend.documents.service;
 
+import com.api.backend.comment.data.entity.Comment;
 import com.api.backend.comment.data.repository.CommentRepository;
 import com.api.backend.documents.data.dto.DeleteDocsResponse;
 import com.api.backend.documents.data.dto.DocumentInitRequest;
 import com.api.backend.documents.data.dto.DocumentInitResponse;
+import com.api.backend.documents.data.dto.DocumentSummaryCursorResponse;
+import com.api.backend.documents.data.dto.DocumentSummaryResponse;
 import com.api.backend.documents.data.entity.Documents;
+import com.api.backend.documents.data.entity.DocumentOperation;
+import com.api.backend.documents.data.repository.DocumentOperationRepository;
 import com.api.backend.documents.data.repository.DocumentsRepository;
+import com.api.backend.documents.util.DocumentCursor;
 import com.api.backend.documents.valid.DocumentAndCommentValidCheck;
 import com.api.backend.global.exception.CustomException;
-import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.type.TeamRole;
 import com.mongodb.bulk.BulkWriteResult;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
@@ -30,19 +43,22 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class DocumentService {
+
+  private static final int MAX_SUMMARY_PAGE_SIZE = 100;
+
   private final MongoTemplate mongoTemplate;
   private final DocumentsRepository documentsRepository;
+  private final DocumentOperationRepository documentOperationRepository;
   private final CommentRepository commentRepository;
   private final DocumentAndCommentValidCheck validCheck;
 
+
   public List<Documents> getDocsList(Long teamId, Principal principal, LocalDate startDt, LocalDate endDt) {
 
     Long memberId = validCheck.getMemberId(principal);
 
-    validCheck.validTeamParticipant(memberId);
-
-    TeamParticipants teamParticipant = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
-    validCheck.validTeam(teamId);
+    TeamMembership teamParticipant = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    validCheck.validTeam(teamParticipant);
     List<Documents> allDocsInTeam = null;
     if (startDt == null && endDt == null) {
       return findAllDocumentInTeam(teamId, allDocsInTeam);
@@ -63,12 +79,67 @@ public class DocumentService {
     return new ArrayList<>();
   }
 
-  public DocumentInitResponse createDocs(DocumentInitRequest request, Long teamId, Principal principal) throws CustomException {
+  /**
+   * 본문 없이 목록에 필요한 필드와 댓글 수만 최신순으로 조회한다.
+   * cursor 는 이전 페이지 마지막 문서의 (created_dt, _id) 이다.
+   */
+  public DocumentSummaryCursorResponse getDocsSummaryList(Long teamId, Principal principal,
+      LocalDate startDt, LocalDate endDt, String cursor, int size) {
+
     Long memberId = validCheck.getMemberId(principal);
 
-    validCheck.validTeamParticipant(memberId);
+    validCheck.validTeam(validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId));
+
+    Criteria criteria = Criteria.where("teamId").is(teamId);
+    if (startDt != null || endDt != null) {
+      Criteria createdDt = Criteria.where("createdDt");
+      if (startDt != null) {
+        createdDt.gte(startDt.atStartOfDay());
+      }
+      if (endDt != null) {
+        createdDt.lt(endDt.plusDays(1).atStartOfDay());
+      }
+      criteria.andOperator(createdDt);
+    }
+    if (cursor != null) {
+      DocumentCursor documentCursor = DocumentCursor.decode(cursor);
+      criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+          Criteria.where("createdDt").lt(documentCursor.getCreatedDt()),
+          Criteria.where("createdDt").is(documentCursor.getCreatedDt())
+              .and("id").lt(documentCursor.getId())
+      ));
+    }
 
-    TeamParticipants teamParticipant = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    int pageSize = Math.min(Math.max(size, 1), MAX_SUMMARY_PAGE_SIZE);
+    Query query = new Query(criteria)
+        .with(Sort.by(Direction.DESC, "createdDt", "id"))
+        .limit(pageSize + 1);
+    query.fields().include("title", "writerId", "modifierId", "teamId", "createdDt", "updatedDt");
+
+    List<Documents> documents = mongoTemplate.find(query, Documents.class);
+    boolean hasNext = documents.size() > pageSize;
+    if (hasNext) {
+      documents = documents.subList(0, pageSize);
+    }
+
+    Map<String, Long> commentCounts = countComments(
+        documents.stream().map(Documents::getId).collect(Collectors.toList()));
+    Documents last = documents.isEmpty() ? null : documents.get(documents.size() - 1);
+
+    return DocumentSummaryCursorResponse.builder()
+        .content(documents.stream()
+            .map(document -> DocumentSummaryResponse.from(
+                document, commentCounts.getOrDefault(document.getId(), 0L)))
+            .collect(Collectors.toList()))
+        .nextCursor(hasNext ? new DocumentCursor(last.getCreatedDt(), last.getId()).encode() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  public DocumentInitResponse createDocs(DocumentInitRequest request, Long teamId, Principal principal) throws CustomException {
+    Long memberId = validCheck.getMemberId(principal);
+
+    TeamMembership teamParticipant = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
 
     Documents saveDocuments = documentsRepository.save(Documents.builder()
         .title(request.getTitle())
@@ -88,9 +159,7 @@ public class DocumentService {
 
     Long memberId = validCheck.getMemberId(principal);
 
-    validCheck.validTeamParticipant(memberId);
-
-    TeamParticipants teamParticipant = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
+    TeamMembership teamParticipant = validCheck.findValidTeamParticipantByMemberIdAndTeamId(memberId, teamId);
 
     Documents validDocument = validCheck.findValidDocument(documentId);
     validCheck.validDocumentByTeamId(teamId, validDocument.getTeamId());
@@ -101,7 +170,8 @@ public class DocumentService {
       validCheck.validDocumentByWriterId(validDocument.getWriterId(), teamParticipant.getTeamParticipantsId());
     }
 
-    commentRepository.deleteAll(validDocument.getCommentIds());
+    commentRepository.deleteAllByDocumentId(validDocument.getId());
+    documentOperationRepository.deleteAllByDocumentId(validDocument.getId());
     documentsRepository.delete(validDocument);
 
     return DeleteDocsResponse.builder()
@@ -115,7 +185,7 @@ public class DocumentService {
   }
 
   @Transactional
-  public void deleteAllDocsInTeams(List<Long> teamIdList) {
+  public long deleteAllDocsInTeams(List<Long> teamIdList) {
     BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Documents.class);
 
     for (Long teamId : teamIdList) {
@@ -123,9 +193,21 @@ public class DocumentService {
       bulkOperations.remove(query);
     }
 
+    // 문서를 지우기 전에 변경 이력부터 지운다.
+    Query documentQuery = new Query(Criteria.where("teamId").in(teamIdList));
+    documentQuery.fields().include("id");
+    List<String> documentIds = mongoTemplate.find(documentQuery, Documents.class).stream()
+        .map(Documents::getId)
+        .collect(Collectors.toList());
+    if (!documentIds.isEmpty()) {
+      mongoTemplate.remove(
+          new Query(Criteria.where("documentId").in(documentIds)), DocumentOperation.class);
+    }
+
     BulkWriteResult bulkWriteResult = bulkOperations.execute();
     long deletedCount = bulkWriteResult.getDeletedCount();
     log.info("{}개의 팀들의 총 문서 {}개가 삭제되었습니다.", teamIdList.size(), deletedCount);
+    return deletedCount;
   }
 
   private List<Documents> findAllDocumentInTeam(Long teamId, List<Documents> allDocsInTeam) {
@@ -163,4 +245,21 @@ public class DocumentService {
     }
   }
 
+  // 한 페이지 문서들의 댓글 수를 한 번에 센다.
+  private Map<String, Long> countComments(List<String> documentIds) {
+    if (documentIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Aggregation aggregation = Aggregation.newAggregation(
+        Aggregation.match(Criteria.where("documentId").in(documentIds)),
+        Aggregation.group("documentId").count().as("count")
+    );
+    return mongoTemplate.aggregate(aggregation, Comment.class, Document.class)
+        .getMappedResults().stream()
+        .collect(Collectors.toMap(
+            result -> result.getString("_id"),
+            result -> ((Number) result.get("count")).longValue()));
+  }
+
 }
@@ -0,0 +1,168 @@
+package com.api.backend.documents.util;
+
+import com.api.backend.documents.data.dto.DeltaOp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Quill Delta 의 transform 을 옮긴 것.
+ * 같은 문서 버전에서 만들어진 두 delta 중 먼저 반영된 delta 를 기준으로, 나중 delta 를 이어서 적용할 수 있게 바꾼다.
+ */
+public final class DeltaTransformer {
+
+  private DeltaTransformer() {
+  }
+
+  /**
+   * applied 가 먼저 반영되었을 때 other 를 변환한다.
+   * 같은 위치에 둘 다 insert 했으면 priority 가 true 일 때 applied 의 insert 가 앞에 온다.
+   */
+  public static List<DeltaOp> transform(List<DeltaOp> applied, List<DeltaOp> other,
+      boolean priority) {
+    OpIterator appliedIter = new OpIterator(applied);
+    OpIterator otherIter = new OpIterator(other);
+    List<DeltaOp> result = new ArrayList<>();
+
+    while (appliedIter.hasNext() || otherIter.hasNext()) {
+      if (appliedIter.peekIsInsert() && (priority || !otherIter.peekIsInsert())) {
+        push(result, DeltaOp.retain(appliedIter.next().length(), null));
+      } else if (otherIter.peekIsInsert()) {
+        push(result, otherIter.next());
+      } else {
+        int length = Math.min(appliedIter.peekLength(), otherIter.peekLength());
+        DeltaOp appliedOp = appliedIter.next(length);
+        DeltaOp otherOp = otherIter.next(length);
+        if (appliedOp.isDelete()) {
+          // 이미 지워진 구간에 대한 retain, delete 는 의미가 없다.
+          continue;
+        }
+        if (otherOp.isDelete()) {
+          push(result, otherOp);
+        } else {
+          push(result, DeltaOp.retain(length,
+              transformAttributes(appliedOp.getAttributes(), otherOp.getAttributes(), priority)));
+        }
+      }
+    }
+    return chop(result);
+  }
+
+  private static Map<String, Object> transformAttributes(
+      Map<String, Object> applied, Map<String, Object> other, boolean priority
+  ) {
+    if (applied == null || other == null || !priority) {
+      return other;
+    }
+    Map<String, Object> attributes = new HashMap<>();
+    for (Map.Entry<String, Object> entry : other.entrySet()) {
+      if (!applied.containsKey(entry.getKey())) {
+        attributes.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return attributes.isEmpty() ? null : attributes;
+  }
+
+  // 같은 종류, 같은 속성의 op 는 합치고, delete 뒤의 insert 는 delete 앞으로 옮긴다.
+  private static void push(List<DeltaOp> ops, DeltaOp op) {
+    int index = ops.size();
+    DeltaOp last = index == 0 ? null : ops.get(index - 1);
+
+    if (last != null) {
+      if (op.isDelete() && last.isDelete()) {
+        ops.set(index - 1, DeltaOp.delete(last.getDelete() + op.getDelete()));
+        return;
+      }
+      if (last.isDelete() && op.isInsert()) {
+        index--;
+        last = index == 0 ? null : ops.get(index - 1);
+        if (last == null) {
+          ops.add(0, op);
+          return;
+        }
+      }
+      if (Objects.equals(op.getAttributes(), last.getAttributes())) {
+        if (op.getInsert() instanceof String && last.getInsert() instanceof String) {
+          ops.set(index - 1,
+              DeltaOp.insert((String) last.getInsert() + op.getInsert(), op.getAttributes()));
+          return;
+        }
+        if (op.getRetain() != null && last.getRetain() != null) {
+          ops.set(index - 1,
+              DeltaOp.retain(last.getRetain() + op.getRetain(), op.getAttributes()));
+          return;
+        }
+      }
+    }
+    ops.add(index, op);
+  }
+
+  private static List<DeltaOp> chop(List<DeltaOp> ops) {
+    if (!ops.isEmpty()) {
+      DeltaOp last = ops.get(ops.size() - 1);
+      if (last.getRetain() != null && last.getAttributes() == null) {
+        ops.remove(ops.size() - 1);
+      }
+    }
+    return ops;
+  }
+
+  private static class OpIterator {
+
+    private final List<DeltaOp> ops;
+    private int index;
+    private int offset;
+
+    private OpIterator(List<DeltaOp> ops) {
+      this.ops = ops == null ? List.of() : ops;
+    }
+
+    private boolean hasNext() {
+      return peekLength() < Integer.MAX_VALUE;
+    }
+
+    private boolean peekIsInsert() {
+      return index < ops.size() && ops.get(index).isInsert();
+    }
+
+    // 남은 op 가 없으면 문서 끝까지 retain 한 것으로 본다.
+    private int peekLength() {
+      return index < ops.size() ? ops.get(index).length() - offset : Integer.MAX_VALUE;
+    }
+
+    private DeltaOp next() {
+      return next(Integer.MAX_VALUE);
+    }
+
+    private DeltaOp next(int length) {
+      if (index >= ops.size()) {
+        return DeltaOp.retain(Integer.MAX_VALUE, null);
+      }
+
+      DeltaOp op = ops.get(index);
+      int opLength = op.length();
+      int from = offset;
+      if (length >= opLength - from) {
+        length = opLength - from;
+        index++;
+        offset = 0;
+      } else {
+        offset += length;
+      }
+
+      if (op.isDelete()) {
+        return DeltaOp.delete(length);
+      }
+      if (op.getRetain() != null) {
+        return DeltaOp.retain(length, op.getAttributes());
+      }
+      if (op.getInsert() instanceof String) {
+        return DeltaOp.insert(
+            ((String) op.getInsert()).substring(from, from + length), op.getAttributes());
+      }
+      return DeltaOp.insert(op.getInsert(), op.getAttributes());
+    }
+  }
+}
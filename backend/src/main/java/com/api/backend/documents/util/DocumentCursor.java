@@ -0,0 +1,44 @@
+package com.api.backend.documents.util;
+
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_CURSOR_NOT_VALID_EXCEPTION;
+
+import com.api.backend.global.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 문서 목록의 keyset cursor. 마지막 문서의 (created_dt, _id) 를 base64url 로 감싸 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class DocumentCursor {
+
+  private static final String DELIMITER = "_";
+
+  private final LocalDateTime createdDt;
+  private final String id;
+
+  public String encode() {
+    String raw = createdDt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static DocumentCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int delimiter = raw.lastIndexOf(DELIMITER);
+      if (delimiter < 0) {
+        throw new CustomException(DOCUMENT_CURSOR_NOT_VALID_EXCEPTION);
+      }
+      return new DocumentCursor(
+          LocalDateTime.parse(raw.substring(0, delimiter)), raw.substring(delimiter + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(DOCUMENT_CURSOR_NOT_VALID_EXCEPTION);
+    }
+  }
+}
@@ -11,16 +11,15 @@ import static com.api.backend.global.exception.type.ErrorCode.PRINCIPAL_IS_NULL;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETEING_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_NOT_DELETEING_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_NOT_FOUND_EXCEPTION;
-import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION;
 
 import com.api.backend.comment.data.entity.Comment;
 import com.api.backend.comment.data.repository.CommentRepository;
 import com.api.backend.documents.data.entity.Documents;
 import com.api.backend.documents.data.repository.DocumentsRepository;
 import com.api.backend.global.exception.CustomException;
-import com.api.backend.global.exception.type.ErrorCode;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.entity.Team;
-import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.data.repository.TeamParticipantsRepository;
 import com.api.backend.team.data.repository.TeamRepository;
 import java.security.Principal;
@@ -36,6 +35,7 @@ public class DocumentAndCommentValidCheck {
   private final CommentRepository commentRepository;
   private final TeamRepository teamRepository;
   private final TeamParticipantsRepository teamParticipantsRepository;
+  private final TeamMembershipCache teamMembershipCache;
 
   public Long getMemberId(Principal principal){
     if (principal == null) {
@@ -45,15 +45,8 @@ public class DocumentAndCommentValidCheck {
     return Long.parseLong(principal.getName());
   }
 
-  public void validTeamParticipant(Long memberId) {
-    boolean existsTeamParticipants = teamParticipantsRepository.existsByMember_MemberId(memberId);
-    if (!existsTeamParticipants) {
-      throw new CustomException(ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION);
-    }
-  }
-  public TeamParticipants findValidTeamParticipantByMemberIdAndTeamId(Long memberId, Long teamId) {
-    return teamParticipantsRepository.findByMember_MemberIdAndTeam_TeamId(
-        memberId, teamId).orElseThrow(() -> new CustomException(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION));
+  public TeamMembership findValidTeamParticipantByMemberIdAndTeamId(Long memberId, Long teamId) {
+    return teamMembershipCache.getMembership(memberId, teamId);
   }
 
 
@@ -102,13 +95,9 @@ public class DocumentAndCommentValidCheck {
     return team;
   }
 
-  public Team validTeam(Long teamId) {
-    Team team = teamRepository.findById(teamId)
-        .orElseThrow(() -> new CustomException(TEAM_NOT_FOUND_EXCEPTION));
-
-    if (team.isDelete() == true) {
+  public void validTeam(TeamMembership teamMembership) {
+    if (teamMembership.isTeamDelete()) {
       throw new CustomException(TEAM_IS_DELETEING_EXCEPTION);
     }
-    return team;
   }
 }
@@ -1,6 +1,7 @@
 package com.api.backend.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -10,18 +11,83 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    public static final String EMITTER_SEND_EXECUTOR = "EMITTER_SEND_EXECUTOR";
+    public static final String NOTIFICATION_FAN_OUT_EXECUTOR = "NOTIFICATION_FAN_OUT_EXECUTOR";
+    public static final String EMITTER_EVICT_EXECUTOR = "EMITTER_EVICT_EXECUTOR";
+    public static final String TEAM_PURGE_EXECUTOR = "TEAM_PURGE_EXECUTOR";
+
     private static final int CORE_POOL_SIZE = 5;
     private static final int MAX_POOL_SIZE = 30;
     private static final int QUEUE_CAPACITY = 50;
 
-    @Bean(name = "EMITTER_SEND_EXECUTOR")
+    private static final int FAN_OUT_CORE_POOL_SIZE = 16;
+    private static final int FAN_OUT_MAX_POOL_SIZE = 64;
+    private static final int FAN_OUT_QUEUE_CAPACITY = 1000;
+
+    private static final int EVICT_POOL_SIZE = 2;
+    private static final int EVICT_QUEUE_CAPACITY = 1000;
+
+    private static final int TEAM_PURGE_POOL_SIZE = 3;
+
+    /**
+     * 알람 advice 실행용. 큐가 가득 차면 호출한 스레드가 직접 실행해 요청 쪽으로 부하를 되돌린다.
+     */
+    @Bean(name = EMITTER_SEND_EXECUTOR)
     public Executor emiiterSendExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(CORE_POOL_SIZE);
         executor.setMaxPoolSize(MAX_POOL_SIZE);
         executor.setQueueCapacity(QUEUE_CAPACITY);
         executor.setThreadNamePrefix("event-handler-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * emitter 별 전송용. 큐가 가득 차면 거절하고, 거절된 전송은 버린다.
+     * (알람은 DB 에 저장되므로 목록 조회로 다시 받을 수 있다.)
+     */
+    @Bean(name = NOTIFICATION_FAN_OUT_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationFanOutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(FAN_OUT_CORE_POOL_SIZE);
+        executor.setMaxPoolSize(FAN_OUT_MAX_POOL_SIZE);
+        executor.setQueueCapacity(FAN_OUT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("notification-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 전송 제한 시간을 넘긴 emitter 종료용. 종료는 멈춘 전송이 끝날 때까지 기다릴 수 있어
+     * timeout 을 감지한 스레드나 전송 스레드와 분리한다. 큐가 가득 차면 거절하고 heartbeat 가 정리한다.
+     */
+    @Bean(name = EMITTER_EVICT_EXECUTOR)
+    public ThreadPoolTaskExecutor emitterEvictExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(EVICT_POOL_SIZE);
+        executor.setMaxPoolSize(EVICT_POOL_SIZE);
+        executor.setQueueCapacity(EVICT_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("emitter-evict-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 팀 배치 작업용. 해체된 팀 삭제의 MongoDB, MySQL, 파일 단계와
+     * 복구 기한 만료 후 캐시 무효화를 알람 전송과 분리된 스레드에서 실행한다.
+     */
+    @Bean(name = TEAM_PURGE_EXECUTOR)
+    public ThreadPoolTaskExecutor teamPurgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(TEAM_PURGE_POOL_SIZE);
+        executor.setMaxPoolSize(TEAM_PURGE_POOL_SIZE);
+        executor.setThreadNamePrefix("team-purge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
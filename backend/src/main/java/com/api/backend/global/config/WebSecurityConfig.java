@@ -67,6 +67,7 @@ public class WebSecurityConfig {
                 .authorizeRequests() // 요청에 대한 권한 설정
                 .antMatchers(AUTH_WHITELIST).permitAll()
                 .antMatchers("/my-page", "/member/password").authenticated()
+                .antMatchers("/actuator/methodtrace/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
                 .and()
                 //oAuth2관련
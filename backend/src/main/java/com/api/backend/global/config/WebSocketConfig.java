@@ -3,7 +3,9 @@ package com.api.backend.global.config;
 import com.api.backend.global.websocket.handler.StompHandler;
 import lombok.extern.slf4j.Slf4j;
 import com.api.backend.global.websocket.handler.WebSocketErrorHandler;
+import com.api.backend.global.websocket.relay.StompRedisPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -20,17 +22,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   private final WebSocketErrorHandler webSocketErrorHandler;
   private final StompHandler stompHandler;
+  private final ObjectProvider<StompRedisPublisher> stompRedisPublisher;
 
   @Value("${frontend.host}")
   String host;
   @Value("${frontend.port}")
   String port;
 
+  // simple : 노드 내부 broker, redis : 노드 내부 broker + Redis 로 다른 노드에 전달, relay : 외부 STOMP broker
+  @Value("${websocket.broker.mode:simple}")
+  String brokerMode;
+  @Value("${websocket.broker.relay.host:localhost}")
+  String relayHost;
+  @Value("${websocket.broker.relay.port:61613}")
+  int relayPort;
+  @Value("${websocket.broker.relay.login:guest}")
+  String relayLogin;
+  @Value("${websocket.broker.relay.passcode:guest}")
+  String relayPasscode;
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
-    config.enableSimpleBroker("/topic");
+    if ("relay".equals(brokerMode)) {
+      config.enableStompBrokerRelay("/topic")
+          .setRelayHost(relayHost)
+          .setRelayPort(relayPort)
+          .setClientLogin(relayLogin)
+          .setClientPasscode(relayPasscode)
+          .setSystemLogin(relayLogin)
+          .setSystemPasscode(relayPasscode);
+    } else {
+      config.enableSimpleBroker("/topic");
+      stompRedisPublisher.ifAvailable(
+          publisher -> config.configureBrokerChannel().interceptors(publisher));
+    }
     config.setApplicationDestinationPrefixes("/app");
-    log.info("configureMessageBroker -----");
+    log.info("configureMessageBroker ----- mode : {}", brokerMode);
   }
 
   @Override
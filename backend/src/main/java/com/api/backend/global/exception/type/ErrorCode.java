@@ -81,6 +81,9 @@ public enum ErrorCode {
   DOCUMENT_WRITER_EXISTS_EXCEPTION(400, "문서의 생성자가 팀안에 존재하므로 팀장권한으로 삭제가 불가능합니다."),
   DOCUMENT_NOT_FOUND_EXCEPTION(400, "존재하지 않는 문서입니다."),
   DOCUMENT_ID_AND_TEAM_ID_NOT_FOUND_EXCEPTION(400, "팀ID , 문서ID가 존재하지 않습니다."),
+  DOCUMENT_REVISION_NOT_VALID_EXCEPTION(400, "문서 버전이 맞지 않습니다. 문서를 다시 불러와 주세요."),
+  DOCUMENT_REVISION_CONFLICT_EXCEPTION(500, "동시에 수정하는 요청이 많아 변경 내용을 반영하지 못했습니다."),
+  DOCUMENT_CURSOR_NOT_VALID_EXCEPTION(400, "잘못된 문서 목록 cursor 입니다."),
 
   // comment
   COMMENT_NOT_FOUND_EXCEPTION(400, "존재하지 않는 댓글 입니다."),
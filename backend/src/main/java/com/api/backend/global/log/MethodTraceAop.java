@@ -0,0 +1,82 @@
+package com.api.backend.global.log;
+
+import com.api.backend.global.log.MethodTraceRegistry.MethodTrace;
+import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * controller, service 메서드의 실행 시간을 기록하고, 일부 호출만 골라 인자와 함께 로그로 남긴다.
+ * 엔티티의 toString 으로 지연 로딩이 일어나지 않도록 단순 타입만 값으로 남기고 나머지는 타입 이름만 남긴다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTraceAop {
+
+  private static final int MAX_VALUE_LENGTH = 100;
+
+  private final MethodTraceRegistry methodTraceRegistry;
+
+  @Pointcut("within(com.api.backend..*) && ("
+      + "@within(org.springframework.web.bind.annotation.RestController)"
+      + " || @within(org.springframework.stereotype.Service))")
+  private void tracedComponents() {
+  }
+
+  @Around("tracedComponents()")
+  public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+    MethodTrace trace = methodTraceRegistry.get(((MethodSignature) joinPoint.getSignature()).getMethod());
+    if (!methodTraceRegistry.isEnabled(trace)) {
+      return joinPoint.proceed();
+    }
+
+    long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      trace.getTimer().record(elapsed, TimeUnit.NANOSECONDS);
+
+      if (methodTraceRegistry.shouldSample()) {
+        log.info("method : {} [elapsed : {}ms] [parameter : {}]",
+            trace.getName(), TimeUnit.NANOSECONDS.toMillis(elapsed), summarize(joinPoint.getArgs()));
+      }
+    }
+  }
+
+  private static String summarize(Object[] args) {
+    if (args.length == 0) {
+      return "no parameter";
+    }
+
+    StringBuilder sb = new StringBuilder();
+    for (Object arg : args) {
+      if (sb.length() > 0) {
+        sb.append(", ");
+      }
+      if (arg == null) {
+        sb.append("null");
+      } else if (isSimpleValue(arg)) {
+        String value = String.valueOf(arg);
+        sb.append(value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH) + "..." : value);
+      } else {
+        sb.append(arg.getClass().getSimpleName());
+      }
+    }
+    return sb.toString();
+  }
+
+  private static boolean isSimpleValue(Object arg) {
+    return arg instanceof Number || arg instanceof CharSequence || arg instanceof Boolean
+        || arg instanceof Enum || arg instanceof Temporal;
+  }
+}
@@ -0,0 +1,54 @@
+package com.api.backend.global.log;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 중에 전체/패키지별 기록 여부와 샘플링 비율을 바꾼다.
+ * ex) POST /actuator/methodtrace {"packageName": "com.api.backend.documents", "packageEnabled": false}
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "methodtrace")
+public class MethodTraceEndpoint {
+
+  private final MethodTraceRegistry methodTraceRegistry;
+
+  @ReadOperation
+  public Map<String, Object> settings() {
+    Map<String, Object> settings = new LinkedHashMap<>();
+    settings.put("enabled", methodTraceRegistry.isEnabled());
+    settings.put("samplingRate", methodTraceRegistry.getSamplingRate());
+    settings.put("packages", methodTraceRegistry.getPackageSwitches());
+    return settings;
+  }
+
+  @WriteOperation
+  public Map<String, Object> configure(
+      @Nullable Boolean enabled,
+      @Nullable Double samplingRate,
+      @Nullable String packageName,
+      @Nullable Boolean packageEnabled
+  ) {
+    if (enabled != null) {
+      methodTraceRegistry.setEnabled(enabled);
+    }
+    if (samplingRate != null) {
+      methodTraceRegistry.setSamplingRate(samplingRate);
+    }
+    if (packageName != null) {
+      if (packageEnabled == null) {
+        methodTraceRegistry.clearPackage(packageName);
+      } else {
+        methodTraceRegistry.setPackageEnabled(packageName, packageEnabled);
+      }
+    }
+    return settings();
+  }
+}
@@ -0,0 +1,166 @@
+package com.api.backend.global.log;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메서드별 Timer 와 패키지별 on/off 설정을 보관한다.
+ * Timer 와 on/off 판단 결과는 메서드마다 한 번만 만들고, 설정이 바뀌면 버전을 올려 다시 판단한다.
+ */
+@Component
+public class MethodTraceRegistry {
+
+  private static final String METRIC_NAME = "method.timed";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<Method, MethodTrace> traces = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> packageSwitches = new ConcurrentHashMap<>();
+
+  private volatile boolean enabled;
+  private volatile double samplingRate;
+  private volatile int switchVersion;
+
+  public MethodTraceRegistry(
+      @Value("${method-trace.enabled:true}") boolean enabled,
+      @Value("${method-trace.sampling-rate:0.01}") double samplingRate,
+      @Value("${method-trace.disabled-packages:}") List<String> disabledPackages,
+      MeterRegistry meterRegistry
+  ) {
+    this.enabled = enabled;
+    this.samplingRate = samplingRate;
+    this.meterRegistry = meterRegistry;
+    for (String disabledPackage : disabledPackages) {
+      if (!disabledPackage.isBlank()) {
+        packageSwitches.put(disabledPackage.trim(), false);
+      }
+    }
+  }
+
+  public MethodTrace get(Method method) {
+    MethodTrace trace = traces.get(method);
+    if (trace == null) {
+      trace = traces.computeIfAbsent(method, this::createTrace);
+    }
+    return trace;
+  }
+
+  public boolean isEnabled(MethodTrace trace) {
+    if (!enabled) {
+      return false;
+    }
+    int version = switchVersion;
+    SwitchState state = trace.switchState;
+    if (state.version != version) {
+      state = new SwitchState(version, resolve(trace.getPackageName()));
+      trace.switchState = state;
+    }
+    return state.enabled;
+  }
+
+  public boolean shouldSample() {
+    double rate = samplingRate;
+    return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  public synchronized void setPackageEnabled(String packageName, boolean packageEnabled) {
+    packageSwitches.put(packageName, packageEnabled);
+    switchVersion++;
+  }
+
+  public synchronized void clearPackage(String packageName) {
+    packageSwitches.remove(packageName);
+    switchVersion++;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void setSamplingRate(double samplingRate) {
+    this.samplingRate = Math.max(0, Math.min(1, samplingRate));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public double getSamplingRate() {
+    return samplingRate;
+  }
+
+  public Map<String, Boolean> getPackageSwitches() {
+    return Collections.unmodifiableMap(new TreeMap<>(packageSwitches));
+  }
+
+  // 가장 길게 일치하는 패키지 설정을 따르고, 설정이 없으면 켠다.
+  private boolean resolve(String packageName) {
+    String matched = null;
+    boolean matchedEnabled = true;
+    for (Map.Entry<String, Boolean> packageSwitch : packageSwitches.entrySet()) {
+      String switchedPackage = packageSwitch.getKey();
+      if ((packageName.equals(switchedPackage) || packageName.startsWith(switchedPackage + "."))
+          && (matched == null || switchedPackage.length() > matched.length())) {
+        matched = switchedPackage;
+        matchedEnabled = packageSwitch.getValue();
+      }
+    }
+    return matchedEnabled;
+  }
+
+  private MethodTrace createTrace(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    Timer timer = Timer.builder(METRIC_NAME)
+        .tag("class", declaringClass.getSimpleName())
+        .tag("method", method.getName())
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofMillis(1))
+        .maximumExpectedValue(Duration.ofSeconds(10))
+        .register(meterRegistry);
+    return new MethodTrace(
+        declaringClass.getPackageName(),
+        declaringClass.getSimpleName() + "." + method.getName(),
+        timer
+    );
+  }
+
+  @Getter
+  public static class MethodTrace {
+
+    private final String packageName;
+    private final String name;
+    private final Timer timer;
+
+    // 판단 결과와 그 때의 버전을 한 번에 바꿔 서로 다른 판단의 값이 섞이지 않게 한다.
+    @Getter(AccessLevel.NONE)
+    private volatile SwitchState switchState = new SwitchState(-1, false);
+
+    MethodTrace(String packageName, String name, Timer timer) {
+      this.packageName = packageName;
+      this.name = name;
+      this.timer = timer;
+    }
+  }
+
+  private static class SwitchState {
+
+    private final int version;
+    private final boolean enabled;
+
+    SwitchState(int version, boolean enabled) {
+      this.version = version;
+      this.enabled = enabled;
+    }
+  }
+}
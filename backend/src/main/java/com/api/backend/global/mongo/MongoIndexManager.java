@@ -0,0 +1,116 @@
+package com.api.backend.global.mongo;
+
+import com.api.backend.comment.data.entity.Comment;
+import com.api.backend.documents.data.entity.DocumentOperation;
+import com.api.backend.documents.data.entity.Documents;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 조회 형태마다 필요한 MongoDB 인덱스를 한 곳에 선언하고, 시작할 때 실제 인덱스와 맞춘다.
+ * 이름이 같은데 정의가 다르면 지우고 다시 만들고, 같은 키의 인덱스가 다른 이름으로 이미 있으면 그대로 둔다.
+ * 선언되지 않은 인덱스는 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexManager {
+
+  private final MongoTemplate mongoTemplate;
+
+  /**
+   * 엔티티별로 관리하는 인덱스
+   */
+  public static Map<Class<?>, List<Index>> declaredIndexes() {
+    Map<Class<?>, List<Index>> indexes = new LinkedHashMap<>();
+
+    // 팀 문서 목록 (기간 조회, keyset 페이지), 팀 단위 삭제
+    indexes.put(Documents.class, List.of(
+        new Index()
+            .on("team_id", Direction.ASC)
+            .on("created_dt", Direction.DESC)
+            .on("_id", Direction.DESC)
+            .named("team_created_idx")
+    ));
+
+    // 문서별 댓글 페이지 / 개수, 팀 단위 삭제
+    indexes.put(Comment.class, List.of(
+        new Index()
+            .on("document_id", Direction.ASC)
+            .on("_id", Direction.ASC)
+            .named("document_comment_idx"),
+        new Index()
+            .on("team_id", Direction.ASC)
+            .named("team_idx")
+    ));
+
+    // 문서별 변경 이력 (revision 이후 조회, 정리)
+    indexes.put(DocumentOperation.class, List.of(
+        new Index()
+            .on("document_id", Direction.ASC)
+            .on("revision", Direction.ASC)
+            .unique()
+            .named("document_revision_idx")
+    ));
+
+    return indexes;
+  }
+
+  @PostConstruct
+  public void reconcileAll() {
+    declaredIndexes().forEach((entityClass, indexes) ->
+        reconcile(mongoTemplate.indexOps(entityClass), indexes));
+  }
+
+  public void reconcile(IndexOperations indexOps, List<Index> indexes) {
+    List<IndexInfo> existingIndexes = indexOps.getIndexInfo();
+
+    for (Index index : indexes) {
+      String name = index.getIndexOptions().getString("name");
+      IndexInfo sameName = existingIndexes.stream()
+          .filter(info -> info.getName().equals(name))
+          .findFirst()
+          .orElse(null);
+
+      if (sameName != null) {
+        if (matches(sameName, index)) {
+          continue;
+        }
+        log.info("MongoDB 인덱스 정의가 달라 다시 생성합니다. index = {}", name);
+        indexOps.dropIndex(name);
+      } else if (existingIndexes.stream().anyMatch(info -> matches(info, index))) {
+        log.info("같은 키의 MongoDB 인덱스가 다른 이름으로 이미 존재합니다. index = {}", name);
+        continue;
+      }
+
+      indexOps.ensureIndex(index);
+      log.info("MongoDB 인덱스 생성 : {}", name);
+    }
+  }
+
+  private static boolean matches(IndexInfo info, Index index) {
+    Document keys = new Document();
+    for (IndexField field : info.getIndexFields()) {
+      keys.append(field.getKey(), field.getDirection() == Direction.DESC ? -1 : 1);
+    }
+    boolean unique = Objects.equals(index.getIndexOptions().get("unique"), true);
+
+    // 복합 인덱스는 키 순서까지 같아야 같은 인덱스이다.
+    return new ArrayList<>(keys.entrySet()).equals(new ArrayList<>(index.getIndexKeys().entrySet()))
+        && info.isUnique() == unique;
+  }
+}
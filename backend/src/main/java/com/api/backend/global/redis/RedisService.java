@@ -3,10 +3,13 @@ package com.api.backend.global.redis;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -37,4 +40,29 @@ public class RedisService {
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
+
+    public void deleteValues(Collection<String> keys) {
+        redisTemplate.delete(keys);
+    }
+
+    public Long increment(String key) {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        return values.increment(key);
+    }
+
+    public void addSortedSetValue(String key, String value, double score) {
+        redisTemplate.opsForZSet().add(key, value, score);
+    }
+
+    public Set<TypedTuple<String>> getSortedSetValuesByScore(String key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScoreWithScores(key, min, max);
+    }
+
+    public void deleteSortedSetValuesByScore(String key, double min, double max) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
 }
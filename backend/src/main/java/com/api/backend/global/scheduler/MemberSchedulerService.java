@@ -1,30 +1,97 @@
 package com.api.backend.global.scheduler;
 
-import com.api.backend.member.data.entity.Member;
+import com.api.backend.member.data.dto.UnverifiedMemberCursor;
 import com.api.backend.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberSchedulerService {
 
+    static final int REAP_CHUNK_SIZE = 500;
+    private static final int PROGRESS_LOG_INTERVAL = 20;
+    // 1970-01-01 보다 이른 값은 MySQL datetime 비교에서 문제가 될 수 있어 시작 커서로 사용한다.
+    private static final LocalDateTime START_CREATE_DT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final MemberService memberService;
+
+    /**
+     * 가입 후 1년이 지나도록 이메일 인증을 하지 않은 회원을 REAP_CHUNK_SIZE 명씩 지운다.
+     * 회원 키만 (create_dt, member_id) 순서로 넘겨가며 읽고, 묶음마다 한 번의 DELETE 로 짧게 커밋한다.
+     */
     @Scheduled(cron = "0 0 5 1 * *", zone = "Asia/Seoul")
     public void checkEmailValidation() {
-        log.info("장기간 이메일 인증 안된 회원 삭제");
-        List<Member> membersIsAuthenticatedEmailFalse = memberService.getMembersIsAuthenticatedEmailFalse(false, LocalDateTime.now());
+        LocalDateTime cutoff = LocalDateTime.now().minusYears(1);
+        long startNanos = System.nanoTime();
+
+        LocalDateTime lastCreateDt = START_CREATE_DT;
+        Long lastMemberId = 0L;
+        long scannedCount = 0;
+        long deletedCount = 0;
+        long skippedCount = 0;
+        int chunkCount = 0;
+
+        List<UnverifiedMemberCursor> members;
+        do {
+            members = memberService.getUnverifiedMembersAfter(
+                cutoff, lastCreateDt, lastMemberId, REAP_CHUNK_SIZE);
+            if (members.isEmpty()) {
+                break;
+            }
+            UnverifiedMemberCursor last = members.get(members.size() - 1);
+            lastCreateDt = last.getCreateDt();
+            lastMemberId = last.getMemberId();
+
+            List<Long> memberIds = members.stream()
+                .map(UnverifiedMemberCursor::getMemberId)
+                .collect(Collectors.toList());
+            int deleted = deleteChunk(memberIds, cutoff);
+            deletedCount += deleted;
+            skippedCount += memberIds.size() - deleted;
+            scannedCount += members.size();
+
+            if (++chunkCount % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("이메일 미인증 회원 정리 진행 중 조회 {}명, 삭제 {}명", scannedCount, deletedCount);
+            }
+        } while (members.size() == REAP_CHUNK_SIZE);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        double perSecond = deletedCount * 1000.0 / Math.max(elapsed.toMillis(), 1);
+        log.info("장기간 이메일 인증 안된 회원 삭제 완료 조회 {}명, 삭제 {}명, 제외 {}명, {}ms ({}명/초)",
+            scannedCount, deletedCount, skippedCount, elapsed.toMillis(), String.format("%.1f", perSecond));
+    }
+
+    /**
+     * 알람, 팀 참가 기록이 남은 회원은 DELETE 조건에서 제외된다.
+     * 그 밖의 제약에 걸려 묶음 전체가 실패하면 한 명씩 다시 지워 막힌 회원만 남긴다.
+     */
+    private int deleteChunk(List<Long> memberIds, LocalDateTime cutoff) {
+        try {
+            return memberService.deleteUnverifiedMembers(memberIds, cutoff);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("이메일 미인증 회원 묶음 삭제 실패로 한 명씩 삭제합니다. memberId {} ~ {}",
+                memberIds.get(0), memberIds.get(memberIds.size() - 1), e);
+        }
 
-        for(Member member: membersIsAuthenticatedEmailFalse){
-            log.info(member.toString());
-            memberService.deleteMember(member);
+        int deleted = 0;
+        for (Long memberId : memberIds) {
+            try {
+                deleted += memberService.deleteUnverifiedMembers(List.of(memberId), cutoff);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("이메일 미인증 회원 삭제 실패 memberId = {}", memberId);
+            }
         }
+        return deleted;
     }
 
 }
@@ -0,0 +1,28 @@
+package com.api.backend.global.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 메모리나 Redis 에 원문 토큰 대신 보관할 SHA-256 해시를 만든다.
+ */
+public final class JwtTokenHasher {
+
+  private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  });
+
+  private JwtTokenHasher() {
+  }
+
+  public static String hash(String token) {
+    byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+    return Base64.getEncoder().encodeToString(digest);
+  }
+}
@@ -4,6 +4,7 @@ package com.api.backend.global.security.jwt;
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.global.redis.RedisService;
 import com.api.backend.global.security.data.dto.TokenDto;
+import com.api.backend.global.security.jwt.service.TokenRevocationService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -29,21 +30,29 @@ import static com.api.backend.global.exception.type.ErrorCode.TOKEN_NOT_FOUND_PE
 @Component
 public class JwtTokenProvider {
     private final Key key;
+    private final JwtParser jwtParser;
     private final long ACCESS_TOKEN_EXPIRE_TIME;
     private final long REFRESH_TOKEN_EXPIRE_TIME;
     private final RedisService redisService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.token.access-expiration-time}") Long accessExpirationTime,
             @Value("${jwt.token.refresh-expiration-time}") Long refreshExpirationTimeE,
-            RedisService redisService
+            RedisService redisService,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService
     ) {
         byte[] secretByteKey = DatatypeConverter.parseBase64Binary(secretKey);
         this.key = Keys.hmacShaKeyFor(secretByteKey);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
         this.ACCESS_TOKEN_EXPIRE_TIME = accessExpirationTime;
         this.REFRESH_TOKEN_EXPIRE_TIME = refreshExpirationTimeE;
         this.redisService = redisService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     public TokenDto createToken(String memberId, String authorities) {
@@ -72,20 +81,40 @@ public class JwtTokenProvider {
 
     public Claims getClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
     public Authentication getAuthentication(String accessToken) {
+        return toAuthentication(getClaims(accessToken));
+    }
+
+    /**
+     * 로그아웃 여부 확인 -> 캐시 조회 -> 서명 검증 순으로 한 번만 검증하고, 유효하지 않으면 null 을 반환한다.
+     */
+    public Authentication authenticate(String accessToken) {
+        if (tokenRevocationService.isRevoked(accessToken)) { // 로그아웃 했을 경우
+            return null;
+        }
+
+        Authentication cached = verifiedTokenCache.get(accessToken);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseAccessToken(accessToken);
+        if (claims == null) {
+            return null;
+        }
 
-        Claims claims = getClaims(accessToken);
+        Authentication authentication = toAuthentication(claims);
+        verifiedTokenCache.put(accessToken, authentication, claims.getExpiration().getTime());
+        return authentication;
+    }
 
+    private Authentication toAuthentication(Claims claims) {
         if (claims.get("auth") == null) {
             throw new CustomException(TOKEN_NOT_FOUND_PERMISSION_INFORMATION);
         }
@@ -103,14 +132,9 @@ public class JwtTokenProvider {
         return getClaims(token).getExpiration().getTime();
     }
 
-    public boolean validateAccessToken(String accessToken) {
+    private Claims parseAccessToken(String accessToken) {
         try {
-            if (redisService.getValues(accessToken) != null // NPE 방지
-                    && redisService.getValues(accessToken).equals("logout")) { // 로그아웃 했을 경우
-                return false;
-            }
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
-            return true;
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (io.jsonwebtoken.security.SecurityException |
                  MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
@@ -121,7 +145,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
         }
-        return false;
+        return null;
     }
 
     public boolean validateAccessTokenOnlyExpired(String accessToken) {
@@ -141,10 +165,7 @@ public class JwtTokenProvider {
             if (redisService.getValues(refreshToken).equals("delete")) { // 회원 탈퇴했을 경우
                 return false;
             }
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(refreshToken);
+            jwtParser.parseClaimsJws(refreshToken);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException |
                  MalformedJwtException e) {
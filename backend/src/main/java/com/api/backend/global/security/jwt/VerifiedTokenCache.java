@@ -0,0 +1,90 @@
+package com.api.backend.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 access token 의 Authentication 을 만료 시각까지 보관한다.
+ * 원문 토큰 대신 SHA-256 해시를 키로 쓰고, 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final int maxSize;
+  private final Map<String, VerifiedToken> entries;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  public VerifiedTokenCache(
+      @Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+      MeterRegistry meterRegistry
+  ) {
+    this.maxSize = maxSize;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+        return size() > VerifiedTokenCache.this.maxSize;
+      }
+    };
+
+    this.hitCounter = meterRegistry.counter("jwt.verified-cache", "result", "hit");
+    this.missCounter = meterRegistry.counter("jwt.verified-cache", "result", "miss");
+    Gauge.builder("jwt.verified-cache.size", this, VerifiedTokenCache::size)
+        .register(meterRegistry);
+  }
+
+  public Authentication get(String accessToken) {
+    String key = JwtTokenHasher.hash(accessToken);
+    synchronized (entries) {
+      VerifiedToken verifiedToken = entries.get(key);
+      if (verifiedToken == null) {
+        missCounter.increment();
+        return null;
+      }
+      if (verifiedToken.getExpireAtMillis() <= System.currentTimeMillis()) {
+        entries.remove(key);
+        missCounter.increment();
+        return null;
+      }
+      hitCounter.increment();
+      return verifiedToken.getAuthentication();
+    }
+  }
+
+  public void put(String accessToken, Authentication authentication, long expireAtMillis) {
+    String key = JwtTokenHasher.hash(accessToken);
+    synchronized (entries) {
+      entries.put(key, new VerifiedToken(authentication, expireAtMillis));
+    }
+  }
+
+  public void evict(String accessToken) {
+    String key = JwtTokenHasher.hash(accessToken);
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class VerifiedToken {
+
+    private final Authentication authentication;
+    private final long expireAtMillis;
+  }
+}
@@ -0,0 +1,190 @@
+package com.api.backend.global.security.jwt.service;
+
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.global.security.jwt.JwtTokenHasher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그아웃한 access token 의 해시를 만료 시각과 함께 노드마다 보관한다.
+ * 요청마다 Redis 를 조회하지 않고, 로컬 목록에 있는 토큰만 Redis 로 한 번 더 확인한다.
+ * 다른 노드의 로그아웃은 pub/sub 으로 받고, 구독이 끊긴 동안 놓친 메시지는
+ * 주기적으로 Redis 의 sorted set 을 다시 읽어 채운다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+  private static final String LOGOUT = "logout";
+  private static final String REVOKED_TOKENS_KEY = "logout:tokens";
+  private static final String REVOCATION_CHANNEL = "logout:revoked";
+  private static final String MESSAGE_DELIMITER = ":";
+
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+  // sorted set 저장이나 전파에 실패해 다시 보내야 하는 항목
+  private final Map<String, Long> pendingPropagations = new ConcurrentHashMap<>();
+  // 목록을 다시 채우지 못한 동안에는 요청마다 Redis 를 조회한다.
+  private volatile boolean synced;
+
+  private final Counter redisLookupCounter;
+
+  public TokenRevocationService(
+      RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry
+  ) {
+    this.redisService = redisService;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.redisLookupCounter = meterRegistry.counter("jwt.revocation.redis-lookups");
+    Gauge.builder("jwt.revocation.size", revokedTokens, Map::size)
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void init() {
+    // 다시 채우는 도중의 로그아웃을 놓치지 않도록 구독을 먼저 시작한다.
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    rebuild();
+  }
+
+  public boolean isRevoked(String accessToken) {
+    if (!synced) {
+      return isRevokedInRedis(accessToken);
+    }
+
+    String tokenHash = JwtTokenHasher.hash(accessToken);
+    Long expireAtMillis = revokedTokens.get(tokenHash);
+    if (expireAtMillis == null) {
+      return false;
+    }
+    if (expireAtMillis <= System.currentTimeMillis()) {
+      revokedTokens.remove(tokenHash);
+      return false;
+    }
+    return isRevokedInRedis(accessToken);
+  }
+
+  public void revoke(String accessToken, long expireAtMillis) {
+    long ttl = expireAtMillis - System.currentTimeMillis();
+    if (ttl <= 0) {
+      return;
+    }
+    String tokenHash = JwtTokenHasher.hash(accessToken);
+
+    redisService.setValues(accessToken, LOGOUT, ttl, TimeUnit.MILLISECONDS);
+    revokedTokens.put(tokenHash, expireAtMillis);
+
+    try {
+      propagate(tokenHash, expireAtMillis);
+    } catch (RuntimeException e) {
+      // Redis 와 어긋났을 수 있으므로 다시 채울 때까지 Redis 로 직접 확인한다.
+      synced = false;
+      pendingPropagations.put(tokenHash, expireAtMillis);
+      log.warn("로그아웃 토큰 전파에 실패하였습니다.", e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int delimiter = body.lastIndexOf(MESSAGE_DELIMITER);
+    if (delimiter < 0) {
+      log.warn("잘못된 로그아웃 토큰 메시지입니다. message = {}", body);
+      return;
+    }
+    revokedTokens.put(
+        body.substring(0, delimiter), Long.parseLong(body.substring(delimiter + 1)));
+  }
+
+  /**
+   * 만료된 항목을 정리하고, 목록이 Redis 와 어긋나 있으면 다시 채운다.
+   */
+  @Scheduled(fixedDelay = 60 * 1000)
+  public void purgeExpired() {
+    long now = System.currentTimeMillis();
+    revokedTokens.values().removeIf(expireAtMillis -> expireAtMillis <= now);
+    pendingPropagations.values().removeIf(expireAtMillis -> expireAtMillis <= now);
+
+    if (!synced) {
+      rebuild();
+    }
+  }
+
+  /**
+   * 구독이 끊긴 동안 놓친 로그아웃을 반영하도록 목록을 주기적으로 다시 채운다.
+   */
+  @Scheduled(
+      initialDelayString = "${jwt.revocation.resync-interval:300000}",
+      fixedDelayString = "${jwt.revocation.resync-interval:300000}"
+  )
+  public void resync() {
+    rebuild();
+  }
+
+  public int size() {
+    return revokedTokens.size();
+  }
+
+  private void rebuild() {
+    try {
+      retryPendingPropagations();
+
+      long now = System.currentTimeMillis();
+      redisService.deleteSortedSetValuesByScore(REVOKED_TOKENS_KEY, 0, now);
+
+      Set<TypedTuple<String>> tuples = redisService
+          .getSortedSetValuesByScore(REVOKED_TOKENS_KEY, now, Double.MAX_VALUE);
+      if (tuples != null) {
+        for (TypedTuple<String> tuple : tuples) {
+          revokedTokens.put(tuple.getValue(), tuple.getScore().longValue());
+        }
+      }
+      synced = pendingPropagations.isEmpty();
+      log.info("로그아웃 토큰 목록 갱신 : {}개", revokedTokens.size());
+    } catch (RuntimeException e) {
+      synced = false;
+      log.warn("로그아웃 토큰 목록을 불러오지 못했습니다. Redis 로 직접 확인합니다.", e);
+    }
+  }
+
+  private void retryPendingPropagations() {
+    for (Map.Entry<String, Long> entry : pendingPropagations.entrySet()) {
+      propagate(entry.getKey(), entry.getValue());
+      pendingPropagations.remove(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private void propagate(String tokenHash, long expireAtMillis) {
+    redisService.addSortedSetValue(REVOKED_TOKENS_KEY, tokenHash, expireAtMillis);
+    redisService.publish(REVOCATION_CHANNEL, tokenHash + MESSAGE_DELIMITER + expireAtMillis);
+  }
+
+  // Redis 를 조회할 수 없으면 로그아웃된 것으로 본다.
+  private boolean isRevokedInRedis(String accessToken) {
+    redisLookupCounter.increment();
+    try {
+      return LOGOUT.equals(redisService.getValues(accessToken));
+    } catch (RuntimeException e) {
+      log.warn("로그아웃 여부를 확인하지 못했습니다.", e);
+      return true;
+    }
+  }
+}
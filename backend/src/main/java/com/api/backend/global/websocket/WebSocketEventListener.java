@@ -1,6 +1,7 @@
 package com.api.backend.global.websocket;
 
 import com.api.backend.documents.data.dto.RequestedDocument;
+import com.api.backend.documents.service.DocumentSaveBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -15,6 +16,7 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 public class WebSocketEventListener {
 
   private final SimpMessageSendingOperations messagingTemplate;
+  private final DocumentSaveBuffer documentSaveBuffer;
 
   @EventListener
   public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
@@ -22,6 +24,8 @@ public class WebSocketEventListener {
     String documentId = (String) headerAccessor.getSessionAttributes().get("documentId");
     if (documentId != null) {
       log.info("documentId disconnected: {}", documentId);
+      // 연결이 끊긴 사용자의 마지막 변경을 바로 저장
+      documentSaveBuffer.flush(documentId);
       var requestedDocument = RequestedDocument.builder()
           .documentId(documentId)
           .build();
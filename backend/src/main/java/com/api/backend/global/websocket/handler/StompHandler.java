@@ -30,19 +30,15 @@ public class StompHandler implements ChannelInterceptor {
   public Message<?> preSend(Message<?> message, MessageChannel channel) {
     StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
     if (accessor.getCommand() == StompCommand.CONNECT) {
-      String authorizationHeader = accessor.getNativeHeader("Authorization").get(0);
+      String authorizationHeader = accessor.getFirstNativeHeader("Authorization");
       if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
         throw new InsufficientAuthenticationException("No or invalid Authorization header");
       }
 
       String token = authorizationHeader.substring(BEARER_PREFIX.length());
-      if (!jwtTokenProvider.validateAccessToken(token)) {
-        throw new InsufficientAuthenticationException("Invalid access token");
-      }
-
-      Authentication authentication = jwtTokenProvider.getAuthentication(token);
+      Authentication authentication = jwtTokenProvider.authenticate(token);
       if (authentication == null) {
-        throw new InsufficientAuthenticationException("Authentication failed");
+        throw new InsufficientAuthenticationException("Invalid access token");
       }
       accessor.setUser(authentication);
     }
@@ -0,0 +1,63 @@
+package com.api.backend.global.websocket.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * broker 로 들어가는 /topic 메시지를 Redis 문서 채널로 발행해 다른 노드의 구독자에게도 전달한다.
+ * 다른 노드에서 받아 다시 넣은 메시지는 발행하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class StompRedisPublisher implements ChannelInterceptor {
+
+  public static final String RELAYED_HEADER = "stompRelayed";
+
+  @Getter
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public StompRedisPublisher(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    String destination = accessor.getDestination();
+    if (accessor.getMessageType() != SimpMessageType.MESSAGE
+        || !StompRelayChannel.isRelayed(destination)
+        || message.getHeaders().containsKey(RELAYED_HEADER)
+        || !(message.getPayload() instanceof byte[])) {
+      return message;
+    }
+
+    MimeType contentType = accessor.getContentType();
+    StompRelayMessage relayMessage = new StompRelayMessage(nodeId, destination,
+        contentType == null ? null : contentType.toString(), (byte[]) message.getPayload());
+    try {
+      stringRedisTemplate.convertAndSend(
+          StompRelayChannel.of(destination), objectMapper.writeValueAsString(relayMessage));
+    } catch (JsonProcessingException | RuntimeException e) {
+      // 발행에 실패해도 이 노드의 구독자에게는 전송한다.
+      log.warn("STOMP 메시지 발행에 실패하였습니다. destination = {}", destination, e);
+    }
+    return message;
+  }
+}
@@ -0,0 +1,150 @@
+package com.api.backend.global.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 이 노드에 구독자가 있는 문서 채널만 구독하고, 다른 노드가 발행한 메시지를 로컬 broker 로 전달한다.
+ * 구독 수는 STOMP SUBSCRIBE / UNSUBSCRIBE / DISCONNECT 이벤트로 센다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class StompRedisSubscriber implements MessageListener {
+
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final StompRedisPublisher stompRedisPublisher;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final ObjectMapper objectMapper;
+
+  // sessionId -> subscriptionId -> channel
+  private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+  private final Map<String, Integer> channelSubscriberCounts = new HashMap<>();
+
+  @PostConstruct
+  public void init() {
+    redisMessageListenerContainer.addMessageListener(
+        this, new ChannelTopic(StompRelayChannel.global()));
+  }
+
+  @EventListener
+  public void handleSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (!StompRelayChannel.isRelayed(destination)) {
+      return;
+    }
+    subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+        StompRelayChannel.of(destination));
+  }
+
+  @EventListener
+  public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+  }
+
+  @EventListener
+  public void handleDisconnect(SessionDisconnectEvent event) {
+    removeSession(event.getSessionId());
+  }
+
+  @Override
+  public void onMessage(org.springframework.data.redis.connection.Message message,
+      byte[] pattern) {
+    StompRelayMessage relayMessage;
+    try {
+      relayMessage = objectMapper.readValue(message.getBody(), StompRelayMessage.class);
+    } catch (IOException e) {
+      log.warn("STOMP 메시지 변환에 실패하였습니다. channel = {}",
+          new String(message.getChannel()), e);
+      return;
+    }
+    if (stompRedisPublisher.getNodeId().equals(relayMessage.getOriginId())) {
+      return;
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(relayMessage.getDestination());
+    if (relayMessage.getContentType() != null) {
+      accessor.setContentType(MimeTypeUtils.parseMimeType(relayMessage.getContentType()));
+    }
+    accessor.setHeader(StompRedisPublisher.RELAYED_HEADER, Boolean.TRUE);
+    accessor.setLeaveMutable(true);
+    Message<byte[]> brokerMessage =
+        MessageBuilder.createMessage(relayMessage.getPayload(), accessor.getMessageHeaders());
+    messagingTemplate.send(relayMessage.getDestination(), brokerMessage);
+  }
+
+  public synchronized boolean isSubscribed(String channel) {
+    return channelSubscriberCounts.containsKey(channel);
+  }
+
+  private synchronized void subscribe(String sessionId, String subscriptionId, String channel) {
+    String previous = sessionSubscriptions
+        .computeIfAbsent(sessionId, key -> new HashMap<>())
+        .put(subscriptionId, channel);
+    if (previous != null) {
+      release(previous);
+    }
+    if (channelSubscriberCounts.merge(channel, 1, Integer::sum) == 1
+        && !channel.equals(StompRelayChannel.global())) {
+      redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+  }
+
+  private synchronized void unsubscribe(String sessionId, String subscriptionId) {
+    Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+    if (subscriptions == null) {
+      return;
+    }
+    String channel = subscriptions.remove(subscriptionId);
+    if (subscriptions.isEmpty()) {
+      sessionSubscriptions.remove(sessionId);
+    }
+    if (channel != null) {
+      release(channel);
+    }
+  }
+
+  private synchronized void removeSession(String sessionId) {
+    Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+    if (subscriptions != null) {
+      subscriptions.values().forEach(this::release);
+    }
+  }
+
+  // 문서 채널의 마지막 구독자가 나가면 Redis 구독도 해제한다.
+  private void release(String channel) {
+    if (!channelSubscriberCounts.containsKey(channel)) {
+      return;
+    }
+    Integer remaining = channelSubscriberCounts.computeIfPresent(
+        channel, (key, count) -> count > 1 ? count - 1 : null);
+    if (remaining == null && !channel.equals(StompRelayChannel.global())) {
+      redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(channel));
+    }
+  }
+}
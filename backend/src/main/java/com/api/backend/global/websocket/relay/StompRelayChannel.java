@@ -0,0 +1,31 @@
+package com.api.backend.global.websocket.relay;
+
+/**
+ * /topic/{이름}/{문서 id}/... 는 문서별 채널로, 문서 id 가 없는 topic 은 공용 채널로 발행한다.
+ */
+public final class StompRelayChannel {
+
+  public static final String TOPIC_PREFIX = "/topic/";
+
+  private static final String CHANNEL_PREFIX = "stomp:topic:";
+  private static final String GLOBAL_CHANNEL = CHANNEL_PREFIX + "global";
+
+  private StompRelayChannel() {
+  }
+
+  public static boolean isRelayed(String destination) {
+    return destination != null && destination.startsWith(TOPIC_PREFIX);
+  }
+
+  public static String of(String destination) {
+    String[] segments = destination.substring(TOPIC_PREFIX.length()).split("/");
+    if (segments.length < 2 || segments[1].isEmpty()) {
+      return GLOBAL_CHANNEL;
+    }
+    return CHANNEL_PREFIX + segments[1];
+  }
+
+  public static String global() {
+    return GLOBAL_CHANNEL;
+  }
+}
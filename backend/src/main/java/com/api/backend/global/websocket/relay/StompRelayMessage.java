@@ -0,0 +1,16 @@
+package com.api.backend.global.websocket.relay;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StompRelayMessage {
+
+  private String originId; // 발행한 노드
+  private String destination;
+  private String contentType;
+  private byte[] payload;
+}
@@ -0,0 +1,15 @@
+package com.api.backend.member.data.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이메일 미인증 회원 정리 시 (create_dt, member_id) 순서로 넘겨가기 위한 키
+ */
+@Getter
+@AllArgsConstructor
+public class UnverifiedMemberCursor {
+  private final Long memberId;
+  private final LocalDateTime createDt;
+}
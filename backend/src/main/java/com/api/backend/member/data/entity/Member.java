@@ -15,6 +15,7 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
@@ -25,7 +26,11 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "member")
+@Table(
+    name = "member",
+    indexes = @Index(name = "idx_member_email_auth_create_dt",
+        columnList = "is_authenticated_email, create_dt")
+)
 public class Member extends BaseEntity {
 
   @Id
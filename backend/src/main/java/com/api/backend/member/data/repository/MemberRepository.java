@@ -1,9 +1,15 @@
 package com.api.backend.member.data.repository;
 
+import com.api.backend.member.data.dto.UnverifiedMemberCursor;
 import com.api.backend.member.data.entity.Member;
 import com.api.backend.member.data.type.LoginType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,5 +23,32 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByLoginTypeAndSocialId(LoginType loginType, String socialId);
 
-    List<Member> findAllByIsAuthenticatedEmailAndCreateDtBefore(Boolean emailAuthenticationYN, LocalDateTime nowMinusOneYear);
+    /**
+     * cutoff 이전에 가입한 이메일 미인증 회원의 키를 (create_dt, member_id) 순서로 커서 다음부터 조회한다.
+     */
+    @Query("select new com.api.backend.member.data.dto.UnverifiedMemberCursor(m.memberId, m.createDt) "
+        + "from Member m "
+        + "where m.isAuthenticatedEmail = false and m.createDt < :cutoff "
+        + "and (m.createDt > :lastCreateDt or (m.createDt = :lastCreateDt and m.memberId > :lastMemberId)) "
+        + "order by m.createDt, m.memberId")
+    List<UnverifiedMemberCursor> findUnverifiedMembersAfter(
+        @Param("cutoff") LocalDateTime cutoff,
+        @Param("lastCreateDt") LocalDateTime lastCreateDt,
+        @Param("lastMemberId") Long lastMemberId,
+        Pageable pageable);
+
+    /**
+     * 조회 이후 인증을 마친 회원은 지우지 않도록 조건을 다시 확인하고,
+     * 알람이나 팀 참가 기록이 남아 외래키에 걸리는 회원은 제외한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = "delete from member m where m.member_id in :ids "
+            + "and m.is_authenticated_email = false and m.create_dt < :cutoff "
+            + "and not exists (select 1 from notification n where n.member_id = m.member_id) "
+            + "and not exists (select 1 from team_participants tp where tp.member_id = m.member_id)",
+        nativeQuery = true
+    )
+    int deleteUnverifiedMembers(@Param("ids") List<Long> memberIds, @Param("cutoff") LocalDateTime cutoff);
 }
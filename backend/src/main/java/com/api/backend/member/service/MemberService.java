@@ -1,7 +1,6 @@
 package com.api.backend.member.service;
 
 import com.api.backend.member.data.dto.*;
-import com.api.backend.member.data.entity.Member;
 import org.springframework.validation.BindingResult;
 
 import java.time.LocalDateTime;
@@ -28,7 +27,8 @@ public interface MemberService {
 
     void checkEamilDuplicate(String email);
 
-    List<Member> getMembersIsAuthenticatedEmailFalse(Boolean emailAuthenticationYN, LocalDateTime now);
+    List<UnverifiedMemberCursor> getUnverifiedMembersAfter(
+        LocalDateTime cutoff, LocalDateTime lastCreateDt, Long lastMemberId, int size);
 
-    void deleteMember(Member member);
+    int deleteUnverifiedMembers(List<Long> memberIds, LocalDateTime cutoff);
 }
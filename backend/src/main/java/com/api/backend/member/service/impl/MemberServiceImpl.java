@@ -6,6 +6,7 @@ import com.api.backend.global.redis.RedisService;
 import com.api.backend.global.security.data.dto.TokenDto;
 import com.api.backend.global.security.jwt.JwtTokenProvider;
 import com.api.backend.global.security.jwt.service.AuthService;
+import com.api.backend.global.security.jwt.service.TokenRevocationService;
 import com.api.backend.member.data.dto.*;
 import com.api.backend.member.data.entity.Member;
 import com.api.backend.member.data.repository.MemberRepository;
@@ -13,6 +14,7 @@ import com.api.backend.member.data.type.Authority;
 import com.api.backend.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
@@ -38,6 +40,7 @@ public class MemberServiceImpl implements MemberService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
     private final RedisService redisService;
     private final AuthService authService;
     private final MailService mailService;
@@ -147,12 +150,9 @@ public class MemberServiceImpl implements MemberService {
             redisService.deleteValues("RT:" + principal);
         }
 
-        long expiration =
-            jwtTokenProvider.getTokenExpirationTime(requestAccessToken) - new Date().getTime();
-        redisService.setValues(requestAccessToken,
-            "logout",
-            expiration,
-            TimeUnit.MILLISECONDS);
+        tokenRevocationService.revoke(
+            requestAccessToken,
+            jwtTokenProvider.getTokenExpirationTime(requestAccessToken));
 
         return LogoutResponse.builder()
             .message("로그아웃되었습니다.")
@@ -226,14 +226,16 @@ public class MemberServiceImpl implements MemberService {
     }
 
 
-    public List<Member> getMembersIsAuthenticatedEmailFalse(Boolean emailAuthenticationYN,
-        LocalDateTime now) {
-        return memberRepository.findAllByIsAuthenticatedEmailAndCreateDtBefore(
-            emailAuthenticationYN, LocalDateTime.now().minusYears(1));
+    @Override
+    public List<UnverifiedMemberCursor> getUnverifiedMembersAfter(
+        LocalDateTime cutoff, LocalDateTime lastCreateDt, Long lastMemberId, int size) {
+        return memberRepository.findUnverifiedMembersAfter(
+            cutoff, lastCreateDt, lastMemberId, PageRequest.of(0, size));
     }
 
-    public void deleteMember(Member member) {
-        memberRepository.delete(member);
+    @Override
+    public int deleteUnverifiedMembers(List<Long> memberIds, LocalDateTime cutoff) {
+        return memberRepository.deleteUnverifiedMembers(memberIds, cutoff);
     }
 
     private void sendVerificationMail (String email){
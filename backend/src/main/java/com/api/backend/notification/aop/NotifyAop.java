@@ -1,10 +1,10 @@
 package com.api.backend.notification.aop;
 
+import static com.api.backend.global.config.AsyncConfig.EMITTER_SEND_EXECUTOR;
+
 import com.api.backend.member.data.entity.Member;
-import com.api.backend.notification.data.dto.NotificationDto;
 import com.api.backend.notification.data.entity.Notification;
 import com.api.backend.notification.data.type.AlarmType;
-import com.api.backend.notification.service.EmitterService;
 import com.api.backend.notification.service.NotificationService;
 import com.api.backend.notification.service.SendNotificationService;
 import com.api.backend.notification.transfers.MemberNotifyByDto;
@@ -13,31 +13,54 @@ import com.api.backend.notification.transfers.MentionTeamParticipantsNotifyByDto
 import com.api.backend.notification.transfers.TeamParticipantsNotifyByDto;
 import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.service.TeamParticipantsService;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알람 대상 요청과 알람 / outbox 저장을 한 트랜잭션에서 실행한다.
+ * 요청이 커밋되면 알람도 outbox 에 남아 있으므로, 커밋 후에는 전송 요청만 비동기로 보낸다.
+ * (전송 요청이 유실되어도 outbox 주기 전송이 다시 보낸다.)
+ */
 @Aspect
 @Slf4j
 @Component
-@EnableAsync
-@RequiredArgsConstructor
 public class NotifyAop {
 
   private final SendNotificationService sendNotificationService;
   private final TeamParticipantsService teamParticipantsService;
   private final NotificationService notificationService;
-  private final EmitterService emitterService;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor relayExecutor;
+
+  public NotifyAop(
+      SendNotificationService sendNotificationService,
+      TeamParticipantsService teamParticipantsService,
+      NotificationService notificationService,
+      PlatformTransactionManager transactionManager,
+      @Qualifier(EMITTER_SEND_EXECUTOR) Executor relayExecutor
+  ) {
+    this.sendNotificationService = sendNotificationService;
+    this.teamParticipantsService = teamParticipantsService;
+    this.notificationService = notificationService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.relayExecutor = relayExecutor;
+  }
 
   @Pointcut("@annotation(com.api.backend.notification.aop.annotation.MemberSendNotifyByTeam)")
   public void memberPointCut() {
@@ -53,11 +76,30 @@ public class NotifyAop {
   public void mentionTeamParticipantsPointCut() {
   }
 
-  @Async
-  @AfterReturning(pointcut = "memberPointCut()", returning = "result")
-  public void memberCheckNotify(JoinPoint joinPoint, ResponseEntity<MemberNotifyByDto> result) {
+  @Around("memberPointCut()")
+  public Object memberCheckNotify(ProceedingJoinPoint joinPoint) throws Throwable {
+    return proceedAndNotify(joinPoint, result -> memberNotify((MemberNotifyByDto) result.getBody()));
+  }
+
+  @Around("membersPointCut()")
+  public Object membersCheckNotify(ProceedingJoinPoint joinPoint) throws Throwable {
+    return proceedAndNotify(joinPoint, result -> membersNotify((MembersNotifyByDto) result.getBody()));
+  }
+
+  @Around("teamParticipantsPointCut()")
+  public Object teamParticipantsCheckNotify(ProceedingJoinPoint joinPoint) throws Throwable {
+    return proceedAndNotify(joinPoint,
+        result -> teamParticipantsNotify((TeamParticipantsNotifyByDto) result.getBody()));
+  }
+
+  @Around("mentionTeamParticipantsPointCut()")
+  public Object mentionTeamParticipantsCheckNotify(ProceedingJoinPoint joinPoint) throws Throwable {
+    return proceedAndNotify(joinPoint,
+        result -> mentionTeamParticipantsNotify((MentionTeamParticipantsNotifyByDto) result.getBody()));
+  }
+
+  private void memberNotify(MemberNotifyByDto info) {
     log.info("member 알람 진입");
-    MemberNotifyByDto info = result.getBody();
 
     Notification notification = Notification
         .convertToMemberNotify(
@@ -66,25 +108,12 @@ public class NotifyAop {
             , info.getAlarmType()
         );
 
-    SseEmitter emitter = emitterService.getMemberEmitter(info.getMemberId());
-
-    if (emitter == null) {
-      log.info("emitter null");
-      return ;
-    }
-
-    emitterService.sendNotification(emitter, notification);
-    log.info("member 알람전송 종료");
-
     notificationService.saveNotification(notification);
     log.info("member 알람저장 종료");
   }
 
-  @Async
-  @AfterReturning(pointcut = "membersPointCut()", returning = "result")
-  public void membersCheckNotify(JoinPoint joinPoint, ResponseEntity<MembersNotifyByDto> result) {
+  private void membersNotify(MembersNotifyByDto info) {
     log.info("members 알람 진입");
-    MembersNotifyByDto info = result.getBody();
 
     List<Member> members = sendNotificationService
         .getSendMembers(info.getTeamId(), info.getExcludeMemberId());
@@ -104,23 +133,13 @@ public class NotifyAop {
         )
         .collect(Collectors.toList());
 
-    sendNotificationService.sendNotifications(
-        sendNotificationService.getMemberEmitters(members),
-        NotificationDto.from(notifications.get(0))
-    );
-
-    log.info("members 알람전송 종료");
-
-    notificationService.saveAllNotification(notifications);
+    notificationService.saveAllNotification(notifications, info.getTeamId());
     log.info("members 알람저장 종료");
 
   }
 
-  @Async
-  @AfterReturning(pointcut = "teamParticipantsPointCut()", returning = "result")
-  public void teamParticipantsCheckNotify(JoinPoint joinPoint, ResponseEntity<TeamParticipantsNotifyByDto> result) {
+  private void teamParticipantsNotify(TeamParticipantsNotifyByDto info) {
     log.info("teamParticipants 알람 진입");
-    TeamParticipantsNotifyByDto info = result.getBody();
 
     String nickName = info.getTeamParticipantsNickName();
 
@@ -144,23 +163,13 @@ public class NotifyAop {
         )
         .collect(Collectors.toList());
 
-    sendNotificationService.sendNotifications(
-        sendNotificationService.getTeamEmitters(info.getTeamId(), teamParticipants),
-        NotificationDto.from(notifications.get(0))
-    );
-
-    log.info("teamParticipants 알람전송 종료");
-
-    notificationService.saveAllNotification(notifications);
+    notificationService.saveAllNotification(notifications, info.getTeamId());
 
     log.info("teamParticipants 알람저장 종료");
   }
 
-  @Async
-  @AfterReturning(pointcut = "mentionTeamParticipantsPointCut()", returning = "result")
-  public void mentionTeamParticipantsCheckNotify(JoinPoint joinPoint, ResponseEntity<MentionTeamParticipantsNotifyByDto> result) {
+  private void mentionTeamParticipantsNotify(MentionTeamParticipantsNotifyByDto info) {
     log.info("mentionTeamParticipantsPointCut 알람 진입");
-    MentionTeamParticipantsNotifyByDto info = result.getBody();
 
     List<Long> teamParticipantIds = info.getMentionTeamParticipantIds()
         .stream().filter(i -> !i.equals(info.getExcludeTeamParticipantId()))
@@ -191,18 +200,45 @@ public class NotifyAop {
         )
         .collect(Collectors.toList());
 
-    sendNotificationService.sendNotifications(
-        sendNotificationService.getTeamEmitters(info.getTeamId(), teamParticipants),
-        NotificationDto.from(notifications.get(0))
-    );
-
-    log.info("mentionTeamParticipantsPointCut 알람전송 종료");
-
-    notificationService.saveAllNotification(notifications);
+    notificationService.saveAllNotification(notifications, info.getTeamId());
 
     log.info("mentionTeamParticipantsPointCut 알람저장 종료");
 
   }
 
+  private Object proceedAndNotify(
+      ProceedingJoinPoint joinPoint, Consumer<ResponseEntity<?>> notify
+  ) throws Throwable {
+    try {
+      return transactionTemplate.execute(status -> {
+        Object result;
+        try {
+          result = joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw new UndeclaredThrowableException(e);
+        }
+
+        notify.accept((ResponseEntity<?>) result);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            requestRelay();
+          }
+        });
+        return result;
+      });
+    } catch (UndeclaredThrowableException e) {
+      throw e.getUndeclaredThrowable();
+    }
+  }
 
+  private void requestRelay() {
+    try {
+      relayExecutor.execute(sendNotificationService::relayPendingNotifications);
+    } catch (TaskRejectedException e) {
+      log.warn("알람 전송 요청이 거절되어 outbox 주기 전송에서 보냅니다.");
+    }
+  }
 }
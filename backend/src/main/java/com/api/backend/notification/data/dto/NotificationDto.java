@@ -1,6 +1,7 @@
 package com.api.backend.notification.data.dto;
 
 import com.api.backend.notification.data.entity.Notification;
+import com.api.backend.notification.data.entity.NotificationOutbox;
 import com.api.backend.notification.data.type.AlarmType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,15 +13,26 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationDto{
+  private Long notificationId;
   private AlarmType alarmType;
   private String nickName;
   private String message;
 
   public static NotificationDto from(Notification notification) {
     return NotificationDto.builder()
+        .notificationId(notification.getNotificationId())
         .message(notification.getMessage())
         .nickName(notification.getNickName() == null ? null : notification.getNickName())
         .alarmType(notification.getAlarmType())
         .build();
   }
+
+  public static NotificationDto from(NotificationOutbox outbox) {
+    return NotificationDto.builder()
+        .notificationId(outbox.getNotificationId())
+        .message(outbox.getMessage())
+        .nickName(outbox.getNickName())
+        .alarmType(outbox.getAlarmType())
+        .build();
+  }
 }
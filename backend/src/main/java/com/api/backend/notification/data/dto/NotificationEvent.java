@@ -0,0 +1,37 @@
+package com.api.backend.notification.data.dto;
+
+import com.api.backend.notification.data.entity.NotificationOutbox;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간에 전달되는 알람 전송 단위. 받는 쪽은 팀 참가자 또는 회원 중 하나로 정해진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+  private Long teamId;
+  private Long teamParticipantsId;
+  private Long memberId;
+  private NotificationDto notification;
+
+  public static NotificationEvent from(NotificationOutbox outbox) {
+    return NotificationEvent.builder()
+        .teamId(outbox.getTeamId())
+        .teamParticipantsId(outbox.getTeamParticipantsId())
+        .memberId(outbox.getMemberId())
+        .notification(NotificationDto.from(outbox))
+        .build();
+  }
+
+  @JsonIgnore
+  public boolean isTeamParticipantsEvent() {
+    return teamParticipantsId != null;
+  }
+}
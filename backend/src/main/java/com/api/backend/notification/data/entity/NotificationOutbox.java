@@ -0,0 +1,69 @@
+package com.api.backend.notification.data.entity;
+
+import com.api.backend.global.domain.BaseEntity;
+import com.api.backend.notification.data.type.AlarmType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알람 저장과 같은 트랜잭션에 기록되고, relay 가 연결된 emitter 로 전송한 뒤 전송 완료로 표시한다.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(
+    name = "notification_outbox",
+    indexes = @Index(name = "idx_notification_outbox_is_sent", columnList = "is_sent, outbox_id")
+)
+public class NotificationOutbox extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long outboxId;
+
+  private Long notificationId;
+
+  private Long teamId;
+  private Long teamParticipantsId;
+  private Long memberId;
+
+  @Enumerated(EnumType.STRING)
+  private AlarmType alarmType;
+
+  private String nickName;
+  private String message;
+
+  @Column(columnDefinition = "boolean default false")
+  private boolean isSent;
+
+  public static NotificationOutbox from(Notification notification, Long teamId) {
+    return of(notification, notification.getNotificationId(), teamId);
+  }
+
+  public static NotificationOutbox of(Notification notification, Long notificationId, Long teamId) {
+    return NotificationOutbox.builder()
+        .notificationId(notificationId)
+        .teamId(teamId)
+        .teamParticipantsId(notification.getTeamParticipants() == null ? null
+            : notification.getTeamParticipants().getTeamParticipantsId())
+        .memberId(notification.getMember() == null ? null
+            : notification.getMember().getMemberId())
+        .alarmType(notification.getAlarmType())
+        .nickName(notification.getNickName())
+        .message(notification.getMessage())
+        .build();
+  }
+}
@@ -1,73 +1,106 @@
 package com.api.backend.notification.data.repository;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 팀(teamId -> teamParticipantsId) / 회원(memberId) 별로 여러 개의 연결을 보관한다.
+ * 등록, 삭제는 ConcurrentHashMap 의 compute 계열 메서드로 원자적으로 수행한다.
+ */
 @Repository
 public class EmitterRepository {
 
-  private final Map<Long, Map<Long, SseEmitter>> teamEmitterMap = new ConcurrentHashMap<>();
-  private final Map<Long, SseEmitter> memberEmitterMap = new ConcurrentHashMap<>();
+  private final Map<Long, Map<Long, Set<SseEmitter>>> teamEmitterMap = new ConcurrentHashMap<>();
+  private final Map<Long, Set<SseEmitter>> memberEmitterMap = new ConcurrentHashMap<>();
 
-  public void saveTeamParticipantsEmitter(Long teamId, Long emitterId, SseEmitter sseEmitter) {
-    if (!teamEmitterMap.containsKey(teamId)) {
-      Map<Long, SseEmitter> teamParticipantMap = new ConcurrentHashMap<>();
-      teamParticipantMap.put(emitterId, sseEmitter);
+  // 전송 실패한 emitter 를 O(1) 로 제거하기 위한 역방향 인덱스
+  private final Map<SseEmitter, Runnable> emitterRemovers = new ConcurrentHashMap<>();
 
-      teamEmitterMap.put(teamId, teamParticipantMap);
-    } else {
-      Map<Long, SseEmitter> teamParticipantMap = teamEmitterMap.get(teamId);
-      teamParticipantMap.put(emitterId, sseEmitter);
+  public void saveTeamParticipantsEmitter(Long teamId, Long emitterId, SseEmitter sseEmitter) {
+    // 삭제가 빈 컨테이너를 맵에서 떼어내는 것과 겹치지 않도록 추가까지 compute 안에서 수행한다.
+    teamEmitterMap.compute(teamId, (key, teamParticipantMap) -> {
+      if (teamParticipantMap == null) {
+        teamParticipantMap = new ConcurrentHashMap<>();
+      }
+      teamParticipantMap.compute(emitterId, (id, emitters) -> {
+        if (emitters == null) {
+          emitters = ConcurrentHashMap.newKeySet();
+        }
+        emitters.add(sseEmitter);
+        return emitters;
+      });
+      return teamParticipantMap;
+    });
 
-      teamEmitterMap.put(teamId, teamParticipantMap);
-    }
+    emitterRemovers.put(sseEmitter,
+        () -> deleteTeamParticipantEmitter(teamId, emitterId, sseEmitter));
   }
 
   public void saveMemberEmitter(Long memberId, SseEmitter sseEmitter) {
-    memberEmitterMap.put(memberId, sseEmitter);
+    memberEmitterMap.compute(memberId, (key, emitters) -> {
+      if (emitters == null) {
+        emitters = ConcurrentHashMap.newKeySet();
+      }
+      emitters.add(sseEmitter);
+      return emitters;
+    });
+
+    emitterRemovers.put(sseEmitter, () -> deleteMemberEmitter(memberId, sseEmitter));
   }
 
-  public void deleteTeamParticipantEmitter(Long teamId, Long emitterId) {
-    if (!teamEmitterMap.containsKey(teamId)) {
-      return;
-    }
+  public void deleteTeamParticipantEmitter(Long teamId, Long emitterId, SseEmitter sseEmitter) {
+    emitterRemovers.remove(sseEmitter);
 
-    Map<Long, SseEmitter> teamParticipantMap = teamEmitterMap.get(teamId);
-    teamParticipantMap.remove(emitterId);
+    teamEmitterMap.computeIfPresent(teamId, (key, teamParticipantMap) -> {
+      teamParticipantMap.computeIfPresent(emitterId, (id, emitters) -> {
+        emitters.remove(sseEmitter);
+        return emitters.isEmpty() ? null : emitters;
+      });
+      return teamParticipantMap.isEmpty() ? null : teamParticipantMap;
+    });
+  }
 
-    if (teamParticipantMap.isEmpty()) {
-      teamEmitterMap.remove(teamId);
-      return;
-    }
+  public void deleteMemberEmitter(Long memberId, SseEmitter sseEmitter) {
+    emitterRemovers.remove(sseEmitter);
 
-    teamEmitterMap.put(teamId, teamParticipantMap);
+    memberEmitterMap.computeIfPresent(memberId, (key, emitters) -> {
+      emitters.remove(sseEmitter);
+      return emitters.isEmpty() ? null : emitters;
+    });
   }
-  public void deleteMemberEmitter(Long memberId) {
-    memberEmitterMap.remove(memberId);
+
+  public void delete(SseEmitter sseEmitter) {
+    Runnable remover = emitterRemovers.remove(sseEmitter);
+    if (remover != null) {
+      remover.run();
+    }
   }
-  public SseEmitter getTeamParticipantEmitter(Long teamId, Long emitterId) {
-    if (teamEmitterMap.isEmpty() || !teamEmitterMap.containsKey(teamId)) {
-      return null;
+
+  public Set<SseEmitter> getTeamParticipantEmitters(Long teamId, Long emitterId) {
+    Map<Long, Set<SseEmitter>> teamParticipantMap = teamEmitterMap.get(teamId);
+    if (teamParticipantMap == null) {
+      return Collections.emptySet();
     }
+    return teamParticipantMap.getOrDefault(emitterId, Collections.emptySet());
+  }
 
-    Map<Long, SseEmitter> emitterHashMap = teamEmitterMap.get(teamId);
+  public Set<SseEmitter> getMemberEmitters(Long memberId) {
+    return memberEmitterMap.getOrDefault(memberId, Collections.emptySet());
+  }
 
-    if (emitterHashMap.isEmpty()) {
-      return null;
-    }
+  public boolean hasTeamEmitters(Long teamId) {
+    return teamEmitterMap.containsKey(teamId);
+  }
 
-    if (emitterHashMap.containsKey(emitterId)) {
-      return emitterHashMap.get(emitterId);
-    }
-    return null;
+  public boolean hasMemberEmitters(Long memberId) {
+    return memberEmitterMap.containsKey(memberId);
   }
 
-  public SseEmitter getEmitter(Long memberId) {
-    if (memberEmitterMap.containsKey(memberId)) {
-      return memberEmitterMap.get(memberId);
-    }
-    return null;
+  public Set<SseEmitter> getAllEmitters() {
+    return Collections.unmodifiableSet(emitterRemovers.keySet());
   }
 }
@@ -0,0 +1,117 @@
+package com.api.backend.notification.data.repository;
+
+import com.api.backend.notification.data.entity.Notification;
+import com.api.backend.notification.data.entity.NotificationOutbox;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 팀 전체 알람처럼 여러 건을 한 번에 저장할 때 엔티티를 거치지 않고 multi-row insert 로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private static final String NOTIFICATION_INSERT_QUERY =
+      "insert into notification "
+          + "(create_dt, update_dt, alarm_type, nick_name, message, is_read, member_id, team_participants_id) "
+          + "values ";
+  private static final String NOTIFICATION_VALUES = "(?, ?, ?, ?, ?, false, ?, ?)";
+
+  private static final String OUTBOX_INSERT_QUERY =
+      "insert into notification_outbox "
+          + "(create_dt, update_dt, notification_id, team_id, team_participants_id, member_id, "
+          + "alarm_type, nick_name, message, is_sent) "
+          + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 알람을 저장하고 생성된 id 를 저장 순서대로 반환한다.
+   */
+  public List<Long> batchInsert(List<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Long> notificationIds = new ArrayList<>(notifications.size());
+    for (int from = 0; from < notifications.size(); from += CHUNK_SIZE) {
+      List<Notification> chunk =
+          notifications.subList(from, Math.min(from + CHUNK_SIZE, notifications.size()));
+      notificationIds.addAll(insertChunk(chunk, now));
+    }
+    return notificationIds;
+  }
+
+  public void batchInsertOutboxes(List<NotificationOutbox> outboxes) {
+    if (outboxes.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> batchArgs = new ArrayList<>(outboxes.size());
+    for (NotificationOutbox outbox : outboxes) {
+      batchArgs.add(new Object[]{
+          now, now, outbox.getNotificationId(), outbox.getTeamId(),
+          outbox.getTeamParticipantsId(), outbox.getMemberId(),
+          outbox.getAlarmType() == null ? null : outbox.getAlarmType().name(),
+          outbox.getNickName(), outbox.getMessage()
+      });
+    }
+    jdbcTemplate.batchUpdate(OUTBOX_INSERT_QUERY, batchArgs);
+  }
+
+  private List<Long> insertChunk(List<Notification> chunk, Timestamp now) {
+    String sql = NOTIFICATION_INSERT_QUERY
+        + String.join(", ", Collections.nCopies(chunk.size(), NOTIFICATION_VALUES));
+
+    KeyHolder keyHolder = new GeneratedKeyHolder();
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+      int index = 1;
+      for (Notification notification : chunk) {
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index++, now);
+        ps.setString(index++,
+            notification.getAlarmType() == null ? null : notification.getAlarmType().name());
+        ps.setString(index++, notification.getNickName());
+        ps.setString(index++, notification.getMessage());
+        setLong(ps, index++,
+            notification.getMember() == null ? null : notification.getMember().getMemberId());
+        setLong(ps, index++, notification.getTeamParticipants() == null ? null
+            : notification.getTeamParticipants().getTeamParticipantsId());
+      }
+      return ps;
+    }, keyHolder);
+
+    List<Long> ids = new ArrayList<>(chunk.size());
+    for (Map<String, Object> key : keyHolder.getKeyList()) {
+      ids.add(((Number) key.values().iterator().next()).longValue());
+    }
+    return ids;
+  }
+
+  private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.BIGINT);
+    } else {
+      ps.setLong(index, value);
+    }
+  }
+}
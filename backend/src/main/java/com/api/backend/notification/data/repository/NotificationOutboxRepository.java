@@ -0,0 +1,41 @@
+package com.api.backend.notification.data.repository;
+
+import com.api.backend.notification.data.entity.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+  /**
+   * 여러 노드가 동시에 전송하더라도 같은 항목을 중복으로 가져가지 않도록 잠긴 행은 건너뛴다.
+   */
+  @Query(
+      value = "select * from notification_outbox o where o.is_sent = false "
+          + "order by o.outbox_id limit :size for update skip locked",
+      nativeQuery = true
+  )
+  List<NotificationOutbox> findPendingForUpdate(@Param("size") int size);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value = "update notification_outbox o set o.is_sent = true where o.outbox_id in :ids",
+      nativeQuery = true
+  )
+  int markSentByIdIn(@Param("ids") List<Long> outboxIds);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value = "delete from notification_outbox o where o.is_sent = true and o.create_dt < :dt",
+      nativeQuery = true
+  )
+  int deleteAllSentBefore(@Param("dt") LocalDateTime dt);
+}
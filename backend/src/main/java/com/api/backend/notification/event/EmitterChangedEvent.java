@@ -0,0 +1,23 @@
+package com.api.backend.notification.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이 노드에 팀 또는 회원의 emitter 가 등록되거나 제거된 경우 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class EmitterChangedEvent {
+
+  private final Long teamId;
+  private final Long memberId;
+
+  public static EmitterChangedEvent ofTeam(Long teamId) {
+    return new EmitterChangedEvent(teamId, null);
+  }
+
+  public static EmitterChangedEvent ofMember(Long memberId) {
+    return new EmitterChangedEvent(null, memberId);
+  }
+}
@@ -0,0 +1,18 @@
+package com.api.backend.notification.redis;
+
+public final class NotificationChannel {
+
+  private static final String TEAM_CHANNEL_PREFIX = "notification:team:";
+  private static final String MEMBER_CHANNEL_PREFIX = "notification:member:";
+
+  private NotificationChannel() {
+  }
+
+  public static String team(Long teamId) {
+    return TEAM_CHANNEL_PREFIX + teamId;
+  }
+
+  public static String member(Long memberId) {
+    return MEMBER_CHANNEL_PREFIX + memberId;
+  }
+}
@@ -0,0 +1,79 @@
+package com.api.backend.notification.redis;
+
+import com.api.backend.notification.data.dto.NotificationEvent;
+import com.api.backend.notification.data.repository.EmitterRepository;
+import com.api.backend.notification.event.EmitterChangedEvent;
+import com.api.backend.notification.service.NotificationDeliveryService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 노드에 emitter 가 있는 팀/회원 채널만 구독하고, 받은 알람을 로컬 emitter 로 전송한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.redis-relay.enabled", havingValue = "true")
+public class NotificationRedisSubscriber implements MessageListener {
+
+  private static final TypeReference<List<NotificationEvent>> EVENT_LIST_TYPE =
+      new TypeReference<List<NotificationEvent>>() {};
+
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final EmitterRepository emitterRepository;
+  private final NotificationDeliveryService notificationDeliveryService;
+  private final ObjectMapper objectMapper;
+
+  private final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
+
+  @EventListener
+  public void handleEmitterChanged(EmitterChangedEvent event) {
+    if (event.getTeamId() != null) {
+      refresh(NotificationChannel.team(event.getTeamId()),
+          () -> emitterRepository.hasTeamEmitters(event.getTeamId()));
+    }
+    if (event.getMemberId() != null) {
+      refresh(NotificationChannel.member(event.getMemberId()),
+          () -> emitterRepository.hasMemberEmitters(event.getMemberId()));
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      List<NotificationEvent> events = objectMapper.readValue(message.getBody(), EVENT_LIST_TYPE);
+      notificationDeliveryService.deliverLocally(events);
+    } catch (IOException e) {
+      log.warn("알람 메시지 변환에 실패하였습니다. channel = {}", new String(message.getChannel()), e);
+    }
+  }
+
+  public boolean isSubscribed(String channel) {
+    return subscribedChannels.contains(channel);
+  }
+
+  // 구독 여부 판단과 구독/해제를 한 번에 처리해야 마지막 emitter 제거와 새 등록이 겹쳐도 어긋나지 않는다.
+  private synchronized void refresh(String channel, BooleanSupplier hasLocalEmitters) {
+    if (hasLocalEmitters.getAsBoolean()) {
+      if (subscribedChannels.add(channel)) {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+      }
+    } else if (subscribedChannels.remove(channel)) {
+      redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(channel));
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.api.backend.notification.scheduler;
+
+import com.api.backend.notification.service.EmitterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmitterHeartbeatScheduler {
+
+  private final EmitterService emitterService;
+
+  @Scheduled(
+      fixedDelayString = "${notification.heartbeat-interval:30000}",
+      initialDelayString = "${notification.heartbeat-interval:30000}"
+  )
+  public void sendHeartbeat() {
+    int evicted = emitterService.sendHeartbeat();
+    if (evicted > 0) {
+      log.info("끊어진 emitter 제거 : {}개, 남은 emitter : {}개",
+          evicted, emitterService.getEmitterCount());
+    }
+  }
+}
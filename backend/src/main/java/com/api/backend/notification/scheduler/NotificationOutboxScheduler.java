@@ -0,0 +1,33 @@
+package com.api.backend.notification.scheduler;
+
+import com.api.backend.notification.service.SendNotificationService;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+  private static final long SENT_RETENTION_DAYS = 1;
+
+  private final SendNotificationService sendNotificationService;
+
+  /**
+   * advice 에서 바로 전송하지 못하고 남은 항목(서버 재시작, 전송 실패 등)을 주기적으로 전송한다.
+   */
+  @Scheduled(fixedDelayString = "${notification.outbox.relay-interval:5000}")
+  public void relayPendingNotifications() {
+    sendNotificationService.relayPendingNotifications();
+  }
+
+  @Scheduled(cron = "0 0 * * * *") // 매시 정각
+  public void deleteSentOutbox() {
+    int deleted = sendNotificationService
+        .deleteSentOutboxBefore(LocalDateTime.now().minusDays(SENT_RETENTION_DAYS));
+    log.info("전송 완료된 알람 outbox 삭제 : {}개", deleted);
+  }
+}
@@ -0,0 +1,139 @@
+package com.api.backend.notification.service;
+
+import static com.api.backend.global.config.AsyncConfig.EMITTER_EVICT_EXECUTOR;
+import static com.api.backend.global.config.AsyncConfig.NOTIFICATION_FAN_OUT_EXECUTOR;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * emitter 마다 전송을 따로 실행해 느린 연결 하나가 전체 전송을 막지 않도록 한다.
+ */
+@Slf4j
+@Service
+public class EmitterFanOutService {
+
+  private static final String SEND_METRIC = "notification.fan-out.send";
+
+  private final EmitterService emitterService;
+  private final ThreadPoolTaskExecutor executor;
+  private final Executor evictExecutor;
+  private final Duration sendTimeout;
+
+  private final Timer successTimer;
+  private final Timer failureTimer;
+  private final Counter timeoutCounter;
+  private final Counter droppedCounter;
+
+  public EmitterFanOutService(
+      EmitterService emitterService,
+      @Qualifier(NOTIFICATION_FAN_OUT_EXECUTOR) ThreadPoolTaskExecutor executor,
+      @Qualifier(EMITTER_EVICT_EXECUTOR) Executor evictExecutor,
+      @Value("${notification.fan-out.send-timeout:3s}") Duration sendTimeout,
+      MeterRegistry meterRegistry
+  ) {
+    this.emitterService = emitterService;
+    this.executor = executor;
+    this.evictExecutor = evictExecutor;
+    this.sendTimeout = sendTimeout;
+
+    this.successTimer = meterRegistry.timer(SEND_METRIC, "result", "success");
+    this.failureTimer = meterRegistry.timer(SEND_METRIC, "result", "failure");
+    this.timeoutCounter = meterRegistry.counter("notification.fan-out.timeouts");
+    this.droppedCounter = meterRegistry.counter("notification.fan-out.dropped");
+    Gauge.builder("notification.fan-out.queue.size", executor,
+            e -> e.getThreadPoolExecutor().getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("notification.fan-out.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  /**
+   * emitter 별 전송은 병렬로, 한 emitter 에 보낼 여러 건은 순서대로 전송한다.
+   * 전송 제한 시간 안에 끝난 emitter 수를 반환하고, 제한 시간을 넘긴 연결은 제거한다.
+   */
+  public int sendAll(Map<SseEmitter, List<Object>> deliveries) {
+    List<CompletableFuture<Boolean>> futures = new ArrayList<>(deliveries.size());
+
+    for (Map.Entry<SseEmitter, List<Object>> delivery : deliveries.entrySet()) {
+      SseEmitter emitter = delivery.getKey();
+      ListenableFuture<Boolean> task;
+      try {
+        task = executor.submitListenable(() -> send(emitter, delivery.getValue()));
+      } catch (TaskRejectedException e) {
+        droppedCounter.increment();
+        continue;
+      }
+
+      // 제한 시간이 지나면 JVM 공용 delayer 스레드에서 완료되므로 여기서는 막히는 작업을 하지 않는다.
+      futures.add(
+          task.completable()
+              .completeOnTimeout(null, sendTimeout.toMillis(), TimeUnit.MILLISECONDS)
+              .exceptionally(throwable -> false)
+              .thenApply(sent -> {
+                if (sent == null) {
+                  onTimeout(emitter, task);
+                  return false;
+                }
+                return sent;
+              })
+      );
+    }
+
+    int dropped = deliveries.size() - futures.size();
+    if (dropped > 0) {
+      log.warn("전송 큐가 가득 차 알람 전송을 생략합니다. 생략 건수 : {}", dropped);
+    }
+
+    return (int) futures.stream()
+        .map(CompletableFuture::join)
+        .filter(Boolean::booleanValue)
+        .count();
+  }
+
+  /**
+   * 멈춘 전송 스레드를 interrupt 로 풀어주고, 연결 종료는 emitter 의 전송 lock 을 기다릴 수 있어 별도 스레드에서 한다.
+   */
+  private void onTimeout(SseEmitter emitter, Future<Boolean> task) {
+    timeoutCounter.increment();
+    task.cancel(true);
+    TimeoutException exception = new TimeoutException("알람 전송 제한 시간 초과");
+    try {
+      evictExecutor.execute(() -> emitterService.evict(emitter, exception));
+    } catch (TaskRejectedException e) {
+      log.warn("연결 종료 큐가 가득 차 heartbeat 에서 정리합니다.");
+    }
+  }
+
+  private boolean send(SseEmitter emitter, List<Object> payloads) {
+    long start = System.nanoTime();
+    boolean sent = true;
+    for (Object payload : payloads) {
+      if (!emitterService.sendNotification(emitter, payload)) {
+        sent = false;
+        break;
+      }
+    }
+    (sent ? successTimer : failureTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return sent;
+  }
+}
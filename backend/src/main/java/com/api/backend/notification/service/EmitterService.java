@@ -4,12 +4,16 @@ import com.api.backend.global.exception.CustomException;
 import com.api.backend.global.exception.type.ErrorCode;
 import com.api.backend.member.data.repository.MemberRepository;
 import com.api.backend.notification.data.repository.EmitterRepository;
-import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.notification.event.EmitterChangedEvent;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.service.TeamParticipantsService;
 import com.api.backend.team.service.TeamService;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -24,7 +28,9 @@ public class EmitterService {
   private final TeamParticipantsService teamParticipantsService;
   private final MemberRepository memberRepository;
   private final TeamService teamService;
+  private final ApplicationEventPublisher applicationEventPublisher;
   private static final String DUMMY_DATA = "dummy data";
+  private static final String HEARTBEAT_COMMENT = "heartbeat";
 
 
   /**
@@ -37,18 +43,22 @@ public class EmitterService {
       throw new CustomException(ErrorCode.TEAM_NOT_FOUND_EXCEPTION);
     }
 
-    TeamParticipants teamParticipant = teamParticipantsService.getTeamParticipant(teamId, memberId);
+    TeamMembership teamParticipant = teamParticipantsService.getTeamMembership(teamId, memberId);
 
     SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
     Long teamParticipantsId = teamParticipant.getTeamParticipantsId();
     emitterRepository.saveTeamParticipantsEmitter(
         teamId, teamParticipantsId, emitter
     );
+    applicationEventPublisher.publishEvent(EmitterChangedEvent.ofTeam(teamId));
 
-    emitter.onCompletion(() -> emitterRepository.deleteTeamParticipantEmitter(teamId, teamParticipantsId));
-    emitter.onTimeout(() ->
-        emitterRepository.deleteTeamParticipantEmitter(teamId, teamParticipantsId)
-    );
+    Runnable remove = () -> {
+      emitterRepository.deleteTeamParticipantEmitter(teamId, teamParticipantsId, emitter);
+      applicationEventPublisher.publishEvent(EmitterChangedEvent.ofTeam(teamId));
+    };
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(throwable -> remove.run());
 
 
     sendNotification(emitter, DUMMY_DATA);
@@ -68,11 +78,15 @@ public class EmitterService {
 
     SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
     emitterRepository.saveMemberEmitter(memberId,emitter);
+    applicationEventPublisher.publishEvent(EmitterChangedEvent.ofMember(memberId));
 
-    emitter.onCompletion(() -> emitterRepository.deleteMemberEmitter(memberId));
-    emitter.onTimeout(() ->
-        emitterRepository.deleteMemberEmitter(memberId)
-    );
+    Runnable remove = () -> {
+      emitterRepository.deleteMemberEmitter(memberId, emitter);
+      applicationEventPublisher.publishEvent(EmitterChangedEvent.ofMember(memberId));
+    };
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(throwable -> remove.run());
 
 
     sendNotification(emitter, DUMMY_DATA);
@@ -82,28 +96,58 @@ public class EmitterService {
 
   /**
    * 메시지 전송
+   * 전송에 실패한 연결은 끊어진 것으로 보고 바로 제거한다.
    */
-  public void sendNotification(SseEmitter emitter,Object data) {
+  public boolean sendNotification(SseEmitter emitter, Object data) {
     try {
       emitter.send(
           data, MediaType.APPLICATION_JSON
       );
-    } catch (IOException exception) {
+      return true;
+    } catch (IOException | IllegalStateException exception) {
       log.info("발송 에러 : " + exception.getMessage());
+      evict(emitter, exception);
+      return false;
     }
   }
 
-  public SseEmitter getMemberEmitter(Long memberId) {
-    return emitterRepository.getEmitter(memberId);
+  /**
+   * 모든 연결에 주석 이벤트를 보내 반쯤 끊긴 연결을 timeout 전에 찾아 제거한다.
+   */
+  public int sendHeartbeat() {
+    int evicted = 0;
+    for (SseEmitter emitter : new ArrayList<>(emitterRepository.getAllEmitters())) {
+      try {
+        emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+      } catch (IOException | IllegalStateException exception) {
+        evict(emitter, exception);
+        evicted++;
+      }
+    }
+    return evicted;
   }
 
-  public SseEmitter getTeamParticipantEmitters(Long teamId, Long customId) {
-    SseEmitter sseEmitter = emitterRepository.getTeamParticipantEmitter(teamId, customId);
+  public List<SseEmitter> getMemberEmitters(Long memberId) {
+    return new ArrayList<>(emitterRepository.getMemberEmitters(memberId));
+  }
 
-    if (sseEmitter == null) {
-      return null;
-    }
+  public List<SseEmitter> getTeamParticipantEmitters(Long teamId, Long customId) {
+    return new ArrayList<>(emitterRepository.getTeamParticipantEmitters(teamId, customId));
+  }
+
+  public int getEmitterCount() {
+    return emitterRepository.getAllEmitters().size();
+  }
 
-    return sseEmitter;
+  /**
+   * 연결을 목록에서 제거하고 종료한다.
+   */
+  public void evict(SseEmitter emitter, Exception exception) {
+    emitterRepository.delete(emitter);
+    try {
+      emitter.completeWithError(exception);
+    } catch (IllegalStateException ignored) {
+      // 이미 완료된 연결
+    }
   }
 }
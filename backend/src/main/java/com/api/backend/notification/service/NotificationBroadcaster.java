@@ -0,0 +1,68 @@
+package com.api.backend.notification.service;
+
+import com.api.backend.notification.data.dto.NotificationEvent;
+import com.api.backend.notification.redis.NotificationChannel;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis relay 를 쓰면 팀/회원 채널로 발행해 해당 emitter 를 가진 노드가 전송하고,
+ * 쓰지 않으면(단일 노드) 바로 로컬 emitter 로 전송한다.
+ */
+@Slf4j
+@Service
+public class NotificationBroadcaster {
+
+  private final boolean redisRelayEnabled;
+  private final NotificationDeliveryService notificationDeliveryService;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public NotificationBroadcaster(
+      @Value("${notification.redis-relay.enabled:false}") boolean redisRelayEnabled,
+      NotificationDeliveryService notificationDeliveryService,
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper
+  ) {
+    this.redisRelayEnabled = redisRelayEnabled;
+    this.notificationDeliveryService = notificationDeliveryService;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  public void broadcast(List<NotificationEvent> events) {
+    if (!redisRelayEnabled) {
+      notificationDeliveryService.deliverLocally(events);
+      return;
+    }
+
+    Map<String, List<NotificationEvent>> eventsByChannel = events.stream()
+        .collect(Collectors.groupingBy(
+            NotificationBroadcaster::channelOf, LinkedHashMap::new, Collectors.toList()));
+
+    for (Map.Entry<String, List<NotificationEvent>> entry : eventsByChannel.entrySet()) {
+      try {
+        stringRedisTemplate.convertAndSend(
+            entry.getKey(), objectMapper.writeValueAsString(entry.getValue()));
+      } catch (JsonProcessingException | RuntimeException e) {
+        // 발행에 실패해도 이 노드에 연결된 사용자에게는 전송한다.
+        log.warn("알람 발행에 실패하였습니다. channel = {}", entry.getKey(), e);
+        notificationDeliveryService.deliverLocally(entry.getValue());
+      }
+    }
+  }
+
+  private static String channelOf(NotificationEvent event) {
+    return event.isTeamParticipantsEvent()
+        ? NotificationChannel.team(event.getTeamId())
+        : NotificationChannel.member(event.getMemberId());
+  }
+}
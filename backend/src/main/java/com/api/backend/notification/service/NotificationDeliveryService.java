@@ -0,0 +1,52 @@
+package com.api.backend.notification.service;
+
+import com.api.backend.notification.data.dto.NotificationEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 노드가 가진 emitter 에만 알람을 전송한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDeliveryService {
+
+  private final EmitterService emitterService;
+  private final EmitterFanOutService emitterFanOutService;
+
+  public int deliverLocally(List<NotificationEvent> events) {
+    Map<SseEmitter, List<Object>> deliveries = new LinkedHashMap<>();
+    for (NotificationEvent event : events) {
+      for (SseEmitter emitter : getEmitters(event)) {
+        deliveries.computeIfAbsent(emitter, key -> new ArrayList<>()).add(event.getNotification());
+      }
+    }
+
+    if (deliveries.isEmpty()) {
+      return 0;
+    }
+
+    int sent = emitterFanOutService.sendAll(deliveries);
+    log.info("알람 전송 : {}/{}", sent, deliveries.size());
+    return sent;
+  }
+
+  private List<SseEmitter> getEmitters(NotificationEvent event) {
+    if (event.isTeamParticipantsEvent()) {
+      return emitterService.getTeamParticipantEmitters(
+          event.getTeamId(), event.getTeamParticipantsId()
+      );
+    }
+    if (event.getMemberId() != null) {
+      return emitterService.getMemberEmitters(event.getMemberId());
+    }
+    return List.of();
+  }
+}
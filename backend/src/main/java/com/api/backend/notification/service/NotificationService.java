@@ -8,13 +8,18 @@ import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.member.data.entity.Member;
 import com.api.backend.notification.data.entity.Notification;
+import com.api.backend.notification.data.entity.NotificationOutbox;
+import com.api.backend.notification.data.repository.NotificationJdbcRepository;
+import com.api.backend.notification.data.repository.NotificationOutboxRepository;
 import com.api.backend.notification.data.repository.NotificationRepository;
 import com.api.backend.team.data.entity.Team;
 import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.service.TeamParticipantsService;
 import com.api.backend.team.service.TeamService;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,16 +32,46 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
   private final NotificationRepository notificationRepository;
+  private final NotificationOutboxRepository notificationOutboxRepository;
+  private final NotificationJdbcRepository notificationJdbcRepository;
   private final TeamParticipantsService teamParticipantsService;
   private final TeamService teamService;
 
-  public void saveAllNotification(List<Notification> notifications) {
-    notificationRepository.saveAll(notifications);
+  /**
+   * 알람과 전송 대기(outbox) 항목을 같은 트랜잭션에서 저장한다.
+   * 전송은 커밋 이후 relay 가 담당하므로 연결이 없는 사용자도 알람을 잃지 않는다.
+   **/
+  public void saveAllNotification(List<Notification> notifications, Long teamId) {
+    List<Long> notificationIds = notificationJdbcRepository.batchInsert(notifications);
+
+    List<NotificationOutbox> outboxes = new ArrayList<>(notifications.size());
+    for (int i = 0; i < notifications.size(); i++) {
+      outboxes.add(NotificationOutbox.of(notifications.get(i), notificationIds.get(i), teamId));
+    }
+    notificationJdbcRepository.batchInsertOutboxes(outboxes);
   }
 
 
+  /**
+   * 전송 대기 항목을 가져오면서 전송 완료로 표시한다.
+   * 전송은 커밋 이후에 하므로 전송 도중 실패해도 알람은 목록 조회로 받을 수 있다.
+   **/
+  public List<NotificationOutbox> claimPendingOutboxes(int size) {
+    List<NotificationOutbox> outboxes = notificationOutboxRepository.findPendingForUpdate(size);
+
+    if (!outboxes.isEmpty()) {
+      notificationOutboxRepository.markSentByIdIn(
+          outboxes.stream()
+              .map(NotificationOutbox::getOutboxId)
+              .collect(Collectors.toList())
+      );
+    }
+    return outboxes;
+  }
+
   public void saveNotification(Notification notification) {
     notificationRepository.save(notification);
+    notificationOutboxRepository.save(NotificationOutbox.from(notification, null));
   }
 
 
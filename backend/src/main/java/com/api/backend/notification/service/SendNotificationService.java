@@ -1,73 +1,78 @@
 package com.api.backend.notification.service;
 
 import com.api.backend.member.data.entity.Member;
-import com.api.backend.notification.data.dto.NotificationDto;
+import com.api.backend.notification.data.dto.NotificationEvent;
+import com.api.backend.notification.data.entity.NotificationOutbox;
+import com.api.backend.notification.data.repository.NotificationOutboxRepository;
 import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.service.TeamParticipantsService;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class SendNotificationService {
 
-  private final EmitterService emitterService;
+  private static final int RELAY_BATCH_SIZE = 500;
+
+  private final NotificationService notificationService;
+  private final NotificationBroadcaster notificationBroadcaster;
   private final TeamParticipantsService teamParticipantsService;
+  private final NotificationOutboxRepository notificationOutboxRepository;
 
-  public void sendNotifications(List<SseEmitter> sseEmitters, NotificationDto notificationDto) {
+  private final ReentrantLock relayLock = new ReentrantLock();
+  private final AtomicBoolean relayRequested = new AtomicBoolean();
 
-    if (sseEmitters.isEmpty()) {
-      log.info("알람 항목이 없음");
-      return;
-    }
+  /**
+   * 전송 대기 중인 알람을 가져와 전송 완료로 표시한 뒤 emitter 를 가진 노드로 전달한다.
+   * 이미 다른 스레드가 전송 중이면 요청만 남기고, 전송 중인 스레드가 한 번 더 확인한다.
+   **/
+  public void relayPendingNotifications() {
+    relayRequested.set(true);
 
-    for (SseEmitter emitter : sseEmitters) {
-      emitterService.sendNotification(emitter, notificationDto);
+    while (relayRequested.get() && relayLock.tryLock()) {
+      try {
+        relayRequested.set(false);
+        while (relayBatch() == RELAY_BATCH_SIZE) {
+          log.info("알람 전송 대기 항목이 남아 이어서 전송");
+        }
+      } finally {
+        relayLock.unlock();
+      }
     }
   }
 
-  public List<SseEmitter> getTeamEmitters(
-      Long teamId,
-      List<TeamParticipants> teamParticipants
-  ) {
-
-    List<SseEmitter> sseEmitters = new ArrayList<>();
-    for (TeamParticipants teamParticipant : teamParticipants) {
+  /**
+   * 전송이 끝난 outbox 항목 정리
+   **/
+  public int deleteSentOutboxBefore(LocalDateTime dt) {
+    return notificationOutboxRepository.deleteAllSentBefore(dt);
+  }
 
+  private int relayBatch() {
+    List<NotificationOutbox> outboxes = notificationService.claimPendingOutboxes(RELAY_BATCH_SIZE);
 
-      SseEmitter sseEmitter = emitterService.getTeamParticipantEmitters(
-          teamId,
-          teamParticipant.getTeamParticipantsId()
-      );
-      if (sseEmitter == null) {
-        continue;
-      }
-
-      sseEmitters.add(
-          sseEmitter
-      );
+    if (outboxes.isEmpty()) {
+      return 0;
     }
-    return sseEmitters;
-  }
 
-  public List<SseEmitter> getMemberEmitters(List<Member> members) {
-    List<SseEmitter> sseEmitters = new ArrayList<>();
+    notificationBroadcaster.broadcast(
+        outboxes.stream()
+            .map(NotificationEvent::from)
+            .collect(Collectors.toList())
+    );
 
-    for (Member member : members) {
-      SseEmitter sseEmitter = emitterService.getMemberEmitter(member.getMemberId());
-      if (sseEmitter != null) {
-        sseEmitters.add(sseEmitter);
-      }
-    }
-    return sseEmitters;
+    return outboxes.size();
   }
+
   @Transactional
   public List<Member> getSendMembers(Long teamId, Long excludeMemberId) {
     return teamParticipantsService.getTeamParticipantsByExcludeMemberId(
@@ -75,4 +80,4 @@ public class SendNotificationService {
         .map(TeamParticipants::getMember)
         .collect(Collectors.toList());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,377 @@
+package com.api.backend.schedule.cache;
+
+import com.api.backend.category.type.CategoryType;
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.schedule.data.dto.AllSchedulesMonthlyView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class ScheduleCalendarCache {
+
+  private static final String REDIS_KEY_PREFIX = "calendar:";
+  private static final String ALL_CATEGORY = "ALL";
+  private static final TypeReference<List<AllSchedulesMonthlyView>> VIEW_LIST_TYPE =
+      new TypeReference<List<AllSchedulesMonthlyView>>() {};
+
+  private final int maxSize;
+  private final Duration ttl;
+  private final boolean redisEnabled;
+  private final RedisService redisService;
+  private final ObjectMapper objectMapper;
+
+  private final Map<CalendarKey, CalendarEntry> entries;
+  // 캐시된 달이나 진행 중인 조회가 있는 팀만 보관하고, 둘 다 없어지면 지운다.
+  private final Map<Long, TeamState> teamStates = new HashMap<>();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter evictionCounter;
+  private final Counter invalidationCounter;
+
+  public ScheduleCalendarCache(
+      @Value("${schedule.calendar-cache.max-size:10000}") int maxSize,
+      @Value("${schedule.calendar-cache.ttl:10m}") Duration ttl,
+      @Value("${schedule.calendar-cache.redis-enabled:false}") boolean redisEnabled,
+      RedisService redisService,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry
+  ) {
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+    this.redisEnabled = redisEnabled;
+    this.redisService = redisService;
+    this.objectMapper = objectMapper;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CalendarKey, CalendarEntry> eldest) {
+        if (size() > ScheduleCalendarCache.this.maxSize) {
+          ScheduleCalendarCache.this.evictionCounter.increment();
+          ScheduleCalendarCache.this.onRemoved(eldest.getKey());
+          return true;
+        }
+        return false;
+      }
+    };
+
+    this.hitCounter = meterRegistry.counter("schedule.calendar.cache", "result", "hit");
+    this.missCounter = meterRegistry.counter("schedule.calendar.cache", "result", "miss");
+    this.evictionCounter = meterRegistry.counter("schedule.calendar.cache.evictions");
+    this.invalidationCounter = meterRegistry.counter("schedule.calendar.cache.invalidations");
+    Gauge.builder("schedule.calendar.cache.size", this, ScheduleCalendarCache::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 한 달 단위 조회만 캐시하고, 그 외 구간은 loader 를 그대로 실행한다.
+   */
+  public List<AllSchedulesMonthlyView> getOrLoad(
+      Long teamId, CategoryType categoryType,
+      LocalDateTime startDt, LocalDateTime endDt,
+      Supplier<List<AllSchedulesMonthlyView>> loader
+  ) {
+    if (!isWholeMonth(startDt, endDt)) {
+      return loader.get();
+    }
+
+    CalendarKey key = new CalendarKey(teamId, YearMonth.from(startDt), categoryName(categoryType));
+
+    TeamState teamState;
+    long loadGeneration;
+    synchronized (entries) {
+      List<AllSchedulesMonthlyView> cached = getLocal(key);
+      if (cached != null) {
+        hitCounter.increment();
+        return cached;
+      }
+      teamState = teamStates.computeIfAbsent(teamId, id -> new TeamState());
+      teamState.loads++;
+      loadGeneration = teamState.generation;
+    }
+
+    try {
+      // 조회 전에 읽은 버전으로만 Redis 에 쓰므로, 조회 중에 올라간 버전 이후의 키는 덮어쓰지 않는다.
+      String version = redisEnabled ? teamVersion(teamId) : null;
+      if (version != null) {
+        List<AllSchedulesMonthlyView> remote = getRemote(key, version);
+        if (remote != null) {
+          putLocal(key, remote, teamState, loadGeneration);
+          hitCounter.increment();
+          return remote;
+        }
+      }
+
+      missCounter.increment();
+      List<AllSchedulesMonthlyView> loaded = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+      if (putLocal(key, loaded, teamState, loadGeneration) && version != null) {
+        putRemote(key, version, loaded);
+      }
+      return loaded;
+    } finally {
+      synchronized (entries) {
+        teamState.loads--;
+        removeTeamStateIfUnused(teamId, teamState);
+      }
+    }
+  }
+
+  /**
+   * 단순 일정처럼 기간이 정해진 변경 : 해당 기간에 걸친 달만 무효화한다.
+   */
+  public void evictMonths(Long teamId, LocalDateTime startDt, LocalDateTime endDt) {
+    if (startDt == null) {
+      return;
+    }
+    YearMonth from = YearMonth.from(startDt);
+    YearMonth to = endDt == null || endDt.isBefore(startDt) ? from : YearMonth.from(endDt);
+
+    afterCommit(() -> {
+      evictLocal(teamId, key -> !key.getMonth().isBefore(from) && !key.getMonth().isAfter(to));
+      if (redisEnabled) {
+        evictRemoteTeam(teamId);
+      }
+    });
+  }
+
+  /**
+   * 반복 일정처럼 끝이 없는 변경 : 시작 달 이후의 모든 달을 무효화한다.
+   */
+  public void evictFrom(Long teamId, LocalDateTime startDt) {
+    if (startDt == null) {
+      evictTeam(teamId);
+      return;
+    }
+    YearMonth from = YearMonth.from(startDt);
+
+    afterCommit(() -> {
+      evictLocal(teamId, key -> !key.getMonth().isBefore(from));
+      if (redisEnabled) {
+        evictRemoteTeam(teamId);
+      }
+    });
+  }
+
+  public void evictTeam(Long teamId) {
+    afterCommit(() -> {
+      evictLocal(teamId, key -> true);
+      if (redisEnabled) {
+        evictRemoteTeam(teamId);
+      }
+    });
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  int trackedTeams() {
+    synchronized (entries) {
+      return teamStates.size();
+    }
+  }
+
+  private List<AllSchedulesMonthlyView> getLocal(CalendarKey key) {
+    synchronized (entries) {
+      CalendarEntry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.isExpired()) {
+        entries.remove(key);
+        evictionCounter.increment();
+        onRemoved(key);
+        return null;
+      }
+      return entry.getViews();
+    }
+  }
+
+  /**
+   * 조회를 시작한 뒤 팀이 무효화되지 않았을 때만 저장하고, 저장 여부를 반환한다.
+   */
+  private boolean putLocal(
+      CalendarKey key, List<AllSchedulesMonthlyView> views, TeamState teamState, long loadGeneration
+  ) {
+    synchronized (entries) {
+      if (teamState.generation != loadGeneration) {
+        return false;
+      }
+      // 저장하면서 LRU 로 밀려난 항목은 removeEldestEntry 에서 팀별 개수를 줄인다.
+      if (entries.put(key, new CalendarEntry(views, System.nanoTime() + ttl.toNanos())) == null) {
+        teamState.entries++;
+      }
+      return true;
+    }
+  }
+
+  // 팀 상태가 없으면 캐시된 달도, 진행 중인 조회도 없으므로 세대를 올릴 필요가 없다.
+  private void evictLocal(Long teamId, Predicate<CalendarKey> predicate) {
+    synchronized (entries) {
+      TeamState teamState = teamStates.get(teamId);
+      if (teamState == null) {
+        return;
+      }
+      teamState.generation++;
+      Iterator<CalendarKey> iterator = entries.keySet().iterator();
+      while (iterator.hasNext()) {
+        CalendarKey key = iterator.next();
+        if (key.getTeamId().equals(teamId) && predicate.test(key)) {
+          iterator.remove();
+          teamState.entries--;
+          invalidationCounter.increment();
+        }
+      }
+      removeTeamStateIfUnused(teamId, teamState);
+    }
+  }
+
+  // entries 잠금 안에서만 호출한다.
+  private void onRemoved(CalendarKey key) {
+    TeamState teamState = teamStates.get(key.getTeamId());
+    if (teamState != null) {
+      teamState.entries--;
+      removeTeamStateIfUnused(key.getTeamId(), teamState);
+    }
+  }
+
+  // 진행 중인 조회가 없을 때만 지우므로, 다시 만들어진 상태의 세대를 이전 조회가 볼 일은 없다.
+  private void removeTeamStateIfUnused(Long teamId, TeamState teamState) {
+    if (teamState.entries == 0 && teamState.loads == 0) {
+      teamStates.remove(teamId, teamState);
+    }
+  }
+
+  private List<AllSchedulesMonthlyView> getRemote(CalendarKey key, String version) {
+    try {
+      String json = redisService.getValues(redisKey(key, version));
+      return json == null ? null
+          : Collections.unmodifiableList(objectMapper.readValue(json, VIEW_LIST_TYPE));
+    } catch (Exception e) {
+      log.warn("일정 캐시 조회에 실패하였습니다. key = {}", key, e);
+      return null;
+    }
+  }
+
+  private void putRemote(CalendarKey key, String version, List<AllSchedulesMonthlyView> views) {
+    try {
+      redisService.setValues(redisKey(key, version), objectMapper.writeValueAsString(views), ttl);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("일정 캐시 저장에 실패하였습니다. key = {}", key, e);
+    }
+  }
+
+  // 버전을 올려 이전 키들이 TTL 로 만료되도록 한다.
+  // 키를 지우는 방식은 조회 중이던 다른 서버가 이전 데이터로 같은 키를 다시 채울 수 있어 사용하지 않는다.
+  private void evictRemoteTeam(Long teamId) {
+    try {
+      redisService.increment(versionKey(teamId));
+    } catch (RuntimeException e) {
+      log.warn("일정 캐시 무효화에 실패하였습니다. teamId = {}", teamId, e);
+    }
+  }
+
+  private String redisKey(CalendarKey key, String version) {
+    return redisKey(key.getTeamId(), version, key.getMonth(), key.getCategory());
+  }
+
+  private String redisKey(Long teamId, String version, YearMonth month, String category) {
+    return REDIS_KEY_PREFIX + teamId + ":" + version + ":" + month + ":" + category;
+  }
+
+  // Redis 를 사용할 수 없으면 null 을 반환하고 로컬 캐시만 사용한다.
+  private String teamVersion(Long teamId) {
+    try {
+      String version = redisService.getValues(versionKey(teamId));
+      return version == null ? "0" : version;
+    } catch (RuntimeException e) {
+      log.warn("일정 캐시 버전 조회에 실패하였습니다. teamId = {}", teamId, e);
+      return null;
+    }
+  }
+
+  private String versionKey(Long teamId) {
+    return REDIS_KEY_PREFIX + teamId + ":version";
+  }
+
+  private static String categoryName(CategoryType categoryType) {
+    return categoryType == null ? ALL_CATEGORY : categoryType.name();
+  }
+
+  private static boolean isWholeMonth(LocalDateTime startDt, LocalDateTime endDt) {
+    LocalDateTime monthStart = startDt.toLocalDate().withDayOfMonth(1).atStartOfDay();
+    return startDt.equals(monthStart) && endDt.equals(monthStart.plusMonths(1).minusNanos(1));
+  }
+
+  // 트랜잭션 커밋 전에 무효화하면 다른 조회가 이전 데이터로 다시 캐시를 채울 수 있다.
+  private static void afterCommit(Runnable runnable) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      runnable.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runnable.run();
+      }
+    });
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @ToString
+  private static class CalendarKey {
+
+    private final Long teamId;
+    private final YearMonth month;
+    private final String category;
+  }
+
+  // 무효화될 때마다 올라가는 세대. 조회 중에 무효화가 끼어들면 읽은 값을 저장하지 않는다.
+  private static class TeamState {
+
+    private long generation;
+    private int entries;
+    private int loads;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class CalendarEntry {
+
+    private final List<AllSchedulesMonthlyView> views;
+    private final long expireAtNanos;
+
+    boolean isExpired() {
+      return System.nanoTime() - expireAtNanos > 0;
+    }
+  }
+}
@@ -17,7 +17,7 @@ import com.api.backend.schedule.data.dto.SimpleScheduleInfoEditResponse;
 import com.api.backend.schedule.data.dto.SimpleScheduleResponse;
 import com.api.backend.schedule.data.dto.SimpleToRepeatScheduleEditRequest;
 import com.api.backend.schedule.service.ScheduleService;
-import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.service.TeamParticipantsService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -26,6 +26,7 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import java.security.Principal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import javax.validation.Valid;
@@ -84,7 +85,7 @@ public class ScheduleController {
       @PathVariable Long teamId, @ApiIgnore Principal principal) {
     ScheduleCreateResponse scheduleCreateResponse;
 
-    TeamParticipants teamParticipants = teamParticipantsService.getTeamParticipant(teamId,
+    TeamMembership teamParticipants = teamParticipantsService.getTeamMembership(teamId,
         Long.valueOf(principal.getName()));
 
     if (request.getRepeatCycle() != null) {
@@ -230,21 +231,21 @@ public class ScheduleController {
       @ApiIgnore Principal principal
   ) {
     if (startDt == null) {
-      startDt = LocalDateTime.now().withDayOfMonth(1);
+      startDt = LocalDate.now().withDayOfMonth(1).atStartOfDay();
     }
     if (endDt == null) {
-      endDt = startDt.plusMonths(1).withDayOfMonth(1).minusDays(1);
+      endDt = startDt.plusMonths(1).withDayOfMonth(1).toLocalDate().atStartOfDay().minusNanos(1);
     }
 
     List<AllSchedulesMonthlyView> allSchedules;
     if (categoryType == null) {
-      allSchedules = scheduleService.getAllMonthlySchedules(teamId,
+      allSchedules = scheduleService.getAllMonthlySchedules(teamId, startDt, endDt,
           Long.valueOf(principal.getName())
       );
     } else {
       CategoryType enumCategoryType = CategoryType.valueOf(categoryType.toUpperCase());
       allSchedules = scheduleService.getCategoryTypeMonthlySchedules(
-          teamId, enumCategoryType,Long.valueOf(principal.getName())
+          teamId, enumCategoryType, startDt, endDt, Long.valueOf(principal.getName())
       );
     }
 
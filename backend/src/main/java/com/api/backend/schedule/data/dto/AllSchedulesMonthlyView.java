@@ -1,19 +1,20 @@
 package com.api.backend.schedule.data.dto;
 
 import com.api.backend.category.type.CategoryType;
-import com.api.backend.schedule.data.entity.RepeatSchedule;
-import com.api.backend.schedule.data.entity.SimpleSchedule;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @ToString
@@ -54,35 +55,28 @@ public class AllSchedulesMonthlyView {
   @Schema(description = "color", example = "#ff0000")
   private String color;
 
-  public static AllSchedulesMonthlyView from(RepeatSchedule repeatSchedule) {
-    return AllSchedulesMonthlyView.builder()
-        .scheduleId(repeatSchedule.getRepeatScheduleId())
-        .scheduleType("반복일정")
-        .categoryId(repeatSchedule.getScheduleCategory().getScheduleCategoryId())
-        .category(repeatSchedule.getScheduleCategory().getCategoryType())
-        .categoryName(repeatSchedule.getScheduleCategory().getCategoryName())
-        .title(repeatSchedule.getTitle())
-        .content(repeatSchedule.getContent())
-        .place(repeatSchedule.getPlace())
-        .startDt(repeatSchedule.getStartDt())
-        .endDt(repeatSchedule.getEndDt())
-        .color(repeatSchedule.getColor())
-        .build();
+  public static AllSchedulesMonthlyView from(MonthlyScheduleProjection projection) {
+    return of(projection, projection.getStartDt());
   }
 
-  public static AllSchedulesMonthlyView from(SimpleSchedule simpleSchedule) {
+  public static AllSchedulesMonthlyView of(
+      MonthlyScheduleProjection projection, LocalDateTime occurrenceStartDt
+  ) {
+    LocalDateTime occurrenceEndDt = projection.getEndDt() == null ? null
+        : occurrenceStartDt.plus(Duration.between(projection.getStartDt(), projection.getEndDt()));
+
     return AllSchedulesMonthlyView.builder()
-        .scheduleId(simpleSchedule.getSimpleScheduleId())
-        .scheduleType("단순일정")
-        .categoryId(simpleSchedule.getScheduleCategory().getScheduleCategoryId())
-        .category(simpleSchedule.getScheduleCategory().getCategoryType())
-        .categoryName(simpleSchedule.getScheduleCategory().getCategoryName())
-        .title(simpleSchedule.getTitle())
-        .content(simpleSchedule.getContent())
-        .place(simpleSchedule.getPlace())
-        .startDt(simpleSchedule.getStartDt())
-        .endDt(simpleSchedule.getEndDt())
-        .color(simpleSchedule.getColor())
+        .scheduleId(projection.getScheduleId())
+        .scheduleType(projection.getRepeatCycle() == null ? "단순일정" : "반복일정")
+        .categoryId(projection.getCategoryId())
+        .category(projection.getCategoryType())
+        .categoryName(projection.getCategoryName())
+        .title(projection.getTitle())
+        .content(projection.getContent())
+        .place(projection.getPlace())
+        .startDt(occurrenceStartDt)
+        .endDt(occurrenceEndDt)
+        .color(projection.getColor())
         .build();
   }
 }
@@ -0,0 +1,31 @@
+package com.api.backend.schedule.data.dto;
+
+import com.api.backend.category.type.CategoryType;
+import com.api.backend.schedule.data.type.RepeatCycle;
+import java.time.LocalDateTime;
+
+public interface MonthlyScheduleProjection {
+
+  Long getScheduleId();
+
+  Long getCategoryId();
+
+  CategoryType getCategoryType();
+
+  String getCategoryName();
+
+  String getTitle();
+
+  String getContent();
+
+  String getPlace();
+
+  LocalDateTime getStartDt();
+
+  LocalDateTime getEndDt();
+
+  String getColor();
+
+  // 단순 일정은 null
+  RepeatCycle getRepeatCycle();
+}
@@ -18,10 +18,6 @@ public interface RepeatScheduleRepository extends JpaRepository<RepeatSchedule,
   RepeatSchedule findByOriginRepeatScheduleId(Long originRepeatScheduleId);
   RepeatSchedule findRepeatScheduleByRepeatScheduleIdAndTeam_TeamId(Long scheduleId, Long teamId);
 
-  List<RepeatSchedule> findAllByTeam_TeamId(Long teamId);
-
-  List<RepeatSchedule> findAllByScheduleCategory_CategoryTypeAndTeam_TeamId(CategoryType categoryType, Long teamId);
-
   List<RepeatSchedule> findAllByScheduleCategory_ScheduleCategoryIdAndTeam_TeamId(Long categoryId, Long teamId);
 
   @Transactional
@@ -0,0 +1,41 @@
+package com.api.backend.schedule.data.repository;
+
+import com.api.backend.schedule.data.dto.MonthlyScheduleProjection;
+import com.api.backend.schedule.data.entity.SimpleSchedule;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduleCalendarRepository extends
+    org.springframework.data.repository.Repository<SimpleSchedule, Long> {
+
+  @Query(
+      value = "select r.repeat_schedule_id as scheduleId, c.schedule_category_id as categoryId, "
+          + "c.category_type as categoryType, c.category_name as categoryName, "
+          + "r.title as title, r.content as content, r.place as place, "
+          + "r.start_dt as startDt, r.end_dt as endDt, r.color as color, r.repeat_cycle as repeatCycle "
+          + "from repeat_schedule r "
+          + "join schedule_category c on c.schedule_category_id = r.schedule_category_id "
+          + "where r.team_id = :teamId and r.start_dt <= :endDt "
+          + "and (:categoryType is null or c.category_type = :categoryType) "
+          + "union all "
+          + "select s.simple_schedule_id, c.schedule_category_id, "
+          + "c.category_type, c.category_name, "
+          + "s.title, s.content, s.place, "
+          + "s.start_dt, s.end_dt, s.color, null "
+          + "from simple_schedule s "
+          + "join schedule_category c on c.schedule_category_id = s.schedule_category_id "
+          + "where s.team_id = :teamId and s.start_dt <= :endDt and s.end_dt >= :startDt "
+          + "and (:categoryType is null or c.category_type = :categoryType)",
+      nativeQuery = true
+  )
+  List<MonthlyScheduleProjection> findMonthlySchedules(
+      @Param("teamId") Long teamId,
+      @Param("categoryType") String categoryType,
+      @Param("startDt") LocalDateTime startDt,
+      @Param("endDt") LocalDateTime endDt
+  );
+}
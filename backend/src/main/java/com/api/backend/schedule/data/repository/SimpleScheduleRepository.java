@@ -17,10 +17,6 @@ public interface SimpleScheduleRepository extends JpaRepository<SimpleSchedule,
 
   SimpleSchedule findSimpleScheduleBySimpleScheduleIdAndTeam_TeamId(Long scheduleId, Long teamId);
 
-  List<SimpleSchedule> findAllByTeam_TeamId(Long teamId);
-
-  List<SimpleSchedule> findAllByScheduleCategory_CategoryTypeAndTeam_TeamId(CategoryType categoryType, Long teamId);
-
   List<SimpleSchedule> findAllByScheduleCategory_ScheduleCategoryIdAndTeam_TeamId(Long categoryId, Long teamId);
 
   @Transactional
@@ -0,0 +1,46 @@
+package com.api.backend.schedule.data.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * IDENTITY 키 전략에서는 Hibernate 가 insert 를 배치로 묶지 못하므로 JDBC 배치로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamParticipantsScheduleJdbcRepository {
+
+  private static final String INSERT_QUERY =
+      "insert into team_participants_schedule "
+          + "(create_dt, update_dt, team_participants_id, simple_schedule_id, repeat_schedule_id) "
+          + "values (?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void batchInsertBySimpleSchedule(Long simpleScheduleId, Collection<Long> teamParticipantsIds) {
+    batchInsert(teamParticipantsIds, simpleScheduleId, null);
+  }
+
+  public void batchInsertByRepeatSchedule(Long repeatScheduleId, Collection<Long> teamParticipantsIds) {
+    batchInsert(teamParticipantsIds, null, repeatScheduleId);
+  }
+
+  private void batchInsert(Collection<Long> teamParticipantsIds, Long simpleScheduleId, Long repeatScheduleId) {
+    if (teamParticipantsIds.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> batchArgs = new ArrayList<>(teamParticipantsIds.size());
+    for (Long teamParticipantsId : teamParticipantsIds) {
+      batchArgs.add(new Object[]{now, now, teamParticipantsId, simpleScheduleId, repeatScheduleId});
+    }
+    jdbcTemplate.batchUpdate(INSERT_QUERY, batchArgs);
+  }
+}
@@ -1,6 +1,7 @@
 package com.api.backend.schedule.data.repository;
 
 import com.api.backend.schedule.data.entity.TeamParticipantsSchedule;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,9 +12,34 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TeamParticipantsScheduleRepository extends JpaRepository<TeamParticipantsSchedule, Long> {
-  List<TeamParticipantsSchedule> findAllBySimpleSchedule_SimpleScheduleId (Long scheduleId);
 
-  List<TeamParticipantsSchedule> findAllByRepeatSchedule_RepeatScheduleId (Long scheduleId);
+  @Query("select t.teamParticipants.teamParticipantsId from TeamParticipantsSchedule t "
+      + "where t.simpleSchedule.simpleScheduleId = :scheduleId")
+  List<Long> findAllTeamParticipantsIdBySimpleScheduleId(@Param("scheduleId") Long simpleScheduleId);
+
+  @Query("select t.teamParticipants.teamParticipantsId from TeamParticipantsSchedule t "
+      + "where t.repeatSchedule.repeatScheduleId = :scheduleId")
+  List<Long> findAllTeamParticipantsIdByRepeatScheduleId(@Param("scheduleId") Long repeatScheduleId);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value = "delete from team_participants_schedule t "
+          + "where t.simple_schedule_id = :scheduleId and t.team_participants_id in :ids",
+      nativeQuery = true
+  )
+  void deleteAllBySimpleScheduleIdAndTeamParticipantsIdIn(
+      @Param("scheduleId") Long simpleScheduleId, @Param("ids") Collection<Long> teamParticipantsIds);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value = "delete from team_participants_schedule t "
+          + "where t.repeat_schedule_id = :scheduleId and t.team_participants_id in :ids",
+      nativeQuery = true
+  )
+  void deleteAllByRepeatScheduleIdAndTeamParticipantsIdIn(
+      @Param("scheduleId") Long repeatScheduleId, @Param("ids") Collection<Long> teamParticipantsIds);
 
   @Transactional
   @Query(
@@ -14,8 +14,10 @@ import com.api.backend.category.data.repository.ScheduleCategoryRepository;
 import com.api.backend.category.type.CategoryType;
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.global.exception.type.ErrorCode;
+import com.api.backend.schedule.cache.ScheduleCalendarCache;
 import com.api.backend.schedule.data.dto.AlarmScheduleDeleteResponse;
 import com.api.backend.schedule.data.dto.AllSchedulesMonthlyView;
+import com.api.backend.schedule.data.dto.MonthlyScheduleProjection;
 import com.api.backend.schedule.data.dto.RepeatScheduleInfoEditRequest;
 import com.api.backend.schedule.data.dto.RepeatToSimpleScheduleEditRequest;
 import com.api.backend.schedule.data.dto.ScheduleDeleteRequest;
@@ -26,20 +28,29 @@ import com.api.backend.schedule.data.entity.RepeatSchedule;
 import com.api.backend.schedule.data.entity.SimpleSchedule;
 import com.api.backend.schedule.data.entity.TeamParticipantsSchedule;
 import com.api.backend.schedule.data.repository.RepeatScheduleRepository;
+import com.api.backend.schedule.data.repository.ScheduleCalendarRepository;
 import com.api.backend.schedule.data.repository.SimpleScheduleRepository;
+import com.api.backend.schedule.data.repository.TeamParticipantsScheduleJdbcRepository;
 import com.api.backend.schedule.data.repository.TeamParticipantsScheduleRepository;
 import com.api.backend.schedule.data.type.EditOption;
 import com.api.backend.schedule.data.type.RepeatCycle;
+import com.api.backend.schedule.util.RepeatScheduleExpander;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.entity.Team;
 import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.data.repository.TeamParticipantsRepository;
 import com.api.backend.team.data.repository.TeamRepository;
 import com.api.backend.team.data.type.TeamRole;
 import com.api.backend.team.service.TeamParticipantsService;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.transaction.Transactional;
@@ -60,8 +71,12 @@ public class ScheduleService {
   private final TeamRepository teamRepository;
   private final ScheduleCategoryRepository categoryRepository;
   private final TeamParticipantsRepository teamParticipantsRepository;
+  private final TeamMembershipCache teamMembershipCache;
   private final TeamParticipantsScheduleRepository teamParticipantsScheduleRepository;
+  private final TeamParticipantsScheduleJdbcRepository teamParticipantsScheduleJdbcRepository;
   private final TeamParticipantsService teamParticipantsService;
+  private final ScheduleCalendarRepository scheduleCalendarRepository;
+  private final ScheduleCalendarCache scheduleCalendarCache;
 
   @Transactional
   public SimpleSchedule addSimpleScheduleAndSave(ScheduleRequest scheduleRequest, Long memberId) {
@@ -69,14 +84,18 @@ public class ScheduleService {
 
     Team team = findTeamOrElseThrow(scheduleRequest.getTeamId());
     ScheduleCategory category = findScheduleCategoryOrElseThrow(scheduleRequest.getCategoryId());
+    List<TeamParticipants> teamParticipants = resolveTeamParticipantsOrElseThrow(
+        scheduleRequest.getTeamParticipantsIds(), team.getTeamId()
+    );
     SimpleSchedule simpleSchedule = buildSimpleScheduleForAdd(scheduleRequest, team, category);
 
     List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesBySimpleSchedule(
-        simpleSchedule, scheduleRequest.getTeamParticipantsIds()
+        simpleSchedule, teamParticipants
     );
 
     simpleSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
     simpleScheduleRepository.save(simpleSchedule);
+    scheduleCalendarCache.evictMonths(team.getTeamId(), simpleSchedule.getStartDt(), simpleSchedule.getEndDt());
     log.info("단순 일정이 성공적으로 저장되었습니다.");
     return simpleSchedule;
   }
@@ -87,18 +106,19 @@ public class ScheduleService {
 
     Team team = findTeamOrElseThrow(scheduleRequest.getTeamId());
     ScheduleCategory category = findScheduleCategoryOrElseThrow(scheduleRequest.getCategoryId());
-    List<Long> teamParticipantsIds = scheduleRequest.getTeamParticipantsIds();
-
-    validateSameTeamOrElsThrow(teamParticipantsIds, team.getTeamId());
+    List<TeamParticipants> teamParticipants = resolveTeamParticipantsOrElseThrow(
+        scheduleRequest.getTeamParticipantsIds(), team.getTeamId()
+    );
 
     RepeatSchedule repeatSchedule = buildRepeatScheduleForAdd(scheduleRequest, team, category);
 
     List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesByRepeatSchedule(
-        repeatSchedule, scheduleRequest.getTeamParticipantsIds()
+        repeatSchedule, teamParticipants
     );
 
     repeatSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
     repeatScheduleRepository.save(repeatSchedule);
+    scheduleCalendarCache.evictFrom(team.getTeamId(), repeatSchedule.getStartDt());
     log.info("반복 일정이 성공적으로 저장되었습니다.");
     return repeatSchedule;
   }
@@ -109,13 +129,15 @@ public class ScheduleService {
 
     Team team = findTeamOrElseThrow(editRequest.getTeamId());
     ScheduleCategory category = findScheduleCategoryOrElseThrow(editRequest.getCategoryId());
-    List<Long> teamParticipantsIds = editRequest.getTeamParticipantsIds();
-
-    validateSameTeamOrElsThrow(teamParticipantsIds, team.getTeamId());
+    List<TeamParticipants> teamParticipants = resolveTeamParticipantsOrElseThrow(
+        editRequest.getTeamParticipantsIds(), team.getTeamId()
+    );
 
     SimpleSchedule updatedSimpleSchedule = findSimpleScheduleOrElseThrow(
         editRequest.getSimpleScheduleId()
     );
+    scheduleCalendarCache.evictMonths(
+        team.getTeamId(), updatedSimpleSchedule.getStartDt(), updatedSimpleSchedule.getEndDt());
 
     updatedSimpleSchedule.setSimpleScheduleInfo(
         category,
@@ -124,18 +146,11 @@ public class ScheduleService {
         editRequest.getPlace(), editRequest.getColor()
     );
 
-    List<TeamParticipantsSchedule> originTeamParticipantsSchedules =
-        teamParticipantsScheduleRepository.findAllBySimpleSchedule_SimpleScheduleId(
-            updatedSimpleSchedule.getSimpleScheduleId()
-        );
+    reassignTeamParticipantsBySimpleSchedule(updatedSimpleSchedule.getSimpleScheduleId(), teamParticipants);
 
-    teamParticipantsScheduleRepository.deleteAll(originTeamParticipantsSchedules);
-
-    List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesBySimpleSchedule(
-        updatedSimpleSchedule, teamParticipantsIds);
-
-    updatedSimpleSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
     simpleScheduleRepository.save(updatedSimpleSchedule);
+    scheduleCalendarCache.evictMonths(
+        team.getTeamId(), updatedSimpleSchedule.getStartDt(), updatedSimpleSchedule.getEndDt());
     log.info("단순 일정 정보가 성공적으로 수정되었습니다.");
     return updatedSimpleSchedule;
   }
@@ -147,9 +162,9 @@ public class ScheduleService {
 
     Team team = findTeamOrElseThrow(editRequest.getTeamId());
     ScheduleCategory category = findScheduleCategoryOrElseThrow(editRequest.getCategoryId());
-    List<Long> teamParticipantsIds = editRequest.getTeamParticipantsIds();
-
-    validateSameTeamOrElsThrow(teamParticipantsIds, team.getTeamId());
+    List<TeamParticipants> teamParticipants = resolveTeamParticipantsOrElseThrow(
+        editRequest.getTeamParticipantsIds(), team.getTeamId()
+    );
 
     RepeatSchedule repeatSchedule = findRepeatScheduleOrElseThrow(
         editRequest.getRepeatScheduleId());
@@ -169,12 +184,14 @@ public class ScheduleService {
         .build();
 
     List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesBySimpleSchedule(
-        simpleSchedule, editRequest.getTeamParticipantsIds()
+        simpleSchedule, teamParticipants
     );
 
     simpleSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
     repeatScheduleRepository.delete(repeatSchedule);
     simpleScheduleRepository.save(simpleSchedule);
+    scheduleCalendarCache.evictFrom(team.getTeamId(), repeatSchedule.getStartDt());
+    scheduleCalendarCache.evictMonths(team.getTeamId(), simpleSchedule.getStartDt(), simpleSchedule.getEndDt());
     log.info("일정 타입이 성공적으로 변경되었습니다. (반복 일정 -> 단순 일정)");
     return simpleSchedule;
   }
@@ -185,9 +202,9 @@ public class ScheduleService {
 
     Team team = findTeamOrElseThrow(editRequest.getTeamId());
     ScheduleCategory category = findScheduleCategoryOrElseThrow(editRequest.getCategoryId());
-    List<Long> teamParticipantsIds = editRequest.getTeamParticipantsIds();
-
-    validateSameTeamOrElsThrow(teamParticipantsIds, team.getTeamId());
+    List<TeamParticipants> teamParticipants = resolveTeamParticipantsOrElseThrow(
+        editRequest.getTeamParticipantsIds(), team.getTeamId()
+    );
 
     String month = editRequest.getStartDt().getMonth().name();
     int day = editRequest.getStartDt().getDayOfMonth();
@@ -214,7 +231,7 @@ public class ScheduleService {
     setRepeatScheduleFieldsByCycle(repeatSchedule, month, day, dayOfWeek, editRequest.getRepeatCycle());
 
     List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesByRepeatSchedule(
-        repeatSchedule, editRequest.getTeamParticipantsIds()
+        repeatSchedule, teamParticipants
     );
 
     repeatSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
@@ -222,6 +239,8 @@ public class ScheduleService {
     simpleScheduleRepository.delete(simpleSchedule);
     log.info("일정 타입이 성공적으로 변경되었습니다. (단순 일정 -> 반복 일정)");
     repeatScheduleRepository.save(repeatSchedule);
+    scheduleCalendarCache.evictMonths(team.getTeamId(), simpleSchedule.getStartDt(), simpleSchedule.getEndDt());
+    scheduleCalendarCache.evictFrom(team.getTeamId(), repeatSchedule.getStartDt());
     return repeatSchedule;
   }
 
@@ -231,9 +250,9 @@ public class ScheduleService {
 
     Team team = findTeamOrElseThrow(editRequest.getTeamId());
     ScheduleCategory category = findScheduleCategoryOrElseThrow(editRequest.getCategoryId());
-    List<Long> teamParticipantsIds = editRequest.getTeamParticipantsIds();
-
-    validateSameTeamOrElsThrow(teamParticipantsIds, team.getTeamId());
+    List<TeamParticipants> teamParticipants = resolveTeamParticipantsOrElseThrow(
+        editRequest.getTeamParticipantsIds(), team.getTeamId()
+    );
 
     String month = editRequest.getStartDt().getMonth().name();
     int day = editRequest.getStartDt().getDayOfMonth();
@@ -254,6 +273,7 @@ public class ScheduleService {
       RepeatSchedule updateRepeatSchedule = findRepeatScheduleOrElseThrow(
           editRequest.getRepeatScheduleId()
       );
+      scheduleCalendarCache.evictFrom(team.getTeamId(), updateRepeatSchedule.getStartDt());
 
       updateRepeatSchedule.setRepeatScheduleInfo(
           category, editRequest.getTitle(), editRequest.getContent(),
@@ -266,37 +286,25 @@ public class ScheduleService {
           editRequest.getRepeatCycle()
       );
 
-      List<TeamParticipantsSchedule> originTeamParticipantsSchedules =
-          teamParticipantsScheduleRepository.findAllByRepeatSchedule_RepeatScheduleId(updateRepeatSchedule.getRepeatScheduleId());
-
-      teamParticipantsScheduleRepository.deleteAll(originTeamParticipantsSchedules);
-
-      List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesByRepeatSchedule(
-          updateRepeatSchedule, teamParticipantsIds
-      );
+      reassignTeamParticipantsByRepeatSchedule(updateRepeatSchedule.getRepeatScheduleId(), teamParticipants);
 
-      updateRepeatSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
       repeatScheduleRepository.save(updateRepeatSchedule);
+      scheduleCalendarCache.evictFrom(team.getTeamId(), updateRepeatSchedule.getStartDt());
       log.info("반복 일정의 모든 일정이 성공적으로 수정되었습니다.");
       return updateRepeatSchedule;
 
     } else {
       RepeatSchedule updateRepeatSchedule = buildRepeatScheduleForEdit(editRequest, team, category, originCreateParticipantId);
 
-      List<TeamParticipantsSchedule> originTeamParticipantsSchedules =
-          teamParticipantsScheduleRepository.findAllByRepeatSchedule_RepeatScheduleId(
-              updateRepeatSchedule.getRepeatScheduleId()
-          );
-
-      teamParticipantsScheduleRepository.deleteAll(originTeamParticipantsSchedules);
-
       List<TeamParticipantsSchedule> teamParticipantsSchedules = buildTeamParticipantsSchedulesByRepeatSchedule(
-          updateRepeatSchedule, teamParticipantsIds
+          updateRepeatSchedule, teamParticipants
       );
 
       updateRepeatSchedule.setTeamParticipantsSchedules(teamParticipantsSchedules);
       updateRepeatSchedule.setOriginRepeatScheduleId(originRepeatSchedule.getOriginRepeatScheduleId());
       repeatScheduleRepository.save(updateRepeatSchedule);
+      scheduleCalendarCache.evictFrom(team.getTeamId(), originRepeatSchedule.getStartDt());
+      scheduleCalendarCache.evictFrom(team.getTeamId(), updateRepeatSchedule.getStartDt());
       log.info("반복 일정의 이 일정 혹은 이 일정 및 향후 일정이 성공적으로 수정되었습니다.");
       return updateRepeatSchedule;
     }
@@ -308,7 +316,7 @@ public class ScheduleService {
     SimpleSchedule simpleSchedule = simpleScheduleRepository.findById(deleteRequest.getScheduleId())
         .orElseThrow(() -> new CustomException(SCHEDULE_NOT_FOUND_EXCEPTION));
 
-    TeamParticipants teamParticipants = teamParticipantsService.getTeamParticipant(
+    TeamMembership teamParticipants = teamParticipantsService.getTeamMembership(
         deleteRequest.getTeamId(), memberId);
 
     List<Long> teamParticipantsIds = simpleSchedule.getTeamParticipantsSchedules()
@@ -330,6 +338,8 @@ public class ScheduleService {
     }
 
     simpleScheduleRepository.delete(simpleSchedule);
+    scheduleCalendarCache.evictMonths(
+        simpleSchedule.getTeam().getTeamId(), simpleSchedule.getStartDt(), simpleSchedule.getEndDt());
     log.info("단순 일정이 성공적으로 삭제되었습니다.");
     return AlarmScheduleDeleteResponse.builder()
         .teamParticipantsId(teamParticipants.getTeamParticipantsId())
@@ -344,7 +354,7 @@ public class ScheduleService {
     RepeatSchedule repeatSchedule = repeatScheduleRepository.findById(deleteRequest.getScheduleId())
         .orElseThrow(() -> new CustomException(SCHEDULE_NOT_FOUND_EXCEPTION));
 
-    TeamParticipants teamParticipants = teamParticipantsService.getTeamParticipant(
+    TeamMembership teamParticipants = teamParticipantsService.getTeamMembership(
         deleteRequest.getTeamId(), memberId);
 
     List<Long> teamParticipantsIds = repeatSchedule.getTeamParticipantsSchedules()
@@ -366,6 +376,7 @@ public class ScheduleService {
     }
 
     repeatScheduleRepository.delete(repeatSchedule);
+    scheduleCalendarCache.evictFrom(repeatSchedule.getTeam().getTeamId(), repeatSchedule.getStartDt());
     log.info("반복 일정이 성공적으로 삭제되었습니다.");
     return AlarmScheduleDeleteResponse.builder()
         .teamParticipantsId(teamParticipants.getTeamParticipantsId())
@@ -393,37 +404,56 @@ public class ScheduleService {
 
 
   public List<AllSchedulesMonthlyView> getCategoryTypeMonthlySchedules(
-      Long teamId, CategoryType categoryType, Long memberId
+      Long teamId, CategoryType categoryType, LocalDateTime startDt, LocalDateTime endDt, Long memberId
   ) {
     validateTeamParticipant(teamId, memberId);
 
-    List<RepeatSchedule> repeatSchedules = repeatScheduleRepository.findAllByScheduleCategory_CategoryTypeAndTeam_TeamId(categoryType, teamId);
-    List<SimpleSchedule> simpleSchedules = simpleScheduleRepository.findAllByScheduleCategory_CategoryTypeAndTeam_TeamId(categoryType, teamId);
-
-    List<AllSchedulesMonthlyView> allSchedulesList = Stream.concat(
-            repeatSchedules.stream().map(AllSchedulesMonthlyView::from),
-            simpleSchedules.stream().map(AllSchedulesMonthlyView::from))
-        .collect(Collectors.toList());
+    List<AllSchedulesMonthlyView> allSchedulesList = scheduleCalendarCache.getOrLoad(
+        teamId, categoryType, startDt, endDt,
+        () -> expandMonthlySchedules(
+            scheduleCalendarRepository.findMonthlySchedules(teamId, categoryType.name(), startDt, endDt),
+            startDt, endDt
+        )
+    );
 
     log.info("카테고리 유형별 월간 보기 조회에 성공하였습니다.");
     return allSchedulesList;
   }
 
-  public List<AllSchedulesMonthlyView> getAllMonthlySchedules(Long teamId, Long memberId) {
+  public List<AllSchedulesMonthlyView> getAllMonthlySchedules(
+      Long teamId, LocalDateTime startDt, LocalDateTime endDt, Long memberId
+  ) {
     validateTeamParticipant(teamId, memberId);
 
-    List<RepeatSchedule> repeatSchedules = repeatScheduleRepository.findAllByTeam_TeamId(teamId);
-    List<SimpleSchedule> simpleSchedules = simpleScheduleRepository.findAllByTeam_TeamId(teamId);
-
-    List<AllSchedulesMonthlyView> allSchedulesList = Stream.concat(
-        repeatSchedules.stream().map(AllSchedulesMonthlyView::from),
-        simpleSchedules.stream().map(AllSchedulesMonthlyView::from))
-        .collect(Collectors.toList());
+    List<AllSchedulesMonthlyView> allSchedulesList = scheduleCalendarCache.getOrLoad(
+        teamId, null, startDt, endDt,
+        () -> expandMonthlySchedules(
+            scheduleCalendarRepository.findMonthlySchedules(teamId, null, startDt, endDt),
+            startDt, endDt
+        )
+    );
 
     log.info("월간 보기 조회에 성공하였습니다.");
     return allSchedulesList;
   }
 
+  private List<AllSchedulesMonthlyView> expandMonthlySchedules(
+      List<MonthlyScheduleProjection> schedules, LocalDateTime startDt, LocalDateTime endDt
+  ) {
+    return schedules.stream()
+        .flatMap(schedule -> {
+          if (schedule.getRepeatCycle() == null) {
+            return Stream.of(AllSchedulesMonthlyView.from(schedule));
+          }
+          return RepeatScheduleExpander.expandOccurrenceStarts(
+                  schedule.getStartDt(), schedule.getEndDt(),
+                  schedule.getRepeatCycle(), startDt, endDt
+              ).stream()
+              .map(occurrenceStartDt -> AllSchedulesMonthlyView.of(schedule, occurrenceStartDt));
+        })
+        .collect(Collectors.toList());
+  }
+
   private SimpleSchedule findSimpleScheduleOrElseThrow(Long simpleScheduleId) {
     return simpleScheduleRepository.findById(simpleScheduleId)
         .orElseThrow(() -> new CustomException(SCHEDULE_NOT_FOUND_EXCEPTION));
@@ -444,24 +474,47 @@ public class ScheduleService {
         .orElseThrow(() -> new CustomException(SCHEDULE_CATEGORY_NOT_FOUND_EXCEPTION));
   }
 
-  private TeamParticipants findTeamParticipantsOrElseThrow(Long teamParticipantsId) {
-    return teamParticipantsRepository.findById(teamParticipantsId)
-        .orElseThrow(() -> new CustomException(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION));
+  private List<TeamParticipants> resolveTeamParticipantsOrElseThrow(
+      List<Long> teamParticipantsIds, Long teamId
+  ) {
+    if (teamParticipantsIds == null || teamParticipantsIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<Long> uniqueIds = new LinkedHashSet<>(teamParticipantsIds);
+    if (uniqueIds.size() != teamParticipantsIds.size()) {
+      throw new CustomException(TEAM_PARTICIPANTS_ID_DUPLICATE_EXCEPTION);
+    }
+
+    Map<Long, TeamParticipants> participantsById = teamParticipantsRepository
+        .findAllByTeam_TeamIdAndTeamParticipantsIdIn(teamId, uniqueIds)
+        .stream()
+        .collect(Collectors.toMap(TeamParticipants::getTeamParticipantsId, Function.identity()));
+
+    if (participantsById.size() != uniqueIds.size()) {
+      throwMissingTeamParticipants(uniqueIds, participantsById.keySet());
+    }
+
+    return teamParticipantsIds.stream()
+        .map(participantsById::get)
+        .collect(Collectors.toList());
   }
 
+  // 요청 순서상 처음 빠진 id 가 없는 참여자이면 NOT_FOUND, 다른 팀 참여자이면 NOT_VALID
+  private void throwMissingTeamParticipants(Set<Long> requestIds, Set<Long> foundIds) {
+    List<Long> missingIds = new ArrayList<>(difference(requestIds, foundIds));
+    Set<Long> existingIds = teamParticipantsRepository.findAllById(missingIds).stream()
+        .map(TeamParticipants::getTeamParticipantsId)
+        .collect(Collectors.toSet());
 
-  private void validateSameTeamOrElsThrow(List<Long> teamParticipantsIds, Long teamId) {
-    for (Long teamParticipantsId : teamParticipantsIds) {
-      TeamParticipants participants = findTeamParticipantsOrElseThrow(teamParticipantsId);
-      if (teamId != participants.getTeam().getTeamId()) {
-        throw new CustomException(ErrorCode.TEAM_PARTICIPANTS_NOT_VALID_EXCEPTION);
-      }
+    if (existingIds.contains(missingIds.get(0))) {
+      throw new CustomException(ErrorCode.TEAM_PARTICIPANTS_NOT_VALID_EXCEPTION);
     }
+    throw new CustomException(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION);
   }
 
   private void validateTeamParticipant(Long teamId, Long memberId) {
-    teamParticipantsRepository.findByTeam_TeamIdAndMember_MemberId(teamId, memberId)
-        .orElseThrow(() -> new CustomException(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION));
+    teamMembershipCache.getMembership(memberId, teamId);
   }
 
   private SimpleSchedule buildSimpleScheduleForAdd(ScheduleRequest request, Team team, ScheduleCategory category) {
@@ -534,22 +587,15 @@ public class ScheduleService {
 
   private List<TeamParticipantsSchedule> buildTeamParticipantsSchedulesBySimpleSchedule(
       SimpleSchedule simpleSchedule,
-      List<Long> teamParticipantsIds
+      List<TeamParticipants> teamParticipants
   ) {
-    if (hasDuplicateTeamParticipantsIds(teamParticipantsIds)) {
-      throw new CustomException(TEAM_PARTICIPANTS_ID_DUPLICATE_EXCEPTION);
-    }
-
     List<TeamParticipantsSchedule> teamParticipantsSchedules = new ArrayList<>();
 
-    for (Long teamParticipantsId : teamParticipantsIds) {
-      TeamParticipants participants = findTeamParticipantsOrElseThrow(teamParticipantsId);
+    for (TeamParticipants participants : teamParticipants) {
       TeamParticipantsSchedule teamParticipantsSchedule = TeamParticipantsSchedule.builder()
           .teamParticipants(participants)
           .simpleSchedule(simpleSchedule)
           .build();
-      teamParticipantsSchedule.setSimpleSchedule(simpleSchedule);
-      teamParticipantsSchedule.setTeamParticipants(participants);
       teamParticipantsSchedules.add(teamParticipantsSchedule);
     }
 
@@ -558,28 +604,65 @@ public class ScheduleService {
 
   private List<TeamParticipantsSchedule> buildTeamParticipantsSchedulesByRepeatSchedule(
       RepeatSchedule repeatSchedule,
-      List<Long> teamParticipantsIds
+      List<TeamParticipants> teamParticipants
   ) {
-    if (hasDuplicateTeamParticipantsIds(teamParticipantsIds)) {
-      throw new CustomException(TEAM_PARTICIPANTS_ID_DUPLICATE_EXCEPTION);
-    }
-
     List<TeamParticipantsSchedule> teamParticipantsSchedules = new ArrayList<>();
 
-    for (Long teamParticipantsId : teamParticipantsIds) {
-      TeamParticipants participants = findTeamParticipantsOrElseThrow(teamParticipantsId);
+    for (TeamParticipants participants : teamParticipants) {
       TeamParticipantsSchedule teamParticipantsSchedule = TeamParticipantsSchedule.builder()
           .teamParticipants(participants)
           .repeatSchedule(repeatSchedule)
           .build();
-      teamParticipantsSchedule.setRepeatSchedule(repeatSchedule);
-      teamParticipantsSchedule.setTeamParticipants(participants);
       teamParticipantsSchedules.add(teamParticipantsSchedule);
     }
 
     return teamParticipantsSchedules;
   }
 
+  private void reassignTeamParticipantsBySimpleSchedule(
+      Long simpleScheduleId, List<TeamParticipants> teamParticipants
+  ) {
+    Set<Long> originIds = new HashSet<>(
+        teamParticipantsScheduleRepository.findAllTeamParticipantsIdBySimpleScheduleId(simpleScheduleId));
+    Set<Long> requestIds = toTeamParticipantsIds(teamParticipants);
+
+    Set<Long> removedIds = difference(originIds, requestIds);
+    if (!removedIds.isEmpty()) {
+      teamParticipantsScheduleRepository.deleteAllBySimpleScheduleIdAndTeamParticipantsIdIn(
+          simpleScheduleId, removedIds);
+    }
+    teamParticipantsScheduleJdbcRepository.batchInsertBySimpleSchedule(
+        simpleScheduleId, difference(requestIds, originIds));
+  }
+
+  private void reassignTeamParticipantsByRepeatSchedule(
+      Long repeatScheduleId, List<TeamParticipants> teamParticipants
+  ) {
+    Set<Long> originIds = new HashSet<>(
+        teamParticipantsScheduleRepository.findAllTeamParticipantsIdByRepeatScheduleId(repeatScheduleId));
+    Set<Long> requestIds = toTeamParticipantsIds(teamParticipants);
+
+    Set<Long> removedIds = difference(originIds, requestIds);
+    if (!removedIds.isEmpty()) {
+      teamParticipantsScheduleRepository.deleteAllByRepeatScheduleIdAndTeamParticipantsIdIn(
+          repeatScheduleId, removedIds);
+    }
+    teamParticipantsScheduleJdbcRepository.batchInsertByRepeatSchedule(
+        repeatScheduleId, difference(requestIds, originIds));
+  }
+
+  private Set<Long> toTeamParticipantsIds(List<TeamParticipants> teamParticipants) {
+    return teamParticipants.stream()
+        .map(TeamParticipants::getTeamParticipantsId)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private Set<Long> difference(Set<Long> source, Set<Long> exclude) {
+    Set<Long> result = new LinkedHashSet<>(source);
+    result.removeAll(exclude);
+    return result;
+  }
+
   private void setRepeatScheduleFieldsByCycle(
       RepeatSchedule repeatSchedule, String month, int day,
       String dayOfWeek, RepeatCycle repeatCycle
@@ -599,14 +682,4 @@ public class ScheduleService {
         throw new CustomException(NON_REPEATING_SCHEDULE_EXCEPTION);
     }
   }
-
-  private boolean hasDuplicateTeamParticipantsIds(List<Long> teamParticipantsIds) {
-    Set<Long> uniqueIds = new HashSet<>();
-    for (Long teamParticipantsId : teamParticipantsIds) {
-      if (!uniqueIds.add(teamParticipantsId)) {
-        return true;
-      }
-    }
-    return false;
-  }
 }
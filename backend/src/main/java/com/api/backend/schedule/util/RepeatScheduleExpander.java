@@ -0,0 +1,63 @@
+package com.api.backend.schedule.util;
+
+import static com.api.backend.global.exception.type.ErrorCode.INVALID_REPEAT_CYCLE_EXCEPTION;
+
+import com.api.backend.global.exception.CustomException;
+import com.api.backend.schedule.data.type.RepeatCycle;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RepeatScheduleExpander {
+
+  private RepeatScheduleExpander() {
+  }
+
+  /**
+   * 반복 일정 중 [windowStart, windowEnd] 구간과 겹치는 회차의 시작 시각만 계산한다.
+   **/
+  public static List<LocalDateTime> expandOccurrenceStarts(
+      LocalDateTime startDt, LocalDateTime endDt, RepeatCycle repeatCycle,
+      LocalDateTime windowStart, LocalDateTime windowEnd
+  ) {
+    List<LocalDateTime> occurrenceStarts = new ArrayList<>();
+
+    if (startDt == null || repeatCycle == null || startDt.isAfter(windowEnd)) {
+      return occurrenceStarts;
+    }
+
+    Duration duration = endDt == null ? Duration.ZERO : Duration.between(startDt, endDt);
+    ChronoUnit unit = toChronoUnit(repeatCycle);
+
+    // 구간 시작 이전 회차는 건너뛰고, 구간 시작 직전 회차부터 확인한다.
+    long index = Math.max(0, unit.between(startDt, windowStart.minus(duration)) - 1);
+
+    while (true) {
+      LocalDateTime occurrenceStart = startDt.plus(index, unit);
+      if (occurrenceStart.isAfter(windowEnd)) {
+        break;
+      }
+      if (!occurrenceStart.plus(duration).isBefore(windowStart)) {
+        occurrenceStarts.add(occurrenceStart);
+      }
+      index++;
+    }
+
+    return occurrenceStarts;
+  }
+
+  private static ChronoUnit toChronoUnit(RepeatCycle repeatCycle) {
+    switch (repeatCycle) {
+      case WEEKLY:
+        return ChronoUnit.WEEKS;
+      case MONTHLY:
+        return ChronoUnit.MONTHS;
+      case YEARLY:
+        return ChronoUnit.YEARS;
+      default:
+        throw new CustomException(INVALID_REPEAT_CYCLE_EXCEPTION);
+    }
+  }
+}
@@ -0,0 +1,247 @@
+package com.api.backend.team.cache;
+
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETEING_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETE_TRUE_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION;
+
+import com.api.backend.global.exception.CustomException;
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.team.data.dto.TeamMembership;
+import com.api.backend.team.data.repository.TeamParticipantsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import javax.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (memberId, teamId) 별 팀 참가 정보를 보관해 서비스 계층의 권한 확인이 매번 DB 를 조회하지 않도록 한다.
+ * 참가 / 탈퇴 / 강퇴 / 권한 위임 / 해체 / 복구 시 커밋 이후에 해당 항목을 무효화하고,
+ * 여러 노드로 실행할 때는 무효화를 pub/sub 으로 전파한다.
+ */
+@Slf4j
+@Component
+public class TeamMembershipCache implements MessageListener {
+
+  private static final String INVALIDATION_CHANNEL = "team:membership:evict";
+  private static final String TEAM_PREFIX = "team:";
+  private static final String MEMBER_PREFIX = "member:";
+  private static final String MESSAGE_DELIMITER = ":";
+
+  private final int maxSize;
+  private final Duration ttl;
+  private final boolean redisInvalidation;
+  private final TeamParticipantsRepository teamParticipantsRepository;
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final Map<MembershipKey, MembershipEntry> entries;
+  // 조회 도중 무효화가 일어나면 조회한 값을 캐시에 넣지 않는다.
+  private long generation;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter invalidationCounter;
+
+  public TeamMembershipCache(
+      @Value("${team.membership-cache.max-size:10000}") int maxSize,
+      @Value("${team.membership-cache.ttl:30s}") Duration ttl,
+      @Value("${team.membership-cache.redis-invalidation:false}") boolean redisInvalidation,
+      TeamParticipantsRepository teamParticipantsRepository,
+      RedisService redisService,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      MeterRegistry meterRegistry
+  ) {
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+    this.redisInvalidation = redisInvalidation;
+    this.teamParticipantsRepository = teamParticipantsRepository;
+    this.redisService = redisService;
+    this.redisMessageListenerContainer = redisMessageListenerContainer;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<MembershipKey, MembershipEntry> eldest) {
+        return size() > TeamMembershipCache.this.maxSize;
+      }
+    };
+
+    this.hitCounter = meterRegistry.counter("team.membership.cache", "result", "hit");
+    this.missCounter = meterRegistry.counter("team.membership.cache", "result", "miss");
+    this.invalidationCounter = meterRegistry.counter("team.membership.cache.invalidations");
+    Gauge.builder("team.membership.cache.size", this, TeamMembershipCache::size)
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void init() {
+    if (redisInvalidation) {
+      redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+  }
+
+  /**
+   * 팀 참가 정보를 조회한다. 참가하지 않은 경우는 캐시하지 않는다.
+   */
+  public TeamMembership getMembership(Long memberId, Long teamId) {
+    MembershipKey key = new MembershipKey(memberId, teamId);
+
+    long loadGeneration;
+    synchronized (entries) {
+      MembershipEntry entry = entries.get(key);
+      if (entry != null && !entry.isExpired()) {
+        hitCounter.increment();
+        return entry.getMembership();
+      }
+      if (entry != null) {
+        entries.remove(key);
+      }
+      loadGeneration = generation;
+    }
+
+    missCounter.increment();
+    TeamMembership membership = teamParticipantsRepository.findMembership(memberId, teamId)
+        .orElseThrow(() -> new CustomException(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION));
+
+    synchronized (entries) {
+      if (loadGeneration == generation) {
+        entries.put(key, new MembershipEntry(membership, System.nanoTime() + ttl.toNanos()));
+      }
+    }
+    return membership;
+  }
+
+  /**
+   * 팀 참가 정보를 조회하고, 해체 대기 중이거나 해체된 팀이면 예외를 던진다.
+   */
+  public TeamMembership getActiveMembership(Long memberId, Long teamId) {
+    TeamMembership membership = getMembership(memberId, teamId);
+    if (membership.getRestorationDt() != null) {
+      throw new CustomException(TEAM_IS_DELETEING_EXCEPTION);
+    }
+    if (membership.isTeamDelete()) {
+      throw new CustomException(TEAM_IS_DELETE_TRUE_EXCEPTION);
+    }
+    return membership;
+  }
+
+  public void evict(Long memberId, Long teamId) {
+    afterCommit(() -> {
+      evictLocal(key -> key.getMemberId().equals(memberId) && key.getTeamId().equals(teamId));
+      publish(MEMBER_PREFIX + memberId + MESSAGE_DELIMITER + teamId);
+    });
+  }
+
+  public void evictTeam(Long teamId) {
+    afterCommit(() -> {
+      evictLocal(key -> key.getTeamId().equals(teamId));
+      publish(TEAM_PREFIX + teamId);
+    });
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      if (body.startsWith(TEAM_PREFIX)) {
+        Long teamId = Long.parseLong(body.substring(TEAM_PREFIX.length()));
+        evictLocal(key -> key.getTeamId().equals(teamId));
+        return;
+      }
+      if (body.startsWith(MEMBER_PREFIX)) {
+        String[] ids = body.substring(MEMBER_PREFIX.length()).split(MESSAGE_DELIMITER);
+        Long memberId = Long.parseLong(ids[0]);
+        Long teamId = Long.parseLong(ids[1]);
+        evictLocal(key -> key.getMemberId().equals(memberId) && key.getTeamId().equals(teamId));
+        return;
+      }
+    } catch (RuntimeException e) {
+      log.warn("잘못된 팀 참가 캐시 무효화 메시지입니다. message = {}", body, e);
+      return;
+    }
+    log.warn("잘못된 팀 참가 캐시 무효화 메시지입니다. message = {}", body);
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private void evictLocal(Predicate<MembershipKey> predicate) {
+    synchronized (entries) {
+      generation++;
+      Iterator<MembershipKey> iterator = entries.keySet().iterator();
+      while (iterator.hasNext()) {
+        if (predicate.test(iterator.next())) {
+          iterator.remove();
+          invalidationCounter.increment();
+        }
+      }
+    }
+  }
+
+  private void publish(String message) {
+    if (!redisInvalidation) {
+      return;
+    }
+    try {
+      redisService.publish(INVALIDATION_CHANNEL, message);
+    } catch (RuntimeException e) {
+      log.warn("팀 참가 캐시 무효화 전파에 실패하였습니다. message = {}", message, e);
+    }
+  }
+
+  // 트랜잭션 커밋 전에 무효화하면 다른 조회가 이전 데이터로 다시 캐시를 채울 수 있다.
+  private static void afterCommit(Runnable runnable) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      runnable.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runnable.run();
+      }
+    });
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  @ToString
+  private static class MembershipKey {
+
+    private final Long memberId;
+    private final Long teamId;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class MembershipEntry {
+
+    private final TeamMembership membership;
+    private final long expireAtNanos;
+
+    boolean isExpired() {
+      return System.nanoTime() - expireAtNanos > 0;
+    }
+  }
+}
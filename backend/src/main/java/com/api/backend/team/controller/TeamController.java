@@ -103,24 +103,19 @@ public class TeamController {
               , paramType = "path", defaultValue = "None", example = "1"
           ),
           @ApiImplicitParam(
-              name = "code", value = "팀 코드", required = true, dataType = "String"
-              , paramType = "path", defaultValue = "None", example = "nklndsiofnefm"
-          ),
-          @ApiImplicitParam(
-              name = "expireCode", value = "기한 코드", required = true, dataType = "String"
-              , paramType = "path", defaultValue = "None", example = "nklndsiofnefm"
+              name = "inviteToken", value = "초대 토큰", required = true, dataType = "String"
+              , paramType = "path", defaultValue = "None", example = "AbCdEfGhIjKlMnOpQrStUvWxYz"
           )
       })
   @TeamParticipantsSendNotify
-  @GetMapping("/{teamId}/{code}/{expireCode}")
+  @GetMapping("/{teamId}/invite/{inviteToken}")
   public ResponseEntity<TeamParticipantsNotifyByDto> updateTeamParticipantRequest(
       @PathVariable("teamId") Long teamId,
-      @PathVariable("code") String code,
-      @PathVariable("expireCode") String expireCode ,
+      @PathVariable("inviteToken") String inviteToken,
       @ApiIgnore Principal principal
   ) {
     return ResponseEntity.ok(
-        teamService.updateTeamParticipants(teamId, code, Long.valueOf(principal.getName()), expireCode)
+        teamService.updateTeamParticipants(teamId, inviteToken, Long.valueOf(principal.getName()))
     );
   }
 
@@ -0,0 +1,173 @@
+package com.api.backend.team.crypt;
+
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_CODE_NOT_VALID_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_EXPIRED_DATE_EXCEPTION;
+
+import com.api.backend.global.exception.CustomException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀 초대 토큰을 HMAC-SHA256 으로 서명하고 검증한다.
+ * 토큰 = base64url(keyId | teamId | 초대 코드 버전 | 만료 시각 | 서명 앞 16 byte)
+ * 서명과 만료는 DB 조회 없이 확인하고, 초대 코드가 바뀌었는지는 팀을 조회한 뒤 matchesCode 로 확인한다.
+ * 키를 교체할 때는 이전 키를 team.previous-secrets 에 남겨 두면 이미 발급한 토큰도 만료 전까지 사용할 수 있다.
+ */
+@Component
+public class InviteTokenProvider {
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int PAYLOAD_LENGTH = Byte.BYTES + Long.BYTES * 3;
+  private static final int SIGNATURE_LENGTH = 16;
+  private static final int TOKEN_LENGTH = PAYLOAD_LENGTH + SIGNATURE_LENGTH;
+  private static final byte[] CODE_PREFIX = "invite-code:".getBytes(StandardCharsets.UTF_8);
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final SigningKey currentKey;
+  private final List<SigningKey> keys = new ArrayList<>();
+
+  public InviteTokenProvider(
+      @Value("${team.secret}") String secret,
+      @Value("${team.previous-secrets:}") List<String> previousSecrets
+  ) {
+    this.currentKey = new SigningKey(secret);
+    keys.add(currentKey);
+    for (String previousSecret : previousSecrets) {
+      if (!previousSecret.isBlank()) {
+        keys.add(new SigningKey(previousSecret.trim()));
+      }
+    }
+  }
+
+  public String createToken(Long teamId, String inviteCode, long expireAtMillis) {
+    Mac mac = currentKey.mac();
+    ByteBuffer buffer = ByteBuffer.allocate(TOKEN_LENGTH)
+        .put(currentKey.id)
+        .putLong(teamId)
+        .putLong(codeVersion(mac, inviteCode))
+        .putLong(expireAtMillis);
+
+    mac.update(buffer.array(), 0, PAYLOAD_LENGTH);
+    buffer.put(mac.doFinal(), 0, SIGNATURE_LENGTH);
+    return ENCODER.encodeToString(buffer.array());
+  }
+
+  /**
+   * 형식이나 서명이 잘못되었으면 TEAM_CODE_NOT_VALID, 만료되었으면 TEAM_EXPIRED_DATE 예외를 던진다.
+   */
+  public InviteToken verify(String token) {
+    byte[] bytes = decode(token);
+
+    for (SigningKey key : keys) {
+      if (key.id != bytes[0]) {
+        continue;
+      }
+      Mac mac = key.mac();
+      mac.update(bytes, 0, PAYLOAD_LENGTH);
+      byte[] signature = Arrays.copyOf(mac.doFinal(), SIGNATURE_LENGTH);
+      if (!MessageDigest.isEqual(signature,
+          Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, TOKEN_LENGTH))) {
+        continue;
+      }
+
+      ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+      InviteToken inviteToken = new InviteToken(
+          key, buffer.getLong(), buffer.getLong(), buffer.getLong());
+      if (inviteToken.getExpireAtMillis() < System.currentTimeMillis()) {
+        throw new CustomException(TEAM_EXPIRED_DATE_EXCEPTION);
+      }
+      return inviteToken;
+    }
+    throw new CustomException(TEAM_CODE_NOT_VALID_EXCEPTION);
+  }
+
+  /**
+   * 토큰 발급 이후 팀의 초대 코드가 바뀌었으면 false
+   */
+  public boolean matchesCode(InviteToken inviteToken, String inviteCode) {
+    return inviteCode != null
+        && inviteToken.getCodeVersion() == codeVersion(inviteToken.key.mac(), inviteCode);
+  }
+
+  private static byte[] decode(String token) {
+    try {
+      byte[] bytes = DECODER.decode(token);
+      if (bytes.length == TOKEN_LENGTH) {
+        return bytes;
+      }
+    } catch (IllegalArgumentException e) {
+      // 잘못된 형식은 아래에서 같은 예외로 처리
+    }
+    throw new CustomException(TEAM_CODE_NOT_VALID_EXCEPTION);
+  }
+
+  private static long codeVersion(Mac mac, String inviteCode) {
+    mac.update(CODE_PREFIX);
+    return ByteBuffer.wrap(mac.doFinal(inviteCode.getBytes(StandardCharsets.UTF_8))).getLong();
+  }
+
+  @AllArgsConstructor
+  public static class InviteToken {
+
+    private final SigningKey key;
+    @Getter
+    private final long teamId;
+    @Getter
+    private final long codeVersion;
+    @Getter
+    private final long expireAtMillis;
+  }
+
+  /**
+   * 키마다 스레드별 Mac 을 초기화해 두고 재사용한다. doFinal 이후 Mac 은 초기 상태로 돌아간다.
+   */
+  private static class SigningKey {
+
+    private final byte id;
+    private final ThreadLocal<Mac> mac;
+
+    private SigningKey(String secret) {
+      byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+      this.id = keyId(secretBytes);
+
+      SecretKeySpec secretKeySpec = new SecretKeySpec(secretBytes, ALGORITHM);
+      this.mac = ThreadLocal.withInitial(() -> {
+        try {
+          Mac instance = Mac.getInstance(ALGORITHM);
+          instance.init(secretKeySpec);
+          return instance;
+        } catch (GeneralSecurityException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+    }
+
+    private Mac mac() {
+      return mac.get();
+    }
+
+    // 노드마다 같은 값이 나오도록 키 자체에서 id 를 만든다.
+    private static byte keyId(byte[] secretBytes) {
+      try {
+        return MessageDigest.getInstance("SHA-256").digest(secretBytes)[0];
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.api.backend.team.data.dto;
+
+import com.api.backend.team.data.type.TeamRole;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 권한 확인에 필요한 팀 참가자 / 팀 정보만 담은 스냅샷
+ */
+@Getter
+@AllArgsConstructor
+public class TeamMembership {
+  private final Long teamParticipantsId;
+  private final Long teamId;
+  private final Long memberId;
+  private final TeamRole teamRole;
+  private final String teamNickName;
+  private final LocalDate restorationDt;
+  private final boolean teamDelete;
+}
@@ -11,6 +11,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -24,7 +25,10 @@ import lombok.Setter;
 @Getter
 @AllArgsConstructor
 @Builder
-@Table(name = "team")
+@Table(
+    name = "team",
+    indexes = @Index(name = "idx_team_restoration_dt", columnList = "restoration_dt")
+)
 public class Team extends BaseEntity {
 
   @Id
@@ -64,9 +68,4 @@ public class Team extends BaseEntity {
       profileUrl = url;
     }
   }
-
-  public void changeRestoreInfo() {
-    this.isDelete = true;
-    this.restorationDt = null;
-  }
 }
@@ -0,0 +1,42 @@
+package com.api.backend.team.data.entity;
+
+import com.api.backend.global.domain.BaseEntity;
+import com.api.backend.team.data.type.TeamPurgePhase;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 해체된 팀 삭제 중 끝난 단계를 기록한다. 중간에 실패하면 다음 실행에서 남은 단계만 수행하고,
+ * 팀이 삭제되면 함께 지운다.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(
+    name = "team_purge_checkpoint",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_team_purge_checkpoint_team_phase", columnNames = {"team_id", "phase"})
+)
+public class TeamPurgeCheckpoint extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long teamPurgeCheckpointId;
+
+  private Long teamId;
+
+  @Enumerated(EnumType.STRING)
+  private TeamPurgePhase phase;
+}
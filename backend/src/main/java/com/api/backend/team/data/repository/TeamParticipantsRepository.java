@@ -1,6 +1,8 @@
 package com.api.backend.team.data.repository;
 
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.entity.TeamParticipants;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -27,12 +29,21 @@ public interface TeamParticipantsRepository extends JpaRepository<TeamParticipan
   Optional<TeamParticipants> findByMember_MemberId(Long memberId);
   Optional<TeamParticipants> findByMember_MemberIdAndTeam_TeamId(Long memberId, Long teamId);
 
+  @Query("select new com.api.backend.team.data.dto.TeamMembership("
+      + "tp.teamParticipantsId, t.teamId, m.memberId, tp.teamRole, tp.teamNickName, "
+      + "t.restorationDt, t.isDelete) "
+      + "from TeamParticipants tp join tp.team t join tp.member m "
+      + "where m.memberId = :memberId and t.teamId = :teamId")
+  Optional<TeamMembership> findMembership(@Param("memberId") Long memberId, @Param("teamId") Long teamId);
+
   List<TeamParticipants> findByTeam_TeamIdAndTeamParticipantsIdNot(Long teamId, Long teamParticipantsId);
 
   List<TeamParticipants> findAllByTeam_TeamIdAndMember_MemberIdNot(Long teamId, Long memberId);
 
   boolean existsByTeamParticipantsIdAndTeam_TeamId(Long teamParticipantsId, Long teamId);
 
+  List<TeamParticipants> findAllByTeam_TeamIdAndTeamParticipantsIdIn(Long teamId, Collection<Long> teamParticipantsIds);
+
   @Transactional
   @Modifying
   @Query(
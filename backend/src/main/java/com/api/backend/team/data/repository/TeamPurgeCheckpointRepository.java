@@ -0,0 +1,25 @@
+package com.api.backend.team.data.repository;
+
+import com.api.backend.team.data.entity.TeamPurgeCheckpoint;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TeamPurgeCheckpointRepository extends JpaRepository<TeamPurgeCheckpoint, Long> {
+
+  List<TeamPurgeCheckpoint> findAllByTeamIdIn(Collection<Long> teamIds);
+
+  @Transactional
+  @Modifying
+  @Query(
+      value = "delete from team_purge_checkpoint c where c.team_id in :ids",
+      nativeQuery = true
+  )
+  void deleteAllByTeamIdInQuery(@Param("ids") List<Long> teamIds);
+}
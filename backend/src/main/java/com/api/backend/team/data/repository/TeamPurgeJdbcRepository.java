@@ -0,0 +1,62 @@
+package com.api.backend.team.data.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 해체된 팀에 속한 행을 엔티티로 불러오지 않고 team_id 기준으로 지운다.
+ * 한 번에 limit 개씩 지우고 문장마다 커밋되므로 큰 팀도 긴 트랜잭션이나 큰 IN 목록을 만들지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamPurgeJdbcRepository {
+
+  private static final String TEAM_IDS = "#teamIds";
+
+  private static final String PARTICIPANTS_OF_TEAMS =
+      "select tp.team_participants_id from team_participants tp where tp.team_id in (" + TEAM_IDS + ")";
+
+  // 외래키 순서대로 지운다.
+  private static final List<String> DELETE_QUERIES = List.of(
+      "delete from notification where team_participants_id in (" + PARTICIPANTS_OF_TEAMS + ") limit ?",
+      "delete from team_participants_schedule where team_participants_id in ("
+          + PARTICIPANTS_OF_TEAMS + ") limit ?",
+      "delete from team_participants_schedule where simple_schedule_id in ("
+          + "select s.simple_schedule_id from simple_schedule s where s.team_id in (" + TEAM_IDS + ")) limit ?",
+      "delete from team_participants_schedule where repeat_schedule_id in ("
+          + "select r.repeat_schedule_id from repeat_schedule r where r.team_id in (" + TEAM_IDS + ")) limit ?",
+      "delete from simple_schedule where team_id in (" + TEAM_IDS + ") limit ?",
+      "delete from repeat_schedule where team_id in (" + TEAM_IDS + ") limit ?",
+      "delete from schedule_category where team_id in (" + TEAM_IDS + ") limit ?",
+      "delete from team_participants where team_id in (" + TEAM_IDS + ") limit ?"
+  );
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 팀에 속한 알람, 일정, 카테고리, 팀원을 지우고 지운 행 수를 반환한다. 팀 행은 남겨둔다.
+   */
+  public long deleteTeamRows(List<Long> teamIds, int limit) {
+    if (teamIds.isEmpty()) {
+      return 0;
+    }
+    String placeholders = String.join(", ", Collections.nCopies(teamIds.size(), "?"));
+    List<Object> args = new ArrayList<>(teamIds);
+    args.add(limit);
+
+    long deletedCount = 0;
+    for (String query : DELETE_QUERIES) {
+      String sql = query.replace(TEAM_IDS, placeholders);
+      int deleted;
+      do {
+        deleted = jdbcTemplate.update(sql, args.toArray());
+        deletedCount += deleted;
+      } while (deleted == limit);
+    }
+    return deletedCount;
+  }
+}
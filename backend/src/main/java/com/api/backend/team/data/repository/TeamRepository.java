@@ -1,7 +1,9 @@
 package com.api.backend.team.data.repository;
 
 import com.api.backend.team.data.entity.Team;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,9 +16,27 @@ public interface TeamRepository extends JpaRepository<Team,Long> {
 
   boolean existsByTeamIdAndIsDelete(Long teamId, boolean isDelete);
 
-  List<Team> findAllByRestorationDtIsNotNull();
+  /**
+   * 복구 기한이 지난 팀을 limit 개 잠그고 id 를 반환한다. 같은 트랜잭션에서 expireRestoration 을 호출한다.
+   */
+  @Query(
+      value = "select t.team_id from team t where t.restoration_dt <= :today "
+          + "order by t.restoration_dt limit :limit for update",
+      nativeQuery = true
+  )
+  List<Long> findRestorationExpiredTeamIdsForUpdate(
+      @Param("today") LocalDate today, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      value = "update team t set t.is_delete = true, t.restoration_dt = null, t.update_dt = now() "
+          + "where t.team_id in :ids and t.restoration_dt <= :today",
+      nativeQuery = true
+  )
+  int expireRestoration(@Param("ids") List<Long> teamIds, @Param("today") LocalDate today);
 
-  List<Team> findAllByIsDeleteIsTrue();
+  @Query("select t from Team t where t.isDelete = true and t.teamId > :lastTeamId order by t.teamId")
+  List<Team> findDeletedTeamsAfter(@Param("lastTeamId") Long lastTeamId, Pageable pageable);
 
   @Transactional
   @Modifying
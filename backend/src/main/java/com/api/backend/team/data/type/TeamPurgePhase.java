@@ -0,0 +1,14 @@
+package com.api.backend.team.data.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TeamPurgePhase {
+  MONGO("문서, 댓글"),
+  MYSQL("알람, 일정, 카테고리, 팀원"),
+  FILE("팀 프로필 이미지");
+
+  private final String description;
+}
@@ -0,0 +1,15 @@
+package com.api.backend.team.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 복구 기한이 지나 해체 상태로 바뀐 팀들이 커밋된 뒤 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TeamRestorationExpiredEvent {
+
+  private final List<Long> teamIds;
+}
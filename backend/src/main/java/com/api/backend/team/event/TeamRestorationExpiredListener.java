@@ -0,0 +1,25 @@
+package com.api.backend.team.event;
+
+import static com.api.backend.global.config.AsyncConfig.TEAM_PURGE_EXECUTOR;
+
+import com.api.backend.team.cache.TeamMembershipCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamRestorationExpiredListener {
+
+  private final TeamMembershipCache teamMembershipCache;
+
+  @Async(TEAM_PURGE_EXECUTOR)
+  @EventListener
+  public void handleRestorationExpired(TeamRestorationExpiredEvent event) {
+    event.getTeamIds().forEach(teamMembershipCache::evictTeam);
+    log.info("복구 기한이 지난 팀 {}개의 팀 참가 캐시를 무효화하였습니다.", event.getTeamIds().size());
+  }
+}
@@ -12,6 +12,8 @@ import com.api.backend.file.service.FileProcessService;
 import com.api.backend.file.type.FileFolder;
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.member.data.dto.TeamParticipantUpdateRequest;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.entity.Team;
 import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.data.repository.TeamParticipantsRepository;
@@ -28,6 +30,7 @@ public class TeamParticipantsService {
 
   private final TeamService teamService;
   private final TeamParticipantsRepository teamParticipantsRepository;
+  private final TeamMembershipCache teamMembershipCache;
   private static final boolean DELETE_FALSE_FLAG = false;
 
   private final FileProcessService fileProcessService;
@@ -41,6 +44,7 @@ public class TeamParticipantsService {
     }
     fileProcessService.deleteImage(teamParticipants.getParticipantsProfileUrl());
     teamParticipantsRepository.delete(teamParticipants);
+    teamMembershipCache.evict(memberId, teamId);
 
     return teamParticipants;
   }
@@ -65,6 +69,8 @@ public class TeamParticipantsService {
 
     readerParticipant.setTeamRole(TeamRole.MATE);
     mateParticipant.setTeamRole(TeamRole.LEADER);
+    // 팀장과 팀원 두 명의 역할이 바뀌므로 팀 단위로 무효화한다.
+    teamMembershipCache.evictTeam(teamId);
     return UPDATE_ROLE_TEAM_PARTICIPANT;
   }
 
@@ -88,6 +94,13 @@ public class TeamParticipantsService {
     return teamParticipants;
   }
 
+  /**
+   * 권한 확인처럼 참가자 id, 역할, 닉네임만 필요한 경우 엔티티 대신 캐시된 참가 정보를 조회한다.
+   */
+  public TeamMembership getTeamMembership(Long teamId, Long memberId) {
+    return teamMembershipCache.getActiveMembership(memberId, teamId);
+  }
+
   public List<TeamParticipants> getTeamParticipantsByUserId(Long memberId) {
     return teamParticipantsRepository
         .findAllByMember_MemberIdAndTeam_IsDeleteAndTeam_RestorationDtIsNull(
@@ -117,6 +130,7 @@ public class TeamParticipantsService {
         teamParticipant.getTeamNickName())
     ) {
       teamParticipant.setTeamNickName(teamParticipantUpdateRequest.getTeamNickName());
+      teamMembershipCache.evict(memberId, team.getTeamId());
     }
 
     if (teamParticipantUpdateRequest.getParticipantImg() != null) {
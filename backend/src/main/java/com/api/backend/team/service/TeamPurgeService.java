@@ -0,0 +1,192 @@
+package com.api.backend.team.service;
+
+import static com.api.backend.global.config.AsyncConfig.TEAM_PURGE_EXECUTOR;
+
+import com.api.backend.comment.service.CommentService;
+import com.api.backend.documents.service.DocumentService;
+import com.api.backend.file.service.FileProcessService;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.entity.Team;
+import com.api.backend.team.data.entity.TeamPurgeCheckpoint;
+import com.api.backend.team.data.repository.TeamPurgeCheckpointRepository;
+import com.api.backend.team.data.repository.TeamPurgeJdbcRepository;
+import com.api.backend.team.data.repository.TeamRepository;
+import com.api.backend.team.data.type.TeamPurgePhase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 해체된 팀을 id 순서로 teamChunkSize 개씩 삭제한다.
+ * 묶음마다 MongoDB(문서, 댓글), MySQL(알람, 일정, 카테고리, 팀원), 파일(프로필 이미지) 단계를 동시에 실행하고,
+ * 끝난 단계는 checkpoint 로 남겨 실패하면 다음 실행에서 남은 단계만 다시 수행한다.
+ * 세 단계가 모두 끝난 팀만 팀 행을 지운다.
+ */
+@Slf4j
+@Service
+public class TeamPurgeService {
+
+  private static final String PHASE_METRIC = "team.purge.phase";
+  private static final String DELETED_METRIC = "team.purge.deleted";
+
+  private final int teamChunkSize;
+  private final int rowChunkSize;
+  private final TeamRepository teamRepository;
+  private final TeamPurgeJdbcRepository teamPurgeJdbcRepository;
+  private final TeamPurgeCheckpointRepository teamPurgeCheckpointRepository;
+  private final DocumentService documentService;
+  private final CommentService commentService;
+  private final FileProcessService fileProcessService;
+  private final TeamMembershipCache teamMembershipCache;
+  private final Executor executor;
+
+  private final Map<TeamPurgePhase, Timer> phaseTimers = new EnumMap<>(TeamPurgePhase.class);
+  private final Map<TeamPurgePhase, Counter> deletedCounters = new EnumMap<>(TeamPurgePhase.class);
+  private final Counter purgedTeamCounter;
+
+  public TeamPurgeService(
+      @Value("${team.purge.team-chunk-size:100}") int teamChunkSize,
+      @Value("${team.purge.row-chunk-size:1000}") int rowChunkSize,
+      TeamRepository teamRepository,
+      TeamPurgeJdbcRepository teamPurgeJdbcRepository,
+      TeamPurgeCheckpointRepository teamPurgeCheckpointRepository,
+      DocumentService documentService,
+      CommentService commentService,
+      FileProcessService fileProcessService,
+      TeamMembershipCache teamMembershipCache,
+      @Qualifier(TEAM_PURGE_EXECUTOR) Executor executor,
+      MeterRegistry meterRegistry
+  ) {
+    this.teamChunkSize = teamChunkSize;
+    this.rowChunkSize = rowChunkSize;
+    this.teamRepository = teamRepository;
+    this.teamPurgeJdbcRepository = teamPurgeJdbcRepository;
+    this.teamPurgeCheckpointRepository = teamPurgeCheckpointRepository;
+    this.documentService = documentService;
+    this.commentService = commentService;
+    this.fileProcessService = fileProcessService;
+    this.teamMembershipCache = teamMembershipCache;
+    this.executor = executor;
+
+    for (TeamPurgePhase phase : TeamPurgePhase.values()) {
+      phaseTimers.put(phase, meterRegistry.timer(PHASE_METRIC, "phase", phase.name()));
+      deletedCounters.put(phase, meterRegistry.counter(DELETED_METRIC, "phase", phase.name()));
+    }
+    this.purgedTeamCounter = meterRegistry.counter("team.purge.teams");
+  }
+
+  /**
+   * 삭제한 팀 수를 반환한다.
+   */
+  public int purgeDeletedTeams() {
+    int purgedCount = 0;
+    long lastTeamId = 0;
+
+    while (true) {
+      List<Team> teams = teamRepository.findDeletedTeamsAfter(
+          lastTeamId, PageRequest.of(0, teamChunkSize));
+      if (teams.isEmpty()) {
+        break;
+      }
+      lastTeamId = teams.get(teams.size() - 1).getTeamId();
+      purgedCount += purgeChunk(teams);
+
+      if (teams.size() < teamChunkSize) {
+        break;
+      }
+    }
+
+    log.info("해체된 팀 {}개를 삭제하였습니다.", purgedCount);
+    return purgedCount;
+  }
+
+  private int purgeChunk(List<Team> teams) {
+    List<Long> teamIds = teams.stream().map(Team::getTeamId).collect(Collectors.toList());
+    Map<Long, Set<TeamPurgePhase>> completed = loadCheckpoints(teamIds);
+
+    CompletableFuture<Void> mongo = runPhase(TeamPurgePhase.MONGO, teams, completed,
+        targets -> {
+          List<Long> ids = targets.stream().map(Team::getTeamId).collect(Collectors.toList());
+          return documentService.deleteAllDocsInTeams(ids) + commentService.deleteAllCommentsInTeams(ids);
+        });
+    CompletableFuture<Void> mysql = runPhase(TeamPurgePhase.MYSQL, teams, completed,
+        targets -> teamPurgeJdbcRepository.deleteTeamRows(
+            targets.stream().map(Team::getTeamId).collect(Collectors.toList()), rowChunkSize));
+    CompletableFuture<Void> file = runPhase(TeamPurgePhase.FILE, teams, completed,
+        targets -> {
+          long deletedCount = 0;
+          for (Team team : targets) {
+            if (team.getProfileUrl() != null) {
+              fileProcessService.deleteImage(team.getProfileUrl());
+              deletedCount++;
+            }
+          }
+          return deletedCount;
+        });
+
+    try {
+      CompletableFuture.allOf(mongo, mysql, file).join();
+    } catch (RuntimeException e) {
+      log.warn("해체된 팀 삭제 중 실패한 단계가 있어 다음 실행에서 이어서 삭제합니다. teamIds = {}", teamIds, e);
+      return 0;
+    }
+
+    teamRepository.deleteAllByIdsInQuery(teamIds);
+    teamPurgeCheckpointRepository.deleteAllByTeamIdInQuery(teamIds);
+    teamIds.forEach(teamMembershipCache::evictTeam);
+    purgedTeamCounter.increment(teamIds.size());
+    return teamIds.size();
+  }
+
+  private CompletableFuture<Void> runPhase(
+      TeamPurgePhase phase, List<Team> teams, Map<Long, Set<TeamPurgePhase>> completed,
+      Function<List<Team>, Long> purge
+  ) {
+    List<Team> targets = teams.stream()
+        .filter(team -> !completed.getOrDefault(team.getTeamId(), Set.of()).contains(phase))
+        .collect(Collectors.toList());
+    if (targets.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return CompletableFuture.runAsync(() -> {
+      long deletedCount = phaseTimers.get(phase).record(() -> purge.apply(targets));
+      deletedCounters.get(phase).increment(deletedCount);
+
+      List<TeamPurgeCheckpoint> checkpoints = new ArrayList<>(targets.size());
+      for (Team team : targets) {
+        checkpoints.add(TeamPurgeCheckpoint.builder()
+            .teamId(team.getTeamId())
+            .phase(phase)
+            .build());
+      }
+      teamPurgeCheckpointRepository.saveAll(checkpoints);
+      log.info("해체된 팀 {}개의 {} {}건 삭제", targets.size(), phase.getDescription(), deletedCount);
+    }, executor);
+  }
+
+  private Map<Long, Set<TeamPurgePhase>> loadCheckpoints(List<Long> teamIds) {
+    Map<Long, Set<TeamPurgePhase>> completed = new HashMap<>();
+    for (TeamPurgeCheckpoint checkpoint : teamPurgeCheckpointRepository.findAllByTeamIdIn(teamIds)) {
+      completed.computeIfAbsent(checkpoint.getTeamId(), key -> EnumSet.noneOf(TeamPurgePhase.class))
+          .add(checkpoint.getPhase());
+    }
+    return completed;
+  }
+}
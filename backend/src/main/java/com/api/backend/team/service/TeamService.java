@@ -3,7 +3,6 @@ package com.api.backend.team.service;
 import static com.api.backend.global.exception.type.ErrorCode.MEMBER_NOT_FOUND_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.PASSWORD_NOT_MATCH_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_CODE_NOT_VALID_EXCEPTION;
-import static com.api.backend.global.exception.type.ErrorCode.TEAM_EXPIRED_DATE_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETEING_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETE_TRUE_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_LIMIT_VALID_EXCEPTION;
@@ -23,7 +22,9 @@ import com.api.backend.file.type.FileFolder;
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.member.data.entity.Member;
 import com.api.backend.member.data.repository.MemberRepository;
-import com.api.backend.team.crypt.SimpleEncryption;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.crypt.InviteTokenProvider;
+import com.api.backend.team.crypt.InviteTokenProvider.InviteToken;
 import com.api.backend.team.data.dto.TeamCreateRequest;
 import com.api.backend.team.data.dto.TeamCreateResponse;
 import com.api.backend.team.data.dto.TeamDisbandRequest;
@@ -40,6 +41,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -54,7 +56,8 @@ public class TeamService {
   private final TeamRepository teamRepository;
   private final MemberRepository memberRepository;
   private final TeamParticipantsRepository teamParticipantsRepository;
-  private final SimpleEncryption simpleEncryption;
+  private final InviteTokenProvider inviteTokenProvider;
+  private final TeamMembershipCache teamMembershipCache;
   private static final boolean DELETE_FALSE_FLAG = false;
   private static final int EXPIRE_DATE = 10;
 
@@ -95,27 +98,30 @@ public class TeamService {
 
     existTeamParticipantsFalseThrows(teamId, userId);
 
-    String encryptDate = simpleEncryption.encrypt(
-        LocalDate.now().plusDays(EXPIRE_DATE).toString()
+    String inviteToken = inviteTokenProvider.createToken(
+        team.getTeamId(),
+        team.getInviteCode(),
+        System.currentTimeMillis() + TimeUnit.DAYS.toMillis(EXPIRE_DATE)
     );
 
-    return team.getTeamId() + "/" +team.getInviteCode() + "/" + encryptDate;
+    return team.getTeamId() + "/invite/" + inviteToken;
   }
 
+  /**
+   * 서명, 만료 여부는 DB 조회 없이 먼저 확인하고, 통과한 토큰만 팀을 조회해 초대 코드를 비교한다.
+   */
   @Transactional
-  public TeamParticipantsUpdateResponse updateTeamParticipants(Long teamId, String code, Long userId,
-      String dateString) {
-    Team team = getTeam(teamId);
-    String codeByEntity = team.getInviteCode();
-
-    if (!codeByEntity.equals(code)) {
+  public TeamParticipantsUpdateResponse updateTeamParticipants(Long teamId, String inviteToken,
+      Long userId) {
+    InviteToken token = inviteTokenProvider.verify(inviteToken);
+    if (token.getTeamId() != teamId) {
       throw new CustomException(TEAM_CODE_NOT_VALID_EXCEPTION);
     }
 
-    LocalDate date = simpleEncryption.decrypt(dateString);
+    Team team = getTeam(teamId);
 
-    if (LocalDate.now().isAfter(date)) {
-      throw new CustomException(TEAM_EXPIRED_DATE_EXCEPTION);
+    if (!inviteTokenProvider.matchesCode(token, team.getInviteCode())) {
+      throw new CustomException(TEAM_CODE_NOT_VALID_EXCEPTION);
     }
 
     isDeletedCheck(team.getRestorationDt(), team.isDelete());
@@ -137,6 +143,7 @@ public class TeamService {
             .teamRole(TeamRole.MATE)
             .build()
     );
+    teamMembershipCache.evict(userId, teamId);
 
     return TeamParticipantsUpdateResponse
         .builder()
@@ -174,6 +181,7 @@ public class TeamService {
 
     fileProcessService.deleteImage(teamParticipants.getParticipantsProfileUrl());
     deleteTeamParticipantById(teamParticipants);
+    teamMembershipCache.evict(teamParticipants.getMember().getMemberId(), request.getTeamId());
 
     return TeamKickOutResponse.builder()
         .teamId(request.getTeamId())
@@ -199,6 +207,7 @@ public class TeamService {
     isDeletedCheck(team.getRestorationDt(), team.isDelete());
 
     team.setRestorationDt(LocalDate.now().plusDays(30));
+    teamMembershipCache.evictTeam(team.getTeamId());
     return team;
   }
 
@@ -224,13 +233,27 @@ public class TeamService {
       throw new CustomException(TEAM_NOT_DELETEING_EXCEPTION);
     } else if (!team.getRestorationDt().isAfter(restoreDt)) {
       team.setDelete(true);
+      teamMembershipCache.evictTeam(teamId);
       return team;
     }
 
     team.setRestorationDt(null);
+    teamMembershipCache.evictTeam(teamId);
     return team;
   }
 
+  /**
+   * 복구 기한이 지난 팀을 최대 limit 개 해체 상태로 바꾸고 바뀐 팀 id 를 반환한다.
+   */
+  @Transactional
+  public List<Long> expireRestorations(LocalDate today, int limit) {
+    List<Long> teamIds = teamRepository.findRestorationExpiredTeamIdsForUpdate(today, limit);
+    if (!teamIds.isEmpty()) {
+      teamRepository.expireRestoration(teamIds, today);
+    }
+    return teamIds;
+  }
+
   public boolean existById(Long teamId) {
     return teamRepository.existsById(teamId);
   }
@@ -3,34 +3,36 @@ package com.api.backend.comment.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.api.backend.comment.data.dto.CommentCursorResponse;
 import com.api.backend.comment.data.dto.CommentEditRequest;
 import com.api.backend.comment.data.dto.CommentInitRequest;
 import com.api.backend.comment.data.dto.DeleteCommentsResponse;
 import com.api.backend.comment.data.entity.Comment;
 import com.api.backend.comment.data.repository.CommentRepository;
 import com.api.backend.documents.data.entity.Documents;
-import com.api.backend.documents.data.repository.DocumentsRepository;
-import com.api.backend.team.data.entity.TeamParticipants;
-import com.api.backend.team.data.repository.TeamParticipantsRepository;
+import com.api.backend.documents.valid.DocumentAndCommentValidCheck;
+import com.api.backend.team.data.dto.TeamMembership;
+import com.api.backend.team.data.type.TeamRole;
 import java.security.Principal;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -40,10 +42,7 @@ class CommentServiceTest {
   private CommentRepository commentRepository;
 
   @Mock
-  private DocumentsRepository documentsRepository;
-
-  @Mock
-  private TeamParticipantsRepository teamParticipantsRepository;
+  private DocumentAndCommentValidCheck validCheck;
 
   @InjectMocks
   private CommentService commentService;
@@ -52,32 +51,31 @@ class CommentServiceTest {
   @BeforeEach()
   private void setUp() {
     principal = Mockito.mock(Principal.class);
+    when(validCheck.getMemberId(principal)).thenReturn(1L);
+    when(validCheck.findValidDocument("testDocumentId")).thenReturn(createDocuments());
   }
 
   @Test
-  @DisplayName("댓글 생성 성공")
+  @DisplayName("댓글 생성 성공 - 문서를 다시 저장하지 않고 댓글에 문서 id 저장")
   void createComment_Success() {
     //given
-    Documents documents =createDocuments();
-
-    Comment comment = createComment();
-
     CommentInitRequest commentInitRequest = CommentInitRequest.builder()
         .writerId(23L)
         .content("아하 이런 회의를 했었군요.")
         .build();
 
-    when(documentsRepository.findById("testDocumentId")).thenReturn(Optional.of(documents));
-    when(commentRepository.save(any(Comment.class))).thenReturn(comment);
+    when(commentRepository.save(any(Comment.class))).thenReturn(createComment("commentId"));
 
     //when
-    Comment savedComment = commentService.createComment(1L, "testDocumentIdx", commentInitRequest, principal);
+    Comment savedComment = commentService.createComment(1L, "testDocumentId", commentInitRequest, principal);
 
     //then
+    ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
+    verify(commentRepository).save(commentCaptor.capture());
     assertNotNull(savedComment);
+    assertEquals("testDocumentId", commentCaptor.getValue().getDocumentId());
     assertEquals(23L, savedComment.getWriterId());
     assertEquals("아하 이런 회의를 했었군요.", savedComment.getContent());
-    assertEquals(1, documents.getCommentIds().size());
   }
 
 
@@ -85,110 +83,77 @@ class CommentServiceTest {
   @DisplayName("댓글 전체 조회 성공_댓글이 없을 때")
   void getCommentList_Success_WhenCommentsNotExist() {
     //given
-    Documents documents =createDocuments();
+    when(commentRepository.findAllByDocumentIdOrderByIdAsc("testDocumentId", PageRequest.of(0, 5)))
+        .thenReturn(Collections.emptyList());
 
-    when(documentsRepository.findById("testDocumentId")).thenReturn(Optional.of(documents));
     //when
-    Pageable pageable = PageRequest.of(0, 4, Sort.unsorted());
-    Page<Comment> commentPage = commentService.getCommentList(1L, "testDocumentIdx", principal, pageable);
+    CommentCursorResponse response = commentService.getCommentList(1L, "testDocumentId", principal, null, 4);
 
     //then
-    assertNotNull(commentPage);
-    assertTrue(commentPage.isEmpty());
+    assertTrue(response.getContent().isEmpty());
+    assertFalse(response.isHasNext());
+    assertNull(response.getNextCursor());
   }
 
   @Test
-  @DisplayName("댓글 전체 조회 성공_댓글이 있을 때(1 개)")
+  @DisplayName("댓글 전체 조회 성공_다음 페이지가 있을 때 마지막 댓글 id 를 cursor 로 반환")
   void getCommentList_Success_WhenCommentsExist() {
     //given
-    Comment comment = createComment();
-    Documents documents = Documents.builder()
-        .id("testDocumentId")
-        .teamId(1L)
-        .commentIds(Collections.singletonList(comment))
-        .build();
-
-    when(documentsRepository.findById("testDocumentId")).thenReturn(Optional.of(documents));
+    when(commentRepository.findAllByDocumentIdAndIdGreaterThanOrderByIdAsc(
+        eq("testDocumentId"), eq("commentId0"), eq(PageRequest.of(0, 3))))
+        .thenReturn(List.of(
+            createComment("commentId1"), createComment("commentId2"), createComment("commentId3")));
 
     //when
-    Pageable pageable = PageRequest.of(0, 4, Sort.unsorted());
-    Page<Comment> commentPage = commentService.getCommentList(1L, "testDocumentIdx",  principal, pageable);
+    CommentCursorResponse response = commentService.getCommentList(1L, "testDocumentId", principal, "commentId0", 2);
 
     //then
-    assertNotNull(commentPage);
-    assertFalse(commentPage.isEmpty());
+    assertEquals(2, response.getContent().size());
+    assertTrue(response.isHasNext());
+    assertEquals("commentId2", response.getNextCursor());
   }
 
   @Test
   @DisplayName("댓글 수정 성공")
   void editComment_Success() {
     //given
-    Comment comment = createComment();
-    Documents documents = Documents.builder()
-        .id("testDocumentId")
-        .teamId(1L)
-        .commentIds(Collections.singletonList(comment))
-        .build();
+    Comment comment = createComment("commentId");
 
     CommentEditRequest commentEditRequest = CommentEditRequest.builder()
         .editorId(23L)
         .content("수정한 댓글입니다.")
         .build();
 
-    Comment editCommentMock = Comment.builder()
-        .id("commentId")
-        .writerId(23L)
-        .content("수정한 댓글입니다.")
-        .teamId(1L)
-        .build();
-
-    when(documentsRepository.findById("testDocumentId")).thenReturn(Optional.of(documents));
-    when(commentRepository.findById("commentId")).thenReturn(Optional.of(comment));
-    when(commentRepository.save(any(Comment.class))).thenReturn(editCommentMock);
+    when(validCheck.findValidComment("commentId")).thenReturn(comment);
+    when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
     //when
-    Comment editComment = commentService.editComment(1L, "testDocumentIdx", "commentId",
+    Comment editComment = commentService.editComment(1L, "testDocumentId", "commentId",
         commentEditRequest, principal);
 
     //then
-    assertNotNull(editComment);
     assertEquals("commentId", editComment.getId());
+    assertEquals("testDocumentId", editComment.getDocumentId());
     assertEquals("수정한 댓글입니다.", editComment.getContent());
-    assertEquals(1, documents.getCommentIds().size());
-
-    // Todo : 데이터 베이스를 이용한 통합 테스트시 해야할 일
-//    assertEquals("수정한 댓글입니다.", documents.getCommentIds().get(0).getContent());
   }
 
   @Test
   @DisplayName("댓글 삭제 성공")
   void deleteComment_Success() {
     //given
-    Comment comment = createComment();
-    Documents documents = Documents.builder()
-        .id("testDocumentId")
-        .teamId(1L)
-        .commentIds(Collections.singletonList(comment))
-        .build();
+    Comment comment = createComment("commentId");
 
-    TeamParticipants teamParticipants = TeamParticipants.builder()
-        .teamParticipantsId(23L)
-        .build();
-    Principal principal = Mockito.mock(Principal.class);
-    when(principal.getName()).thenReturn("1");
-    when(documentsRepository.findById("testDocumentId")).thenReturn(Optional.of(documents));
-    when(commentRepository.findById("commentId")).thenReturn(Optional.of(comment));
-    when(teamParticipantsRepository.findByMember_MemberId(1L)).thenReturn(Optional.of(teamParticipants));
+    TeamMembership teamParticipants =
+        new TeamMembership(23L, 1L, 1L, TeamRole.MATE, null, null, false);
+    when(validCheck.findValidTeamParticipantByMemberIdAndTeamId(1L, 1L)).thenReturn(teamParticipants);
+    when(validCheck.findValidComment("commentId")).thenReturn(comment);
     //when
     DeleteCommentsResponse deleteCommentsResponse = commentService.deleteComment(1L,
-        "testDocumentIdx", "commentId", principal);
+        "testDocumentId", "commentId", principal);
 
     //then
-    assertNotNull(deleteCommentsResponse);
+    verify(commentRepository).deleteById("commentId");
     assertEquals(23L, deleteCommentsResponse.getWriterId());
     assertEquals("아하 이런 회의를 했었군요.", deleteCommentsResponse.getContent());
-
-    // TODO : 데이터 베이스를 이용한 통합 테스트시 해야할 일
-//    assertEquals(0, documents.getCommentIds().size());
   }
 
   private Documents createDocuments() {
@@ -197,12 +162,13 @@ class CommentServiceTest {
         .teamId(1L)
         .build();
   }
-  private Comment createComment() {
+  private Comment createComment(String id) {
     return Comment.builder()
-        .id("commentId")
+        .id(id)
         .writerId(23L)
         .content("아하 이런 회의를 했었군요.")
         .teamId(1L)
+        .documentId("testDocumentId")
         .build();
   }
-}
\ No newline at end of file
+}
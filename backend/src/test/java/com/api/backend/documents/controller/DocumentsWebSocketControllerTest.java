@@ -0,0 +1,94 @@
+package com.api.backend.documents.controller;
+
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_REVISION_NOT_VALID_EXCEPTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.documents.data.dto.DeltaMessage;
+import com.api.backend.documents.data.repository.DocumentsRepository;
+import com.api.backend.documents.service.DocumentDeltaService;
+import com.api.backend.documents.service.DocumentSaveBuffer;
+import com.api.backend.global.exception.CustomException;
+import com.api.backend.global.exception.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentsWebSocketControllerTest {
+
+  @Mock
+  private DocumentsRepository documentsRepository;
+  @Mock
+  private DocumentDeltaService documentDeltaService;
+  @Mock
+  private DocumentSaveBuffer documentSaveBuffer;
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private DocumentsWebSocketController documentsWebSocketController;
+
+  @BeforeEach
+  void setUp() {
+    documentsWebSocketController = new DocumentsWebSocketController(
+        documentsRepository, documentDeltaService, documentSaveBuffer, messagingTemplate, objectMapper);
+  }
+
+  @Test
+  @DisplayName("변경분 거절 - 보낸 클라이언트에게만 에러 코드 전달")
+  void handleDeltaBroadCast_Rejected() throws Exception {
+    //given
+    DeltaMessage deltaMessage = DeltaMessage.builder()
+        .documentId("documentId")
+        .revision(3L)
+        .clientId("clientId")
+        .build();
+    Message<byte[]> message = MessageBuilder
+        .withPayload(objectMapper.writeValueAsBytes(deltaMessage))
+        .build();
+    when(documentDeltaService.applyDelta(any(DeltaMessage.class)))
+        .thenThrow(new CustomException(DOCUMENT_REVISION_NOT_VALID_EXCEPTION));
+
+    //when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> documentsWebSocketController.handleDeltaBroadCast(deltaMessage));
+    documentsWebSocketController.handleCustomException(exception, message);
+
+    //then
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(messagingTemplate).convertAndSend(
+        eq("/topic/delta/documentId/error/clientId"), captor.capture());
+    verify(messagingTemplate, never()).convertAndSend(eq("/topic/delta/documentId"), any(Object.class));
+    assertEquals(DOCUMENT_REVISION_NOT_VALID_EXCEPTION,
+        ((ErrorResponse) captor.getValue()).getErrorCode());
+  }
+
+  @Test
+  @DisplayName("보낸 클라이언트를 알 수 없는 요청 실패 - 전송하지 않음")
+  void handleCustomException_UnknownClient() {
+    //given
+    Message<byte[]> message = MessageBuilder.withPayload("{\"documentId\":\"documentId\"}".getBytes()).build();
+
+    //when
+    documentsWebSocketController.handleCustomException(
+        new CustomException(DOCUMENT_REVISION_NOT_VALID_EXCEPTION), message);
+
+    //then
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+}
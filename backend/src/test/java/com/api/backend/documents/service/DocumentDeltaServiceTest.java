@@ -0,0 +1,118 @@
+package com.api.backend.documents.service;
+
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_REVISION_NOT_VALID_EXCEPTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.documents.data.dto.DeltaMessage;
+import com.api.backend.documents.data.dto.DeltaOp;
+import com.api.backend.documents.data.entity.DocumentOperation;
+import com.api.backend.documents.data.repository.DocumentOperationRepository;
+import com.api.backend.documents.data.repository.DocumentsRepository;
+import com.api.backend.global.exception.CustomException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentDeltaServiceTest {
+
+  private static final String DOCUMENT_ID = "document";
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @Mock
+  private DocumentsRepository documentsRepository;
+  @Mock
+  private DocumentOperationRepository documentOperationRepository;
+
+  @InjectMocks
+  private DocumentDeltaService documentDeltaService;
+
+  @Test
+  @DisplayName("변경 반영 - 먼저 반영된 변경 기준으로 변환 후 다음 버전으로 저장")
+  void applyDelta_transformConcurrent() {
+    //given
+    DocumentOperation concurrent = DocumentOperation.builder()
+        .documentId(DOCUMENT_ID)
+        .revision(4)
+        .ops(List.of(DeltaOp.insert("abc", null)))
+        .build();
+    when(documentOperationRepository
+        .findAllByDocumentIdAndRevisionGreaterThanOrderByRevisionAsc(DOCUMENT_ID, 3))
+        .thenReturn(List.of(concurrent));
+
+    //when
+    DeltaMessage result = documentDeltaService.applyDelta(message(3,
+        List.of(DeltaOp.retain(1, null), DeltaOp.insert("x", null))));
+
+    //then
+    assertEquals(5L, result.getRevision());
+    assertEquals(4, result.getOps().get(0).getRetain());
+    assertEquals("x", result.getOps().get(1).getInsert());
+  }
+
+  @Test
+  @DisplayName("변경 반영 - 같은 버전이 먼저 저장되면 다시 변환해 그 다음 버전으로 저장")
+  void applyDelta_retryOnDuplicate() {
+    //given
+    when(documentOperationRepository.existsByDocumentIdAndRevision(DOCUMENT_ID, 1))
+        .thenReturn(true);
+    when(documentOperationRepository
+        .findAllByDocumentIdAndRevisionGreaterThanOrderByRevisionAsc(DOCUMENT_ID, 1))
+        .thenReturn(List.of())
+        .thenReturn(List.of(DocumentOperation.builder()
+            .revision(2)
+            .ops(List.of(DeltaOp.insert("ab", null)))
+            .build()));
+    when(documentOperationRepository.insert(any(DocumentOperation.class)))
+        .thenThrow(new DuplicateKeyException("duplicate"))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    //when
+    DeltaMessage result = documentDeltaService.applyDelta(message(1,
+        List.of(DeltaOp.insert("x", null))));
+
+    //then
+    assertEquals(3L, result.getRevision());
+    assertEquals(2, result.getOps().get(0).getRetain());
+  }
+
+  @Test
+  @DisplayName("변경 반영 - 이력이 정리되어 중간 버전이 없으면 다시 불러오도록 실패")
+  void applyDelta_trimmedRevision() {
+    //given
+    when(documentOperationRepository
+        .findAllByDocumentIdAndRevisionGreaterThanOrderByRevisionAsc(eq(DOCUMENT_ID), anyLong()))
+        .thenReturn(List.of(DocumentOperation.builder().revision(10).build()));
+
+    //when
+    CustomException result = assertThrows(CustomException.class,
+        () -> documentDeltaService.applyDelta(message(3, List.of(DeltaOp.delete(1)))));
+
+    //then
+    assertEquals(DOCUMENT_REVISION_NOT_VALID_EXCEPTION, result.getErrorCode());
+    verify(documentOperationRepository, never()).insert(any(DocumentOperation.class));
+  }
+
+  private static DeltaMessage message(long revision, List<DeltaOp> ops) {
+    return DeltaMessage.builder()
+        .documentId(DOCUMENT_ID)
+        .revision(revision)
+        .ops(ops)
+        .clientId("client")
+        .build();
+  }
+}
@@ -0,0 +1,173 @@
+package com.api.backend.documents.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.documents.data.dto.TotalMessage;
+import com.api.backend.documents.data.entity.Documents;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentSaveBufferTest {
+
+  private static final String DOCUMENT_ID = "document";
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+  @Mock
+  private DocumentDeltaService documentDeltaService;
+
+  private DocumentSaveBuffer documentSaveBuffer;
+
+  @BeforeEach
+  void setUp() {
+    documentSaveBuffer = new DocumentSaveBuffer(mongoTemplate, documentDeltaService,
+        new SimpleMeterRegistry(), Duration.ZERO, Duration.ofSeconds(10), 3);
+  }
+
+  @Test
+  @DisplayName("문서 저장 - 모아 둔 요청 중 마지막 본문만 버전 확인 후 저장")
+  void flushDue_mergeAndSave() {
+    //given
+    when(documentDeltaService.getLatestRevision(DOCUMENT_ID)).thenReturn(10L);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Documents.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    documentSaveBuffer.buffer(message("first", 5L));
+    documentSaveBuffer.buffer(message("second", 6L));
+
+    //when
+    int flushed = documentSaveBuffer.flushDue();
+
+    //then
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate, times(1))
+        .updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(Documents.class));
+
+    Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+    assertEquals(1, flushed);
+    assertEquals(0, documentSaveBuffer.size());
+    assertEquals("second", set.get("content"));
+    assertEquals(6L, set.get("revision"));
+    assertEquals(revisionCriteria(6L), queryCaptor.getValue().getQueryObject().get("$or"));
+    verify(documentDeltaService).trimOperations(DOCUMENT_ID, 6L);
+  }
+
+  @Test
+  @DisplayName("문서 저장 - 더 최신 버전이 저장되어 있으면 덮어쓰지 않음")
+  void flush_staleRevision() {
+    //given
+    when(documentDeltaService.getLatestRevision(DOCUMENT_ID)).thenReturn(10L);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Documents.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+    documentSaveBuffer.buffer(message("old", 3L));
+
+    //when
+    documentSaveBuffer.flush(DOCUMENT_ID);
+
+    //then
+    assertEquals(0, documentSaveBuffer.size());
+    verify(documentDeltaService, never()).trimOperations(anyString(), anyLong());
+  }
+
+  @Test
+  @DisplayName("문서 저장 - 모아 둔 요청이 max-merges 에 도달하면 바로 저장")
+  void buffer_flushOnMaxMerges() {
+    //given
+    when(documentDeltaService.getLatestRevision(DOCUMENT_ID)).thenReturn(10L);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Documents.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+    //when
+    documentSaveBuffer.buffer(message("a", 1L));
+    documentSaveBuffer.buffer(message("b", 2L));
+    documentSaveBuffer.buffer(message("c", 3L));
+
+    //then
+    assertEquals(0, documentSaveBuffer.size());
+    verify(mongoTemplate, times(1))
+        .updateFirst(any(Query.class), any(Update.class), eq(Documents.class));
+  }
+
+  @Test
+  @DisplayName("문서 저장 - revision 필드가 없는 이전 문서도 저장 대상에 포함")
+  void flush_legacyDocumentWithoutRevision() {
+    //given
+    when(documentDeltaService.getLatestRevision(DOCUMENT_ID)).thenReturn(10L);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Documents.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    documentSaveBuffer.buffer(message("legacy", 1L));
+
+    //when
+    documentSaveBuffer.flush(DOCUMENT_ID);
+
+    //then
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).updateFirst(queryCaptor.capture(), any(Update.class), eq(Documents.class));
+    List<?> or = (List<?>) queryCaptor.getValue().getQueryObject().get("$or");
+    assertTrue(or.contains(new Document("revision", new Document("$exists", false))));
+    verify(documentDeltaService).trimOperations(DOCUMENT_ID, 1L);
+  }
+
+  @Test
+  @DisplayName("문서 저장 - 이력보다 앞선 revision 은 이력의 최신 버전으로 맞춰 저장하고 정리")
+  void flush_revisionAheadOfOperationLog() {
+    //given
+    when(documentDeltaService.getLatestRevision(DOCUMENT_ID)).thenReturn(10L);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Documents.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    documentSaveBuffer.buffer(message("forged", Long.MAX_VALUE));
+
+    //when
+    documentSaveBuffer.flush(DOCUMENT_ID);
+
+    //then
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate)
+        .updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(Documents.class));
+
+    Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+    assertEquals(10L, set.get("revision"));
+    assertEquals(revisionCriteria(10L), queryCaptor.getValue().getQueryObject().get("$or"));
+    verify(documentDeltaService).trimOperations(DOCUMENT_ID, 10L);
+  }
+
+  private List<Document> revisionCriteria(Long revision) {
+    return List.of(
+        new Document("revision", new Document("$lte", revision)),
+        new Document("revision", new Document("$exists", false)));
+  }
+
+  private TotalMessage message(String content, Long revision) {
+    return TotalMessage.builder()
+        .documentId(DOCUMENT_ID)
+        .title("title")
+        .content(content)
+        .participantsId(1L)
+        .revision(revision)
+        .build();
+  }
+}
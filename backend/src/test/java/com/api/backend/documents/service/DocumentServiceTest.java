@@ -1,5 +1,6 @@
 package com.api.backend.documents.service;
 
+import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_CURSOR_NOT_VALID_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_WRITER_EXISTS_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.DOCUMENT_WRITER_UNMATCH_TEAM_PARTICIPANTS_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION;
@@ -10,23 +11,30 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
+import com.api.backend.comment.data.entity.Comment;
+import com.api.backend.comment.data.repository.CommentRepository;
 import com.api.backend.documents.data.dto.DeleteDocsResponse;
 import com.api.backend.documents.data.dto.DocumentInitRequest;
+import com.api.backend.documents.data.dto.DocumentSummaryCursorResponse;
 import com.api.backend.documents.data.entity.Documents;
+import com.api.backend.documents.data.repository.DocumentOperationRepository;
 import com.api.backend.documents.data.repository.DocumentsRepository;
+import com.api.backend.documents.util.DocumentCursor;
 import com.api.backend.documents.valid.DocumentAndCommentValidCheck;
 import com.api.backend.global.exception.CustomException;
-import com.api.backend.member.data.entity.Member;
-import com.api.backend.team.data.entity.Team;
-import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.team.data.dto.TeamMembership;
 import com.api.backend.team.data.type.TeamRole;
 import java.security.Principal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +47,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
 
 @ExtendWith(MockitoExtension.class)
 class DocumentServiceTest {
@@ -49,6 +61,15 @@ class DocumentServiceTest {
   @Mock
   private DocumentsRepository documentsRepository;
 
+  @Mock
+  private DocumentOperationRepository documentOperationRepository;
+
+  @Mock
+  private CommentRepository commentRepository;
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
   @InjectMocks
   private DocumentService documentService;
 
@@ -218,13 +239,58 @@ class DocumentServiceTest {
 //    assertEquals(exception.getErrorCode(), TEAM_PARTICIPANTS_NOT_VALID_EXCEPTION);
 //  }
 //
+  @Test
+  @DisplayName("문서 목록 조회 성공: 다음 페이지가 있으면 마지막 문서의 cursor 와 댓글 수 반환")
+  void getDocsSummaryList_Success() {
+    //given
+    Principal principal = Mockito.mock(Principal.class);
+    when(validCheck.getMemberId(principal)).thenReturn(1L);
+    LocalDateTime createdDt = LocalDateTime.of(2023, 12, 10, 9, 0);
+    List<Documents> documents = new ArrayList<>(List.of(
+        summaryDocument("doc3", createdDt.plusHours(2)),
+        summaryDocument("doc2", createdDt.plusHours(1)),
+        summaryDocument("doc1", createdDt)));
+    when(mongoTemplate.find(any(Query.class), eq(Documents.class))).thenReturn(documents);
+    when(mongoTemplate.aggregate(any(Aggregation.class), eq(Comment.class), eq(Document.class)))
+        .thenReturn(new AggregationResults<>(
+            List.of(new Document("_id", "doc3").append("count", 2)), new Document()));
+
+    //when
+    DocumentSummaryCursorResponse response = documentService.getDocsSummaryList(
+        2L, principal, null, null, null, 2);
+
+    //then
+    DocumentCursor nextCursor = DocumentCursor.decode(response.getNextCursor());
+    assertTrue(response.isHasNext());
+    assertEquals(2, response.getContent().size());
+    assertEquals(2L, response.getContent().get(0).getCommentCount());
+    assertEquals(0L, response.getContent().get(1).getCommentCount());
+    assertEquals("doc2", nextCursor.getId());
+    assertEquals(createdDt.plusHours(1), nextCursor.getCreatedDt());
+  }
+
+  @Test
+  @DisplayName("문서 목록 조회 실패: 잘못된 cursor")
+  void getDocsSummaryList_Fail_By_InvalidCursor() {
+    //given
+    Principal principal = Mockito.mock(Principal.class);
+    when(validCheck.getMemberId(principal)).thenReturn(1L);
+
+    //when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> documentService.getDocsSummaryList(2L, principal, null, null, "not-a-cursor", 20));
+
+    //then
+    assertEquals(DOCUMENT_CURSOR_NOT_VALID_EXCEPTION, exception.getErrorCode());
+  }
+
   @Test
   @DisplayName("문서 삭제 성공: 문서 작성자 본인일 때")
   void deleteDocs_Success() {
     //given
     Principal principal = Mockito.mock(Principal.class);
     Documents documents = createtestDocuments();
-    TeamParticipants teamParticipants = createTestSetting_MATE();
+    TeamMembership teamParticipants = createTestSetting_MATE();
 
     when(validCheck.getMemberId(principal)).thenReturn(1L);
     when(validCheck.findValidTeamParticipantByMemberIdAndTeamId(1L, 2L)).thenReturn(
@@ -245,7 +311,7 @@ class DocumentServiceTest {
     //given
     Principal principal = Mockito.mock(Principal.class);
     Documents documents = createtestDocuments();
-    TeamParticipants teamParticipants = createTestSetting_LEADER();
+    TeamMembership teamParticipants = createTestSetting_LEADER();
 
     when(validCheck.getMemberId(principal)).thenReturn(1L);
     when(validCheck.findValidTeamParticipantByMemberIdAndTeamId(1L, 2L)).thenReturn(
@@ -267,7 +333,7 @@ class DocumentServiceTest {
     //given
     Principal principal = Mockito.mock(Principal.class);
     Documents documents = createtestDocuments();
-    TeamParticipants failTeamParticipants = createTestSetting_Fail_LEADER();
+    TeamMembership failTeamParticipants = createTestSetting_Fail_LEADER();
 
     when(validCheck.getMemberId(principal)).thenReturn(1L);
     when(validCheck.findValidTeamParticipantByMemberIdAndTeamId(1L, 2L)).thenReturn(
@@ -293,7 +359,7 @@ class DocumentServiceTest {
     //given
     Principal principal = Mockito.mock(Principal.class);
     Documents documents = createtestDocuments();
-    TeamParticipants failTeamParticipants = createTestSetting_Fail_MATE();
+    TeamMembership failTeamParticipants = createTestSetting_Fail_MATE();
 
     when(validCheck.getMemberId(principal)).thenReturn(1L);
     when(validCheck.findValidTeamParticipantByMemberIdAndTeamId(1L, 2L)).thenReturn(
@@ -324,84 +390,20 @@ class DocumentServiceTest {
         .build();
   }
 
-  private TeamParticipants createTestSetting_MATE() {
-    Team team = Team.builder()
-        .teamId(2L)
-        .build();
-
-    Member member = Member.builder()
-        .memberId(1L)
-        .email("first_test@Email.com")
-        .build();
-
-    TeamParticipants teamParticipants = TeamParticipants.builder()
-        .team(team)
-        .member(member)
-        .teamParticipantsId(1L)
-        .teamRole(TeamRole.MATE)
-        .build();
-
-    return teamParticipants;
+  private TeamMembership createTestSetting_MATE() {
+    return new TeamMembership(1L, 2L, 1L, TeamRole.MATE, null, null, false);
   }
 
-  private TeamParticipants createTestSetting_LEADER() {
-    Team team = Team.builder()
-        .teamId(2L)
-        .build();
-
-    Member member = Member.builder()
-        .memberId(1L)
-        .email("first_test@Email.com")
-        .build();
-
-    TeamParticipants teamParticipants = TeamParticipants.builder()
-        .team(team)
-        .member(member)
-        .teamParticipantsId(1L)
-        .teamRole(TeamRole.LEADER)
-        .build();
-
-    return teamParticipants;
+  private TeamMembership createTestSetting_LEADER() {
+    return new TeamMembership(1L, 2L, 1L, TeamRole.LEADER, null, null, false);
   }
 
-  private TeamParticipants createTestSetting_Fail_LEADER() {
-    Team team = Team.builder()
-        .teamId(2L)
-        .build();
-
-    Member member = Member.builder()
-        .memberId(2L)
-        .email("second_test@Email.com")
-        .build();
-
-    TeamParticipants teamParticipants = TeamParticipants.builder()
-        .team(team)
-        .member(member)
-        .teamParticipantsId(123L)
-        .teamRole(TeamRole.LEADER)
-        .build();
-
-    return teamParticipants;
+  private TeamMembership createTestSetting_Fail_LEADER() {
+    return new TeamMembership(123L, 2L, 2L, TeamRole.LEADER, null, null, false);
   }
 
-  private TeamParticipants createTestSetting_Fail_MATE() {
-    Team team = Team.builder()
-        .teamId(2L)
-        .build();
-
-    Member member = Member.builder()
-        .memberId(1L)
-        .email("first_test@Email.com")
-        .build();
-
-    TeamParticipants teamParticipants = TeamParticipants.builder()
-        .team(team)
-        .member(member)
-        .teamParticipantsId(23L)
-        .teamRole(TeamRole.MATE)
-        .build();
-
-    return teamParticipants;
+  private TeamMembership createTestSetting_Fail_MATE() {
+    return new TeamMembership(23L, 2L, 1L, TeamRole.MATE, null, null, false);
   }
 
   private DocumentInitRequest createTestDocumentsRequest() {
@@ -424,4 +426,13 @@ class DocumentServiceTest {
         .updatedDt(LocalDateTime.now())
         .build();
   }
+
+  private Documents summaryDocument(String id, LocalDateTime createdDt) {
+    return Documents.builder()
+        .id(id)
+        .title(id)
+        .teamId(2L)
+        .createdDt(createdDt)
+        .build();
+  }
 }
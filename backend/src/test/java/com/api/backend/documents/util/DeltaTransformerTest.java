@@ -0,0 +1,64 @@
+package com.api.backend.documents.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.api.backend.documents.data.dto.DeltaOp;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DeltaTransformerTest {
+
+  @Test
+  @DisplayName("같은 위치 insert - priority 가 있는 쪽이 앞에 온다")
+  void transform_insertInsert() {
+    //given
+    List<DeltaOp> applied = List.of(DeltaOp.insert("A", null));
+    List<DeltaOp> other = List.of(DeltaOp.insert("B", null));
+
+    //when
+    List<DeltaOp> result = DeltaTransformer.transform(applied, other, true);
+
+    //then
+    assertEquals(2, result.size());
+    assertEquals(1, result.get(0).getRetain());
+    assertEquals("B", result.get(1).getInsert());
+  }
+
+  @Test
+  @DisplayName("앞쪽 insert 만큼 뒤쪽 delete 위치가 밀린다")
+  void transform_insertDelete() {
+    //given
+    List<DeltaOp> applied = List.of(DeltaOp.insert("abc", null));
+    List<DeltaOp> other = List.of(DeltaOp.retain(2, null), DeltaOp.delete(3));
+
+    //when
+    List<DeltaOp> result = DeltaTransformer.transform(applied, other, true);
+
+    //then
+    assertEquals(2, result.size());
+    assertEquals(5, result.get(0).getRetain());
+    assertEquals(3, result.get(1).getDelete());
+  }
+
+  @Test
+  @DisplayName("이미 지워진 구간의 delete 와 서식 변경은 사라진다")
+  void transform_deleteOverlap() {
+    //given
+    List<DeltaOp> applied = List.of(DeltaOp.retain(1, null), DeltaOp.delete(3));
+    List<DeltaOp> other = List.of(
+        DeltaOp.retain(2, Map.of("bold", true)),
+        DeltaOp.delete(3)
+    );
+
+    //when
+    List<DeltaOp> result = DeltaTransformer.transform(applied, other, true);
+
+    //then
+    assertEquals(2, result.size());
+    assertEquals(1, result.get(0).getRetain());
+    assertEquals(Map.of("bold", true), result.get(0).getAttributes());
+    assertEquals(1, result.get(1).getDelete());
+  }
+}
@@ -0,0 +1,74 @@
+package com.api.backend.global.log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.api.backend.global.log.MethodTraceRegistry.MethodTrace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MethodTraceRegistryTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private MethodTraceRegistry methodTraceRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    methodTraceRegistry = new MethodTraceRegistry(
+        true, 0.01, List.of(""), meterRegistry);
+  }
+
+  @Test
+  @DisplayName("같은 메서드는 같은 Timer 를 재사용")
+  void get_SameMethod() throws NoSuchMethodException {
+    //given
+    Method method = MethodTraceRegistry.class.getMethod("shouldSample");
+
+    //when
+    MethodTrace first = methodTraceRegistry.get(method);
+    MethodTrace second = methodTraceRegistry.get(method);
+
+    //then
+    assertSame(first, second);
+    assertEquals(1, meterRegistry.find("method.timed")
+        .tag("method", "shouldSample").timers().size());
+  }
+
+  @Test
+  @DisplayName("가장 길게 일치하는 패키지 설정을 따름")
+  void isEnabled_LongestPrefix() throws NoSuchMethodException {
+    //given
+    MethodTrace trace = methodTraceRegistry.get(MethodTraceRegistry.class.getMethod("shouldSample"));
+    assertTrue(methodTraceRegistry.isEnabled(trace));
+
+    //when
+    methodTraceRegistry.setPackageEnabled("com.api.backend", false);
+    boolean disabled = methodTraceRegistry.isEnabled(trace);
+    methodTraceRegistry.setPackageEnabled("com.api.backend.global.log", true);
+    boolean enabled = methodTraceRegistry.isEnabled(trace);
+
+    //then
+    assertFalse(disabled);
+    assertTrue(enabled);
+  }
+
+  @Test
+  @DisplayName("샘플링 비율이 0 이면 샘플링하지 않음")
+  void shouldSample_ZeroRate() {
+    //given
+    methodTraceRegistry.setSamplingRate(0);
+
+    //when
+    boolean sampled = methodTraceRegistry.shouldSample();
+
+    //then
+    assertFalse(sampled);
+  }
+}
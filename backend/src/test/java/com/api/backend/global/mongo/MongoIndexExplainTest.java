@@ -0,0 +1,146 @@
+package com.api.backend.global.mongo;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.api.backend.comment.data.entity.Comment;
+import com.api.backend.documents.data.entity.DocumentOperation;
+import com.api.backend.documents.data.entity.Documents;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * 저장소 메서드와 같은 조건으로 explain 을 실행해 COLLSCAN 으로 떨어지는 조회가 없는지 확인한다.
+ * MONGO_EXPLAIN_URI (예: mongodb://localhost:27017) 로 접속할 수 있는 MongoDB 가 있을 때만 실행한다.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGO_EXPLAIN_URI", matches = ".+")
+class MongoIndexExplainTest {
+
+  private static final String DATABASE = "index_explain_test";
+
+  private static MongoClient mongoClient;
+  private static MongoTemplate mongoTemplate;
+
+  private final LocalDateTime startDt = LocalDateTime.of(2024, 3, 1, 0, 0);
+  private final LocalDateTime endDt = startDt.plusMonths(1);
+
+  @BeforeAll
+  static void setUp() {
+    mongoClient = MongoClients.create(System.getenv("MONGO_EXPLAIN_URI"));
+    mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+    mongoTemplate.getDb().drop();
+
+    MongoIndexManager mongoIndexManager = new MongoIndexManager(mongoTemplate);
+    mongoIndexManager.reconcileAll();
+    // 두 번 실행해도 같은 상태여야 한다.
+    mongoIndexManager.reconcileAll();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    mongoTemplate.getDb().drop();
+    mongoClient.close();
+  }
+
+  @Test
+  @DisplayName("문서 조회 - 팀 / 기간 / keyset 조회와 팀 단위 삭제가 인덱스를 사용")
+  void documentsQueries() {
+    // findAllByTeamId
+    assertIndexed(Documents.class, Query.query(where("teamId").is(1L)));
+    // findAllByTeamIdAndCreatedDtGreaterThanEqual
+    assertIndexed(Documents.class, Query.query(where("teamId").is(1L).and("createdDt").gte(startDt)));
+    // findAllByTeamIdAndCreatedDtLessThanEqual
+    assertIndexed(Documents.class, Query.query(where("teamId").is(1L).and("createdDt").lte(endDt)));
+    // findAllByTeamIdAndCreatedDtBetween
+    assertIndexed(Documents.class,
+        Query.query(where("teamId").is(1L).and("createdDt").gt(startDt).lt(endDt)));
+    // getDocsSummaryList (다음 페이지)
+    assertIndexed(Documents.class, new Query(new Criteria().andOperator(
+        where("teamId").is(1L),
+        new Criteria().orOperator(
+            where("createdDt").lt(endDt),
+            where("createdDt").is(endDt).and("id").lt("65f1a0000000000000000000"))))
+        .with(Sort.by(Direction.DESC, "createdDt", "id")));
+    // deleteAllDocsInTeams
+    assertIndexed(Documents.class, Query.query(where("teamId").in(List.of(1L, 2L))));
+  }
+
+  @Test
+  @DisplayName("댓글 조회 - 문서별 페이지 / 개수와 삭제가 인덱스를 사용")
+  void commentQueries() {
+    // findAllByDocumentIdOrderByIdAsc
+    assertIndexed(Comment.class, Query.query(where("documentId").is("documentId"))
+        .with(Sort.by(Direction.ASC, "id")));
+    // findAllByDocumentIdAndIdGreaterThanOrderByIdAsc
+    assertIndexed(Comment.class, Query.query(
+            where("documentId").is("documentId").and("id").gt("65f1a0000000000000000000"))
+        .with(Sort.by(Direction.ASC, "id")));
+    // deleteAllByDocumentId, 문서 목록의 댓글 수
+    assertIndexed(Comment.class, Query.query(where("documentId").in(List.of("a", "b"))));
+    // deleteAllCommentsInTeams
+    assertIndexed(Comment.class, Query.query(where("teamId").is(1L)));
+  }
+
+  @Test
+  @DisplayName("변경 이력 조회 - revision 이후 조회와 정리가 인덱스를 사용")
+  void documentOperationQueries() {
+    // findAllByDocumentIdAndRevisionGreaterThanOrderByRevisionAsc
+    assertIndexed(DocumentOperation.class, Query.query(
+            where("documentId").is("documentId").and("revision").gt(3L))
+        .with(Sort.by(Direction.ASC, "revision")));
+    // existsByDocumentIdAndRevision
+    assertIndexed(DocumentOperation.class,
+        Query.query(where("documentId").is("documentId").and("revision").is(3L)));
+    // deleteAllByDocumentIdAndRevisionLessThanEqual
+    assertIndexed(DocumentOperation.class,
+        Query.query(where("documentId").is("documentId").and("revision").lte(3L)));
+    // deleteAllByDocumentId, deleteAllDocsInTeams
+    assertIndexed(DocumentOperation.class, Query.query(where("documentId").in(List.of("a", "b"))));
+  }
+
+  private void assertIndexed(Class<?> entityClass, Query query) {
+    MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext()
+        .getRequiredPersistentEntity(entityClass);
+    QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+    Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+
+    Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityClass))
+        .find(filter)
+        .sort(sort)
+        .explain();
+    Object winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan");
+
+    assertFalse(hasCollectionScan(winningPlan),
+        () -> entityClass.getSimpleName() + " " + filter.toJson() + " -> " + winningPlan);
+  }
+
+  private static boolean hasCollectionScan(Object plan) {
+    if (plan instanceof Document) {
+      Document stage = (Document) plan;
+      if ("COLLSCAN".equals(stage.get("stage"))) {
+        return true;
+      }
+      return stage.values().stream().anyMatch(MongoIndexExplainTest::hasCollectionScan);
+    }
+    if (plan instanceof List) {
+      return ((List<?>) plan).stream().anyMatch(MongoIndexExplainTest::hasCollectionScan);
+    }
+    return false;
+  }
+}
@@ -0,0 +1,90 @@
+package com.api.backend.global.mongo;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexManagerTest {
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private IndexOperations indexOps;
+
+  @InjectMocks
+  private MongoIndexManager mongoIndexManager;
+
+  private final Index index = new Index()
+      .on("team_id", Direction.ASC)
+      .on("created_dt", Direction.DESC)
+      .named("team_created_idx");
+
+  @Test
+  @DisplayName("선언한 인덱스가 없으면 생성")
+  void reconcile_Create() {
+    //given
+    when(indexOps.getIndexInfo()).thenReturn(List.of(idIndex()));
+
+    //when
+    mongoIndexManager.reconcile(indexOps, List.of(index));
+
+    //then
+    verify(indexOps).ensureIndex(index);
+  }
+
+  @Test
+  @DisplayName("같은 정의의 인덱스가 있으면 그대로 둠")
+  void reconcile_AlreadyExists() {
+    //given
+    when(indexOps.getIndexInfo()).thenReturn(List.of(idIndex(), new IndexInfo(
+        List.of(IndexField.create("team_id", Direction.ASC),
+            IndexField.create("created_dt", Direction.DESC)),
+        "team_created_idx", false, false, null)));
+
+    //when
+    mongoIndexManager.reconcile(indexOps, List.of(index));
+
+    //then
+    verify(indexOps, never()).dropIndex(any());
+    verify(indexOps, never()).ensureIndex(any());
+  }
+
+  @Test
+  @DisplayName("이름이 같고 키 순서가 다르면 삭제 후 다시 생성")
+  void reconcile_Recreate() {
+    //given
+    when(indexOps.getIndexInfo()).thenReturn(List.of(idIndex(), new IndexInfo(
+        List.of(IndexField.create("created_dt", Direction.DESC),
+            IndexField.create("team_id", Direction.ASC)),
+        "team_created_idx", false, false, null)));
+
+    //when
+    mongoIndexManager.reconcile(indexOps, List.of(index));
+
+    //then
+    verify(indexOps).dropIndex("team_created_idx");
+    verify(indexOps).ensureIndex(index);
+  }
+
+  private IndexInfo idIndex() {
+    return new IndexInfo(
+        List.of(IndexField.create("_id", Direction.ASC)), "_id_", false, false, null);
+  }
+}
@@ -0,0 +1,84 @@
+package com.api.backend.global.scheduler;
+
+import static com.api.backend.global.scheduler.MemberSchedulerService.REAP_CHUNK_SIZE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.member.data.dto.UnverifiedMemberCursor;
+import com.api.backend.member.service.MemberService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSchedulerServiceTest {
+
+  @Mock
+  private MemberService memberService;
+
+  @InjectMocks
+  private MemberSchedulerService memberSchedulerService;
+
+  private final LocalDateTime createDt = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+  @Test
+  @DisplayName("이메일 미인증 회원 삭제 - 마지막 키 다음부터 묶음 단위로 조회 / 삭제")
+  void checkEmailValidation() {
+    //given
+    List<UnverifiedMemberCursor> fullChunk = cursors(1, REAP_CHUNK_SIZE);
+    List<UnverifiedMemberCursor> lastChunk = cursors(REAP_CHUNK_SIZE + 1, REAP_CHUNK_SIZE + 2);
+    when(memberService.getUnverifiedMembersAfter(any(), any(), any(), eq(REAP_CHUNK_SIZE)))
+        .thenReturn(fullChunk, lastChunk);
+    when(memberService.deleteUnverifiedMembers(anyList(), any())).thenReturn(REAP_CHUNK_SIZE, 2);
+
+    //when
+    memberSchedulerService.checkEmailValidation();
+
+    //then
+    verify(memberService).getUnverifiedMembersAfter(
+        any(), eq(createDt), eq((long) REAP_CHUNK_SIZE), eq(REAP_CHUNK_SIZE));
+    verify(memberService).deleteUnverifiedMembers(
+        eq(List.of((long) REAP_CHUNK_SIZE + 1, (long) REAP_CHUNK_SIZE + 2)), any());
+  }
+
+  @Test
+  @DisplayName("이메일 미인증 회원 삭제 실패 - 묶음이 실패하면 한 명씩 지워 막힌 회원만 남김")
+  void checkEmailValidation_Fail_MixedChunk() {
+    //given
+    List<Long> memberIds = List.of(1L, 2L, 3L);
+    when(memberService.getUnverifiedMembersAfter(any(), any(), any(), eq(REAP_CHUNK_SIZE)))
+        .thenReturn(cursors(1, 3));
+    when(memberService.deleteUnverifiedMembers(eq(memberIds), any()))
+        .thenThrow(new DataIntegrityViolationException("foreign key"));
+    when(memberService.deleteUnverifiedMembers(eq(List.of(1L)), any())).thenReturn(1);
+    when(memberService.deleteUnverifiedMembers(eq(List.of(2L)), any()))
+        .thenThrow(new DataIntegrityViolationException("foreign key"));
+    when(memberService.deleteUnverifiedMembers(eq(List.of(3L)), any())).thenReturn(1);
+
+    //when
+    memberSchedulerService.checkEmailValidation();
+
+    //then
+    verify(memberService).deleteUnverifiedMembers(eq(List.of(1L)), any());
+    verify(memberService).deleteUnverifiedMembers(eq(List.of(3L)), any());
+    verify(memberService, times(4)).deleteUnverifiedMembers(anyList(), any());
+  }
+
+  private List<UnverifiedMemberCursor> cursors(long from, long to) {
+    return LongStream.rangeClosed(from, to)
+        .mapToObj(memberId -> new UnverifiedMemberCursor(memberId, createDt))
+        .collect(Collectors.toList());
+  }
+}
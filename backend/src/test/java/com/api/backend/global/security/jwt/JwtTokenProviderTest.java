@@ -0,0 +1,89 @@
+package com.api.backend.global.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.global.security.jwt.service.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+  private static final String SECRET = Base64.getEncoder()
+      .encodeToString("test-secret-key-for-jwt-token-provider-0123456789".getBytes());
+
+  @Mock
+  private RedisService redisService;
+  @Mock
+  private TokenRevocationService tokenRevocationService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private JwtTokenProvider jwtTokenProvider;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    jwtTokenProvider = new JwtTokenProvider(
+        SECRET, 60_000L, 120_000L, redisService,
+        new VerifiedTokenCache(100, meterRegistry), tokenRevocationService);
+  }
+
+  @Test
+  @DisplayName("인증 - 두번째 요청은 서명 검증 없이 캐시에서 반환")
+  void authenticate_Cached() {
+    //given
+    String accessToken = jwtTokenProvider.createToken("1", "ROLE_USER").getAccessToken();
+
+    //when
+    Authentication first = jwtTokenProvider.authenticate(accessToken);
+    Authentication second = jwtTokenProvider.authenticate(accessToken);
+
+    //then
+    assertEquals("1", first.getName());
+    assertSame(first, second);
+    assertEquals(1.0, meterRegistry.counter("jwt.verified-cache", "result", "hit").count());
+    verify(tokenRevocationService, times(2)).isRevoked(accessToken);
+  }
+
+  @Test
+  @DisplayName("인증 - 로그아웃한 토큰은 캐시에 있어도 실패")
+  void authenticate_Logout() {
+    //given
+    String accessToken = jwtTokenProvider.createToken("1", "ROLE_USER").getAccessToken();
+    jwtTokenProvider.authenticate(accessToken);
+    when(tokenRevocationService.isRevoked(accessToken)).thenReturn(true);
+
+    //when
+    Authentication authentication = jwtTokenProvider.authenticate(accessToken);
+
+    //then
+    assertNull(authentication);
+  }
+
+  @Test
+  @DisplayName("인증 - 서명이 맞지 않는 토큰은 실패")
+  void authenticate_InvalidSignature() {
+    //given
+    String accessToken = jwtTokenProvider.createToken("1", "ROLE_USER").getAccessToken();
+    String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+    //when
+    Authentication authentication = jwtTokenProvider.authenticate(tampered);
+
+    //then
+    assertNull(authentication);
+  }
+}
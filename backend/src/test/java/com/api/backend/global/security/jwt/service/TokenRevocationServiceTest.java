@@ -0,0 +1,151 @@
+package com.api.backend.global.security.jwt.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.global.security.jwt.JwtTokenHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+  private static final String ACCESS_TOKEN = "access-token";
+
+  @Mock
+  private RedisService redisService;
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private TokenRevocationService tokenRevocationService;
+
+  @BeforeEach
+  void setUp() {
+    tokenRevocationService = new TokenRevocationService(
+        redisService, redisMessageListenerContainer, new SimpleMeterRegistry());
+  }
+
+  @Test
+  @DisplayName("로그아웃하지 않은 토큰 - Redis 를 조회하지 않음")
+  void isRevoked_NotRevoked() {
+    //given
+    when(redisService.getSortedSetValuesByScore(anyString(), anyDouble(), anyDouble()))
+        .thenReturn(Set.of());
+    tokenRevocationService.init();
+
+    //when
+    boolean revoked = tokenRevocationService.isRevoked(ACCESS_TOKEN);
+
+    //then
+    assertFalse(revoked);
+    verify(redisService, never()).getValues(ACCESS_TOKEN);
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 로그아웃한 토큰 - 메시지로 받은 뒤 Redis 로 확인")
+  void isRevoked_RevokedOnOtherNode() {
+    //given
+    when(redisService.getSortedSetValuesByScore(anyString(), anyDouble(), anyDouble()))
+        .thenReturn(Set.of());
+    when(redisService.getValues(ACCESS_TOKEN)).thenReturn("logout");
+    tokenRevocationService.init();
+
+    String body = JwtTokenHasher.hash(ACCESS_TOKEN) + ":" + (System.currentTimeMillis() + 60_000);
+    tokenRevocationService.onMessage(
+        new DefaultMessage("logout:revoked".getBytes(), body.getBytes(StandardCharsets.UTF_8)),
+        null);
+
+    //when
+    boolean revoked = tokenRevocationService.isRevoked(ACCESS_TOKEN);
+
+    //then
+    assertTrue(revoked);
+  }
+
+  @Test
+  @DisplayName("시작할 때 목록을 불러오지 못한 경우 - 요청마다 Redis 로 확인")
+  void isRevoked_NotSynced() {
+    //given
+    doThrow(new IllegalStateException("redis down"))
+        .when(redisService).deleteSortedSetValuesByScore(anyString(), anyDouble(), anyDouble());
+    tokenRevocationService.init();
+
+    //when
+    tokenRevocationService.isRevoked(ACCESS_TOKEN);
+
+    //then
+    verify(redisService).getValues(eq(ACCESS_TOKEN));
+  }
+
+  @Test
+  @DisplayName("로그아웃 전파에 실패한 경우 - 다시 채울 때까지 Redis 로 확인하고, 다시 채울 때 전파를 재시도")
+  void revoke_PropagationFailed() {
+    //given
+    when(redisService.getSortedSetValuesByScore(anyString(), anyDouble(), anyDouble()))
+        .thenReturn(Set.of());
+    tokenRevocationService.init();
+
+    String tokenHash = JwtTokenHasher.hash(ACCESS_TOKEN);
+    long expireAtMillis = System.currentTimeMillis() + 60_000;
+    doThrow(new IllegalStateException("redis down"))
+        .doNothing()
+        .when(redisService).addSortedSetValue(anyString(), eq(tokenHash), anyDouble());
+
+    //when
+    tokenRevocationService.revoke(ACCESS_TOKEN, expireAtMillis);
+    tokenRevocationService.isRevoked("other-token");
+    tokenRevocationService.purgeExpired();
+    tokenRevocationService.isRevoked("another-token");
+
+    //then
+    verify(redisService).setValues(eq(ACCESS_TOKEN), eq("logout"), anyLong(), eq(TimeUnit.MILLISECONDS));
+    verify(redisService).getValues("other-token");
+    verify(redisService, times(2))
+        .addSortedSetValue(anyString(), eq(tokenHash), eq((double) expireAtMillis));
+    verify(redisService).publish(anyString(), eq(tokenHash + ":" + expireAtMillis));
+    verify(redisService, never()).getValues("another-token");
+  }
+
+  @Test
+  @DisplayName("주기적으로 다시 채우기 - 구독이 끊긴 동안 놓친 로그아웃을 반영")
+  void resync_MissedMessage() {
+    //given
+    when(redisService.getSortedSetValuesByScore(anyString(), anyDouble(), anyDouble()))
+        .thenReturn(Set.of());
+    tokenRevocationService.init();
+
+    String tokenHash = JwtTokenHasher.hash(ACCESS_TOKEN);
+    double expireAtMillis = System.currentTimeMillis() + 60_000;
+    when(redisService.getSortedSetValuesByScore(anyString(), anyDouble(), anyDouble()))
+        .thenReturn(Set.of(new DefaultTypedTuple<>(tokenHash, expireAtMillis)));
+    when(redisService.getValues(ACCESS_TOKEN)).thenReturn("logout");
+
+    //when
+    tokenRevocationService.resync();
+    boolean revoked = tokenRevocationService.isRevoked(ACCESS_TOKEN);
+
+    //then
+    assertTrue(revoked);
+  }
+}
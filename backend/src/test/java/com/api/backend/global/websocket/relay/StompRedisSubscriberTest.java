@@ -0,0 +1,133 @@
+package com.api.backend.global.websocket.relay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class StompRedisSubscriberTest {
+
+  private static final String DESTINATION = "/topic/delta/document";
+  private static final String CHANNEL = StompRelayChannel.of(DESTINATION);
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+  @Mock
+  private StompRedisPublisher stompRedisPublisher;
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private StompRedisSubscriber stompRedisSubscriber;
+
+  @BeforeEach
+  void setUp() {
+    stompRedisSubscriber = new StompRedisSubscriber(
+        redisMessageListenerContainer, stompRedisPublisher, messagingTemplate, objectMapper);
+  }
+
+  @Test
+  @DisplayName("문서 topic 구독 - 같은 문서는 Redis 채널을 한 번만 구독하고 마지막 연결이 끊기면 해제")
+  void handleSubscribe_subscribeOncePerDocument() {
+    //given
+    stompRedisSubscriber.handleSubscribe(subscribeEvent("session-1", "sub-0", DESTINATION));
+    stompRedisSubscriber.handleSubscribe(
+        subscribeEvent("session-2", "sub-0", DESTINATION + "/sync/client"));
+
+    //when
+    stompRedisSubscriber.handleDisconnect(disconnectEvent("session-1"));
+    boolean subscribedAfterFirst = stompRedisSubscriber.isSubscribed(CHANNEL);
+    stompRedisSubscriber.handleDisconnect(disconnectEvent("session-2"));
+
+    //then
+    assertEquals("stomp:topic:document", CHANNEL);
+    assertTrue(subscribedAfterFirst);
+    assertFalse(stompRedisSubscriber.isSubscribed(CHANNEL));
+    verify(redisMessageListenerContainer, times(1))
+        .addMessageListener(any(), eq(new ChannelTopic(CHANNEL)));
+    verify(redisMessageListenerContainer, times(1))
+        .removeMessageListener(any(), eq(new ChannelTopic(CHANNEL)));
+  }
+
+  @Test
+  @DisplayName("다른 노드의 메시지 수신 - 전달 표시를 붙여 로컬 broker 로 전송")
+  void onMessage_sendToLocalBroker() throws Exception {
+    //given
+    when(stompRedisPublisher.getNodeId()).thenReturn("this-node");
+    byte[] body = objectMapper.writeValueAsBytes(new StompRelayMessage(
+        "other-node", DESTINATION, "application/json",
+        "{}".getBytes(StandardCharsets.UTF_8)));
+
+    //when
+    stompRedisSubscriber.onMessage(
+        new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+    //then
+    ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+    verify(messagingTemplate).send(eq(DESTINATION), messageCaptor.capture());
+    assertTrue(messageCaptor.getValue().getHeaders()
+        .containsKey(StompRedisPublisher.RELAYED_HEADER));
+  }
+
+  @Test
+  @DisplayName("자기 노드가 발행한 메시지 수신 - 다시 전송하지 않음")
+  void onMessage_ignoreOwnMessage() throws Exception {
+    //given
+    when(stompRedisPublisher.getNodeId()).thenReturn("this-node");
+    byte[] body = objectMapper.writeValueAsBytes(new StompRelayMessage(
+        "this-node", DESTINATION, null, new byte[0]));
+
+    //when
+    stompRedisSubscriber.onMessage(
+        new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+    //then
+    verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+  }
+
+  private SessionSubscribeEvent subscribeEvent(
+      String sessionId, String subscriptionId, String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId(subscriptionId);
+    accessor.setDestination(destination);
+    return new SessionSubscribeEvent(this,
+        MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+  }
+
+  private SessionDisconnectEvent disconnectEvent(String sessionId) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+    accessor.setSessionId(sessionId);
+    return new SessionDisconnectEvent(this,
+        MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+        sessionId, CloseStatus.NORMAL);
+  }
+}
@@ -0,0 +1,131 @@
+package com.api.backend.notification.data.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class EmitterRepositoryTest {
+
+  private EmitterRepository emitterRepository;
+
+  @BeforeEach
+  void setUp() {
+    emitterRepository = new EmitterRepository();
+  }
+
+  @Test
+  @DisplayName("같은 회원의 여러 연결 - 모두 보관")
+  void saveMemberEmitter_MultipleConnections() {
+    //given
+    SseEmitter first = new SseEmitter();
+    SseEmitter second = new SseEmitter();
+
+    //when
+    emitterRepository.saveMemberEmitter(1L, first);
+    emitterRepository.saveMemberEmitter(1L, second);
+
+    //then
+    assertEquals(2, emitterRepository.getMemberEmitters(1L).size());
+    assertEquals(2, emitterRepository.getAllEmitters().size());
+  }
+
+  @Test
+  @DisplayName("emitter 로 삭제 - 해당 연결만 제거되고 빈 팀은 정리")
+  void delete() {
+    //given
+    SseEmitter first = new SseEmitter();
+    SseEmitter second = new SseEmitter();
+    emitterRepository.saveTeamParticipantsEmitter(1L, 10L, first);
+    emitterRepository.saveTeamParticipantsEmitter(1L, 10L, second);
+
+    //when
+    emitterRepository.delete(first);
+
+    //then
+    assertEquals(1, emitterRepository.getTeamParticipantEmitters(1L, 10L).size());
+    assertTrue(emitterRepository.getTeamParticipantEmitters(1L, 10L).contains(second));
+
+    emitterRepository.delete(second);
+    assertTrue(emitterRepository.getTeamParticipantEmitters(1L, 10L).isEmpty());
+    assertTrue(emitterRepository.getAllEmitters().isEmpty());
+  }
+
+  @Test
+  @DisplayName("동시 구독 - 누락 없이 모두 등록")
+  void saveTeamParticipantsEmitter_Concurrent() throws InterruptedException {
+    //given
+    int threadCount = 32;
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    CountDownLatch latch = new CountDownLatch(threadCount);
+
+    //when
+    for (int i = 0; i < threadCount; i++) {
+      executorService.submit(() -> {
+        try {
+          emitterRepository.saveTeamParticipantsEmitter(1L, 10L, new SseEmitter());
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    latch.await(5, TimeUnit.SECONDS);
+    executorService.shutdown();
+
+    //then
+    assertEquals(threadCount, emitterRepository.getTeamParticipantEmitters(1L, 10L).size());
+  }
+
+  @Test
+  @DisplayName("구독과 연결 해제가 동시에 일어나도 - 새로 구독한 연결은 모두 남음")
+  void saveAndDelete_Concurrent() throws InterruptedException {
+    //given
+    int rounds = 2000;
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    CountDownLatch latch = new CountDownLatch(2);
+    List<SseEmitter> kept = new CopyOnWriteArrayList<>();
+
+    //when
+    executorService.submit(() -> {
+      try {
+        for (int i = 0; i < rounds; i++) {
+          SseEmitter emitter = new SseEmitter();
+          emitterRepository.saveMemberEmitter(1L, emitter);
+          emitterRepository.saveTeamParticipantsEmitter(1L, 10L, emitter);
+          kept.add(emitter);
+        }
+      } finally {
+        latch.countDown();
+      }
+    });
+    executorService.submit(() -> {
+      try {
+        for (int i = 0; i < rounds; i++) {
+          SseEmitter temporary = new SseEmitter();
+          emitterRepository.saveMemberEmitter(1L, temporary);
+          emitterRepository.saveTeamParticipantsEmitter(1L, 10L, temporary);
+          emitterRepository.deleteMemberEmitter(1L, temporary);
+          emitterRepository.deleteTeamParticipantEmitter(1L, 10L, temporary);
+        }
+      } finally {
+        latch.countDown();
+      }
+    });
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    executorService.shutdown();
+
+    //then
+    assertEquals(rounds, emitterRepository.getMemberEmitters(1L).size());
+    assertEquals(rounds, emitterRepository.getTeamParticipantEmitters(1L, 10L).size());
+    assertTrue(emitterRepository.getMemberEmitters(1L).containsAll(kept));
+  }
+}
@@ -0,0 +1,126 @@
+package com.api.backend.notification.data.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.api.backend.notification.data.entity.Notification;
+import com.api.backend.notification.data.type.AlarmType;
+import com.api.backend.notification.service.NotificationService;
+import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.team.service.TeamParticipantsService;
+import com.api.backend.team.service.TeamService;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 알람 multi-row insert 를 H2(MySQL 모드)에서 실행해 chunk 를 나눠 저장해도
+ * 생성된 id 가 저장 순서대로 돌아오고 outbox 가 자기 알람을 가리키는지 확인한다.
+ */
+class NotificationJdbcRepositoryTest {
+
+  // CHUNK_SIZE(500) 를 두 번 넘기고 마지막 chunk 는 일부만 채운다.
+  private static final int NOTIFICATION_COUNT = 1_203;
+  private static final Long TEAM_ID = 7L;
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private NotificationJdbcRepository notificationJdbcRepository;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:notification;MODE=MySQL;DATABASE_TO_LOWER=TRUE", true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    notificationJdbcRepository = new NotificationJdbcRepository(jdbcTemplate);
+
+    jdbcTemplate.execute("create table notification ("
+        + "notification_id bigint auto_increment primary key, "
+        + "create_dt timestamp, update_dt timestamp, alarm_type varchar(255), "
+        + "nick_name varchar(255), message varchar(255), is_read boolean, "
+        + "member_id bigint, team_participants_id bigint)");
+    jdbcTemplate.execute("create table notification_outbox ("
+        + "outbox_id bigint auto_increment primary key, "
+        + "create_dt timestamp, update_dt timestamp, notification_id bigint, team_id bigint, "
+        + "team_participants_id bigint, member_id bigint, alarm_type varchar(255), "
+        + "nick_name varchar(255), message varchar(255), is_sent boolean)");
+
+    // 생성되는 id 가 목록 순번과 우연히 같지 않도록 앞 번호를 사용해 둔다.
+    jdbcTemplate.execute("insert into notification (message) values ('a'), ('b'), ('c')");
+    jdbcTemplate.execute("delete from notification where message = 'b'");
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Test
+  @DisplayName("알람 배치 저장 - 여러 chunk 로 나눠 저장해도 생성된 id 를 저장 순서대로 반환")
+  void batchInsert_GeneratedIdsInOrder() {
+    //given
+    List<Notification> notifications = notifications();
+
+    //when
+    List<Long> notificationIds = notificationJdbcRepository.batchInsert(notifications);
+
+    //then
+    assertEquals(NOTIFICATION_COUNT, notificationIds.size());
+    Map<Long, String> messageById = jdbcTemplate
+        .queryForList("select notification_id, message from notification where message like 'm-%'")
+        .stream()
+        .collect(Collectors.toMap(
+            row -> ((Number) row.get("notification_id")).longValue(),
+            row -> (String) row.get("message")));
+
+    assertEquals(NOTIFICATION_COUNT, messageById.size());
+    for (int i = 0; i < NOTIFICATION_COUNT; i++) {
+      assertEquals(notifications.get(i).getMessage(), messageById.get(notificationIds.get(i)));
+    }
+  }
+
+  @Test
+  @DisplayName("팀 알람 저장 - outbox 마다 자기 알람의 id 와 수신자를 가리킴")
+  void saveAllNotification_OutboxPointsAtNotification() {
+    //given
+    NotificationService notificationService = new NotificationService(
+        mock(NotificationRepository.class), mock(NotificationOutboxRepository.class),
+        notificationJdbcRepository, mock(TeamParticipantsService.class), mock(TeamService.class));
+
+    //when
+    notificationService.saveAllNotification(notifications(), TEAM_ID);
+
+    //then
+    List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+        "select o.team_id, o.team_participants_id as outbox_participants_id, "
+            + "n.team_participants_id as notification_participants_id, "
+            + "o.message as outbox_message, n.message as notification_message "
+            + "from notification_outbox o "
+            + "left join notification n on n.notification_id = o.notification_id");
+
+    assertEquals(NOTIFICATION_COUNT, rows.size());
+    for (Map<String, Object> row : rows) {
+      assertEquals(TEAM_ID, ((Number) row.get("team_id")).longValue());
+      assertEquals(row.get("notification_message"), row.get("outbox_message"));
+      assertEquals(row.get("notification_participants_id"), row.get("outbox_participants_id"));
+    }
+  }
+
+  private List<Notification> notifications() {
+    return LongStream.rangeClosed(1, NOTIFICATION_COUNT)
+        .mapToObj(i -> Notification.builder()
+            .teamParticipants(TeamParticipants.builder().teamParticipantsId(100 + i).build())
+            .alarmType(AlarmType.DOCUMENTS)
+            .nickName("nick")
+            .message("m-" + i)
+            .build())
+        .collect(Collectors.toList());
+  }
+}
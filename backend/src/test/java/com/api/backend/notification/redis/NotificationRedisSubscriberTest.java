@@ -0,0 +1,78 @@
+package com.api.backend.notification.redis;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.api.backend.notification.data.repository.EmitterRepository;
+import com.api.backend.notification.event.EmitterChangedEvent;
+import com.api.backend.notification.service.NotificationDeliveryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRedisSubscriberTest {
+
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+  @Mock
+  private NotificationDeliveryService notificationDeliveryService;
+
+  private EmitterRepository emitterRepository;
+  private NotificationRedisSubscriber notificationRedisSubscriber;
+
+  @BeforeEach
+  void setUp() {
+    emitterRepository = new EmitterRepository();
+    notificationRedisSubscriber = new NotificationRedisSubscriber(
+        redisMessageListenerContainer, emitterRepository, notificationDeliveryService,
+        new ObjectMapper());
+  }
+
+  @Test
+  @DisplayName("팀 emitter 등록 - 해당 팀 채널만 한 번 구독")
+  void handleEmitterChanged_Subscribe() {
+    //given
+    emitterRepository.saveTeamParticipantsEmitter(1L, 10L, new SseEmitter());
+    emitterRepository.saveTeamParticipantsEmitter(1L, 11L, new SseEmitter());
+
+    //when
+    notificationRedisSubscriber.handleEmitterChanged(EmitterChangedEvent.ofTeam(1L));
+    notificationRedisSubscriber.handleEmitterChanged(EmitterChangedEvent.ofTeam(1L));
+
+    //then
+    assertTrue(notificationRedisSubscriber.isSubscribed(NotificationChannel.team(1L)));
+    assertFalse(notificationRedisSubscriber.isSubscribed(NotificationChannel.team(2L)));
+    verify(redisMessageListenerContainer, times(1)).addMessageListener(
+        any(), eq(new ChannelTopic(NotificationChannel.team(1L))));
+  }
+
+  @Test
+  @DisplayName("팀의 마지막 emitter 제거 - 구독 해제")
+  void handleEmitterChanged_Unsubscribe() {
+    //given
+    SseEmitter emitter = new SseEmitter();
+    emitterRepository.saveTeamParticipantsEmitter(1L, 10L, emitter);
+    notificationRedisSubscriber.handleEmitterChanged(EmitterChangedEvent.ofTeam(1L));
+
+    //when
+    emitterRepository.delete(emitter);
+    notificationRedisSubscriber.handleEmitterChanged(EmitterChangedEvent.ofTeam(1L));
+
+    //then
+    assertFalse(notificationRedisSubscriber.isSubscribed(NotificationChannel.team(1L)));
+    verify(redisMessageListenerContainer).removeMessageListener(
+        any(), eq(new ChannelTopic(NotificationChannel.team(1L))));
+  }
+}
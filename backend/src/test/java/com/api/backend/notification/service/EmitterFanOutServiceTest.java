@@ -0,0 +1,105 @@
+package com.api.backend.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class EmitterFanOutServiceTest {
+
+  private static final Duration SEND_TIMEOUT = Duration.ofMillis(200);
+
+  @Mock
+  private EmitterService emitterService;
+
+  private ThreadPoolTaskExecutor executor;
+  private ExecutorService evictExecutor;
+  private SimpleMeterRegistry meterRegistry;
+  private EmitterFanOutService emitterFanOutService;
+
+  @BeforeEach
+  void setUp() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.initialize();
+    evictExecutor = Executors.newSingleThreadExecutor();
+    meterRegistry = new SimpleMeterRegistry();
+    emitterFanOutService = new EmitterFanOutService(
+        emitterService, executor, evictExecutor, SEND_TIMEOUT, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+    evictExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("전송이 멈춘 연결 - 제한 시간 안에 반환하고 전송 스레드를 풀어준 뒤 연결을 제거")
+  void sendAll_BlockedEmitter() {
+    //given
+    SseEmitter slow = new SseEmitter();
+    SseEmitter fast = new SseEmitter();
+    CountDownLatch released = new CountDownLatch(1);
+
+    when(emitterService.sendNotification(eq(slow), any())).thenAnswer(invocation -> {
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        released.countDown();
+      }
+      return false;
+    });
+    when(emitterService.sendNotification(eq(fast), any())).thenReturn(true);
+
+    Map<SseEmitter, List<Object>> deliveries = new LinkedHashMap<>();
+    deliveries.put(slow, List.of("payload"));
+    deliveries.put(fast, List.of("payload"));
+
+    //when
+    long start = System.nanoTime();
+    int sent = emitterFanOutService.sendAll(deliveries);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    //then
+    assertEquals(1, sent);
+    assertTrue(elapsedMillis < SEND_TIMEOUT.toMillis() + 500, "elapsed " + elapsedMillis + "ms");
+    verify(emitterService, timeout(1000)).evict(eq(slow), any(Exception.class));
+    verify(emitterService, never()).evict(eq(fast), any(Exception.class));
+    assertTrue(awaitQuietly(released));
+    assertEquals(1.0, meterRegistry.counter("notification.fan-out.timeouts").count());
+  }
+
+  private boolean awaitQuietly(CountDownLatch latch) {
+    try {
+      return latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.api.backend.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.notification.data.dto.NotificationDto;
+import com.api.backend.notification.data.dto.NotificationEvent;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryServiceTest {
+
+  @Mock
+  private EmitterService emitterService;
+  @Mock
+  private EmitterFanOutService emitterFanOutService;
+
+  @InjectMocks
+  private NotificationDeliveryService notificationDeliveryService;
+
+  @Test
+  @DisplayName("로컬 전송 - 같은 emitter 로 가는 알람은 한 번에 묶어서 전송")
+  void deliverLocally() {
+    //given
+    SseEmitter emitter = new SseEmitter();
+    NotificationEvent first = NotificationEvent.builder()
+        .teamId(1L).teamParticipantsId(10L).notification(new NotificationDto()).build();
+    NotificationEvent second = NotificationEvent.builder()
+        .teamId(1L).teamParticipantsId(10L).notification(new NotificationDto()).build();
+
+    when(emitterService.getTeamParticipantEmitters(1L, 10L)).thenReturn(List.of(emitter));
+
+    //when
+    notificationDeliveryService.deliverLocally(List.of(first, second));
+
+    //then
+    ArgumentCaptor<Map<SseEmitter, List<Object>>> deliveries = ArgumentCaptor.forClass(Map.class);
+    verify(emitterFanOutService).sendAll(deliveries.capture());
+    assertEquals(2, deliveries.getValue().get(emitter).size());
+  }
+
+  @Test
+  @DisplayName("로컬 전송 - 이 노드에 연결이 없으면 전송하지 않음")
+  void deliverLocally_NoLocalEmitter() {
+    //given
+    NotificationEvent event = NotificationEvent.builder()
+        .memberId(20L).notification(new NotificationDto()).build();
+
+    when(emitterService.getMemberEmitters(20L)).thenReturn(List.of());
+
+    //when
+    int sent = notificationDeliveryService.deliverLocally(List.of(event));
+
+    //then
+    assertEquals(0, sent);
+    verify(emitterFanOutService, never()).sendAll(anyMap());
+  }
+}
@@ -0,0 +1,76 @@
+package com.api.backend.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.notification.data.dto.NotificationEvent;
+import com.api.backend.notification.data.entity.NotificationOutbox;
+import com.api.backend.notification.data.repository.NotificationOutboxRepository;
+import com.api.backend.notification.data.type.AlarmType;
+import com.api.backend.team.service.TeamParticipantsService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SendNotificationServiceTest {
+
+  @Mock
+  private NotificationService notificationService;
+  @Mock
+  private NotificationBroadcaster notificationBroadcaster;
+  @Mock
+  private TeamParticipantsService teamParticipantsService;
+  @Mock
+  private NotificationOutboxRepository notificationOutboxRepository;
+
+  @InjectMocks
+  private SendNotificationService sendNotificationService;
+
+  @Test
+  @DisplayName("outbox 전송 - 가져온 항목을 팀 참가자/회원 이벤트로 전달")
+  void relayPendingNotifications() {
+    //given
+    NotificationOutbox team = NotificationOutbox.builder()
+        .outboxId(1L).notificationId(11L).teamId(1L).teamParticipantsId(10L)
+        .alarmType(AlarmType.DOCUMENTS).message("message").build();
+    NotificationOutbox member = NotificationOutbox.builder()
+        .outboxId(2L).notificationId(12L).memberId(20L)
+        .alarmType(AlarmType.DOCUMENTS).message("message").build();
+
+    when(notificationService.claimPendingOutboxes(anyInt())).thenReturn(List.of(team, member));
+
+    //when
+    sendNotificationService.relayPendingNotifications();
+
+    //then
+    ArgumentCaptor<List<NotificationEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(notificationBroadcaster).broadcast(events.capture());
+    assertEquals(2, events.getValue().size());
+    assertEquals(10L, events.getValue().get(0).getTeamParticipantsId());
+    assertEquals(11L, events.getValue().get(0).getNotification().getNotificationId());
+    assertEquals(20L, events.getValue().get(1).getMemberId());
+  }
+
+  @Test
+  @DisplayName("outbox 전송 - 대기 항목이 없으면 전송하지 않음")
+  void relayPendingNotifications_Empty() {
+    //given
+    when(notificationService.claimPendingOutboxes(anyInt())).thenReturn(List.of());
+
+    //when
+    sendNotificationService.relayPendingNotifications();
+
+    //then
+    verify(notificationBroadcaster, never()).broadcast(any());
+  }
+}
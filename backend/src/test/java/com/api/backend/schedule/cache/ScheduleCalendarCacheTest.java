@@ -0,0 +1,169 @@
+package com.api.backend.schedule.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.schedule.data.dto.AllSchedulesMonthlyView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCalendarCacheTest {
+
+  @Mock
+  private RedisService redisService;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ScheduleCalendarCache scheduleCalendarCache;
+  private AtomicInteger loadCount;
+
+  private final LocalDateTime monthStart = LocalDateTime.of(2024, 3, 1, 0, 0);
+  private final LocalDateTime monthEnd = monthStart.plusMonths(1).minusNanos(1);
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    scheduleCalendarCache = new ScheduleCalendarCache(
+        2, Duration.ofMinutes(10), false, redisService, new ObjectMapper(), meterRegistry);
+    loadCount = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("한 달 단위 조회 - 두번째 조회는 캐시에서 반환")
+  void getOrLoad_Hit() {
+    //when
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+
+    //then
+    assertEquals(1, loadCount.get());
+    assertEquals(1.0, meterRegistry.counter("schedule.calendar.cache", "result", "hit").count());
+    assertEquals(1.0, meterRegistry.counter("schedule.calendar.cache", "result", "miss").count());
+  }
+
+  @Test
+  @DisplayName("한 달 단위가 아닌 조회 - 캐시하지 않음")
+  void getOrLoad_NotWholeMonth() {
+    //when
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd.minusDays(1), loader());
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd.minusDays(1), loader());
+
+    //then
+    assertEquals(2, loadCount.get());
+    assertEquals(0, scheduleCalendarCache.size());
+  }
+
+  @Test
+  @DisplayName("기간 무효화 - 해당 팀의 해당 달만 제거")
+  void evictMonths() {
+    //given
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+    scheduleCalendarCache.getOrLoad(2L, null, monthStart, monthEnd, loader());
+
+    //when
+    scheduleCalendarCache.evictMonths(1L, monthStart.plusDays(3), monthStart.plusDays(4));
+
+    //then
+    assertEquals(1, scheduleCalendarCache.size());
+    scheduleCalendarCache.getOrLoad(2L, null, monthStart, monthEnd, loader());
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  @DisplayName("최대 크기 초과 - 가장 오래 사용하지 않은 항목 제거")
+  void evictEldest() {
+    //when
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart.plusMonths(1), monthEnd.plusMonths(1), loader());
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart.plusMonths(2), monthEnd.plusMonths(2), loader());
+
+    //then
+    assertEquals(2, scheduleCalendarCache.size());
+    assertEquals(1.0, meterRegistry.counter("schedule.calendar.cache.evictions").count());
+  }
+
+  @Test
+  @DisplayName("조회 중 무효화 - 읽어온 이전 데이터를 캐시하지 않음")
+  void getOrLoad_EvictedWhileLoading() {
+    //when
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, () -> {
+      loadCount.incrementAndGet();
+      scheduleCalendarCache.evictMonths(1L, monthStart, monthStart);
+      return List.of();
+    });
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+
+    //then
+    assertEquals(2, loadCount.get());
+    assertEquals(1, scheduleCalendarCache.size());
+  }
+
+  @Test
+  @DisplayName("팀별 세대 - 캐시된 달과 진행 중인 조회가 모두 없어진 팀은 보관하지 않음")
+  void teamState_RemovedWhenUnused() {
+    //given
+    scheduleCalendarCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+    scheduleCalendarCache.getOrLoad(2L, null, monthStart, monthEnd, loader());
+    assertEquals(2, scheduleCalendarCache.trackedTeams());
+
+    //when
+    scheduleCalendarCache.evictTeam(1L);
+    scheduleCalendarCache.getOrLoad(3L, null, monthStart, monthEnd, loader());
+    scheduleCalendarCache.getOrLoad(3L, null, monthStart.plusMonths(1), monthEnd.plusMonths(1), loader());
+    assertThrows(IllegalStateException.class, () ->
+        scheduleCalendarCache.getOrLoad(4L, null, monthStart, monthEnd, () -> {
+          throw new IllegalStateException("db down");
+        }));
+    scheduleCalendarCache.getOrLoad(5L, null, monthStart, monthEnd, () -> {
+      scheduleCalendarCache.evictTeam(5L);
+      return List.of();
+    });
+
+    //then
+    // 팀 1 은 무효화로, 팀 2 는 LRU 로 밀려나 제거되고, 실패하거나 무효화된 조회도 남기지 않는다.
+    assertEquals(2, scheduleCalendarCache.size());
+    assertEquals(1, scheduleCalendarCache.trackedTeams());
+  }
+
+  @Test
+  @DisplayName("조회 중 다른 서버가 무효화 - Redis 에는 조회 전 버전의 키로만 저장")
+  void getOrLoad_Redis_VersionChangedWhileLoading() {
+    //given
+    ScheduleCalendarCache redisCache = new ScheduleCalendarCache(
+        2, Duration.ofMinutes(10), true, redisService, new ObjectMapper(), meterRegistry);
+    when(redisService.getValues("calendar:1:version")).thenReturn("3", "4");
+
+    //when
+    redisCache.getOrLoad(1L, null, monthStart, monthEnd, loader());
+
+    //then
+    verify(redisService).setValues(eq("calendar:1:3:2024-03:ALL"), anyString(), any(Duration.class));
+    verify(redisService, never()).setValues(startsWith("calendar:1:4:"), anyString(), any(Duration.class));
+  }
+
+  private Supplier<List<AllSchedulesMonthlyView>> loader() {
+    return () -> {
+      loadCount.incrementAndGet();
+      return List.of();
+    };
+  }
+}
@@ -0,0 +1,157 @@
+package com.api.backend.schedule.data.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.api.backend.category.type.CategoryType;
+import com.api.backend.schedule.data.dto.AllSchedulesMonthlyView;
+import com.api.backend.schedule.data.dto.MonthlyScheduleProjection;
+import com.api.backend.schedule.data.type.RepeatCycle;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * findMonthlySchedules 의 native 쿼리를 H2(MySQL 모드)에서 실행하고,
+ * 결과를 Spring Data 와 같은 방식으로 projection 에 담아 응답 변환까지 확인한다.
+ */
+class ScheduleCalendarRepositoryTest {
+
+  private final LocalDateTime monthStart = LocalDateTime.of(2024, 3, 1, 0, 0);
+  private final LocalDateTime monthEnd = monthStart.plusMonths(1).minusNanos(1);
+
+  private SingleConnectionDataSource dataSource;
+  private NamedParameterJdbcTemplate jdbcTemplate;
+  private String monthlySchedulesQuery;
+
+  @BeforeEach
+  void setUp() throws NoSuchMethodException {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:calendar;MODE=MySQL;DATABASE_TO_LOWER=TRUE", true);
+    jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+    Method method = ScheduleCalendarRepository.class.getMethod("findMonthlySchedules",
+        Long.class, String.class, LocalDateTime.class, LocalDateTime.class);
+    monthlySchedulesQuery = method.getAnnotation(Query.class).value();
+
+    execute("create table schedule_category (schedule_category_id bigint primary key, "
+        + "category_type varchar(255), category_name varchar(255))");
+    execute("create table repeat_schedule (repeat_schedule_id bigint primary key, "
+        + "schedule_category_id bigint, team_id bigint, title varchar(255), content varchar(255), "
+        + "place varchar(255), start_dt timestamp, end_dt timestamp, color varchar(255), "
+        + "repeat_cycle varchar(255))");
+    execute("create table simple_schedule (simple_schedule_id bigint primary key, "
+        + "schedule_category_id bigint, team_id bigint, title varchar(255), content varchar(255), "
+        + "place varchar(255), start_dt timestamp, end_dt timestamp, color varchar(255))");
+
+    execute("insert into schedule_category values (1, 'SCHEDULE', '회의'), (2, 'DOCUMENTS', '문서')");
+    // 이번 달 반복 일정, 다음 달에 시작하는 반복 일정
+    execute("insert into repeat_schedule values "
+        + "(10, 1, 1, '주간 회의', '진행 공유', '회의실', '2024-01-08 10:00:00', '2024-01-08 11:30:00', "
+        + "'#ff0000', 'WEEKLY'), "
+        + "(11, 1, 1, '다음 달 회의', null, null, '2024-04-02 10:00:00', '2024-04-02 11:00:00', "
+        + "'#ff0000', 'MONTHLY')");
+    // 이번 달에 걸친 단순 일정(다른 카테고리 포함), 지난 달 단순 일정, 다른 팀 일정
+    execute("insert into simple_schedule values "
+        + "(20, 1, 1, '워크샵', null, '강당', '2024-02-28 09:00:00', '2024-03-01 18:00:00', '#00ff00'), "
+        + "(21, 2, 1, '문서 정리', null, null, '2024-03-10 09:00:00', '2024-03-10 10:00:00', '#0000ff'), "
+        + "(22, 1, 1, '지난 달', null, null, '2024-02-01 09:00:00', '2024-02-01 10:00:00', '#0000ff'), "
+        + "(23, 1, 2, '다른 팀', null, null, '2024-03-05 09:00:00', '2024-03-05 10:00:00', '#0000ff')");
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Test
+  @DisplayName("월별 일정 조회 - 카테고리 없이 조회하면 해당 달의 반복 / 단순 일정을 모두 반환")
+  void findMonthlySchedules_AllCategories() {
+    //when
+    List<MonthlyScheduleProjection> projections = findMonthlySchedules(null);
+
+    //then
+    assertEquals(List.of(10L, 20L, 21L), scheduleIds(projections));
+
+    MonthlyScheduleProjection repeat = projections.get(0);
+    assertEquals(RepeatCycle.WEEKLY, repeat.getRepeatCycle());
+    assertEquals(CategoryType.SCHEDULE, repeat.getCategoryType());
+    assertEquals(LocalDateTime.of(2024, 1, 8, 10, 0), repeat.getStartDt());
+
+    MonthlyScheduleProjection simple = projections.get(1);
+    assertNull(simple.getRepeatCycle());
+    assertEquals(1L, simple.getCategoryId());
+    assertEquals("회의", simple.getCategoryName());
+  }
+
+  @Test
+  @DisplayName("월별 일정 조회 - 카테고리를 지정하면 해당 카테고리만 반환")
+  void findMonthlySchedules_CategoryType() {
+    //when
+    List<MonthlyScheduleProjection> projections = findMonthlySchedules(CategoryType.SCHEDULE.name());
+
+    //then
+    assertEquals(List.of(10L, 20L), scheduleIds(projections));
+  }
+
+  @Test
+  @DisplayName("월별 일정 변환 - 단순 일정은 그대로, 반복 일정은 발생일 기준으로 기간을 옮김")
+  void toMonthlyView() {
+    //given
+    List<MonthlyScheduleProjection> projections = findMonthlySchedules(null);
+    MonthlyScheduleProjection repeat = projections.get(0);
+    MonthlyScheduleProjection simple = projections.get(1);
+
+    //when
+    AllSchedulesMonthlyView simpleView = AllSchedulesMonthlyView.from(simple);
+    AllSchedulesMonthlyView repeatView =
+        AllSchedulesMonthlyView.of(repeat, LocalDateTime.of(2024, 3, 4, 10, 0));
+
+    //then
+    assertEquals("단순일정", simpleView.getScheduleType());
+    assertEquals(LocalDateTime.of(2024, 2, 28, 9, 0), simpleView.getStartDt());
+    assertEquals(LocalDateTime.of(2024, 3, 1, 18, 0), simpleView.getEndDt());
+    assertEquals("강당", simpleView.getPlace());
+
+    assertEquals("반복일정", repeatView.getScheduleType());
+    assertEquals(10L, repeatView.getScheduleId());
+    assertEquals(LocalDateTime.of(2024, 3, 4, 11, 30), repeatView.getEndDt());
+    assertEquals(CategoryType.SCHEDULE, repeatView.getCategory());
+  }
+
+  private List<MonthlyScheduleProjection> findMonthlySchedules(String categoryType) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("teamId", 1L)
+        .addValue("categoryType", categoryType)
+        .addValue("startDt", monthStart)
+        .addValue("endDt", monthEnd);
+
+    SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+    return jdbcTemplate.queryForList(monthlySchedulesQuery, params).stream()
+        .map(row -> projectionFactory.createProjection(MonthlyScheduleProjection.class, row))
+        .sorted(Comparator.comparing(MonthlyScheduleProjection::getScheduleId))
+        .collect(Collectors.toList());
+  }
+
+  private List<Long> scheduleIds(List<MonthlyScheduleProjection> projections) {
+    return projections.stream()
+        .map(MonthlyScheduleProjection::getScheduleId)
+        .collect(Collectors.toList());
+  }
+
+  private void execute(String sql) {
+    jdbcTemplate.getJdbcTemplate().execute(sql);
+  }
+}
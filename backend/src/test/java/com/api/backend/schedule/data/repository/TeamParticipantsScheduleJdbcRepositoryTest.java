@@ -0,0 +1,97 @@
+package com.api.backend.schedule.data.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 일정 참여자 JDBC 배치 저장을 H2(MySQL 모드)에서 실행해 저장된 행을 확인한다.
+ */
+class TeamParticipantsScheduleJdbcRepositoryTest {
+
+  private SingleConnectionDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+  private TeamParticipantsScheduleJdbcRepository teamParticipantsScheduleJdbcRepository;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new SingleConnectionDataSource(
+        "jdbc:h2:mem:participants_schedule;MODE=MySQL;DATABASE_TO_LOWER=TRUE", true);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    teamParticipantsScheduleJdbcRepository = new TeamParticipantsScheduleJdbcRepository(jdbcTemplate);
+
+    jdbcTemplate.execute("create table team_participants_schedule ("
+        + "team_participants_schedule_id bigint auto_increment primary key, "
+        + "create_dt timestamp, update_dt timestamp, team_participants_id bigint, "
+        + "simple_schedule_id bigint, repeat_schedule_id bigint)");
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataSource.destroy();
+  }
+
+  @Test
+  @DisplayName("단순 일정 참여자 배치 저장 - 참여자마다 한 행씩 단순 일정에만 연결")
+  void batchInsertBySimpleSchedule() {
+    //when
+    teamParticipantsScheduleJdbcRepository.batchInsertBySimpleSchedule(10L, List.of(3L, 1L, 2L));
+
+    //then
+    List<Map<String, Object>> rows = findAll();
+    assertEquals(3, rows.size());
+    assertEquals(List.of(3L, 1L, 2L), teamParticipantsIds(rows));
+    for (Map<String, Object> row : rows) {
+      assertEquals(10L, row.get("simple_schedule_id"));
+      assertNull(row.get("repeat_schedule_id"));
+      assertNotNull(row.get("create_dt"));
+      assertEquals(row.get("create_dt"), row.get("update_dt"));
+    }
+  }
+
+  @Test
+  @DisplayName("반복 일정 참여자 배치 저장 - 참여자마다 한 행씩 반복 일정에만 연결")
+  void batchInsertByRepeatSchedule() {
+    //when
+    teamParticipantsScheduleJdbcRepository.batchInsertByRepeatSchedule(20L, List.of(5L, 6L));
+
+    //then
+    List<Map<String, Object>> rows = findAll();
+    assertEquals(List.of(5L, 6L), teamParticipantsIds(rows));
+    for (Map<String, Object> row : rows) {
+      assertEquals(20L, row.get("repeat_schedule_id"));
+      assertNull(row.get("simple_schedule_id"));
+    }
+  }
+
+  @Test
+  @DisplayName("참여자 배치 저장 - 저장할 참여자가 없으면 아무것도 저장하지 않음")
+  void batchInsert_Empty() {
+    //when
+    teamParticipantsScheduleJdbcRepository.batchInsertBySimpleSchedule(10L, List.of());
+
+    //then
+    assertEquals(0, findAll().size());
+  }
+
+  private List<Map<String, Object>> findAll() {
+    return jdbcTemplate.queryForList(
+        "select * from team_participants_schedule order by team_participants_schedule_id");
+  }
+
+  private List<Long> teamParticipantsIds(List<Map<String, Object>> rows) {
+    return rows.stream()
+        .map(row -> (Long) row.get("team_participants_id"))
+        .collect(Collectors.toList());
+  }
+}
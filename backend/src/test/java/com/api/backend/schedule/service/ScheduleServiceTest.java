@@ -0,0 +1,288 @@
+package com.api.backend.schedule.service;
+
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_ID_DUPLICATE_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_VALID_EXCEPTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.category.data.entity.ScheduleCategory;
+import com.api.backend.category.data.repository.ScheduleCategoryRepository;
+import com.api.backend.global.exception.CustomException;
+import com.api.backend.schedule.cache.ScheduleCalendarCache;
+import com.api.backend.schedule.data.dto.RepeatScheduleInfoEditRequest;
+import com.api.backend.schedule.data.dto.ScheduleRequest;
+import com.api.backend.schedule.data.dto.SimpleScheduleInfoEditRequest;
+import com.api.backend.schedule.data.entity.RepeatSchedule;
+import com.api.backend.schedule.data.entity.SimpleSchedule;
+import com.api.backend.schedule.data.entity.TeamParticipantsSchedule;
+import com.api.backend.schedule.data.repository.RepeatScheduleRepository;
+import com.api.backend.schedule.data.repository.ScheduleCalendarRepository;
+import com.api.backend.schedule.data.repository.SimpleScheduleRepository;
+import com.api.backend.schedule.data.repository.TeamParticipantsScheduleJdbcRepository;
+import com.api.backend.schedule.data.repository.TeamParticipantsScheduleRepository;
+import com.api.backend.schedule.data.type.EditOption;
+import com.api.backend.schedule.data.type.RepeatCycle;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.entity.Team;
+import com.api.backend.team.data.entity.TeamParticipants;
+import com.api.backend.team.data.repository.TeamParticipantsRepository;
+import com.api.backend.team.data.repository.TeamRepository;
+import com.api.backend.team.service.TeamParticipantsService;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleServiceTest {
+
+  private static final Long TEAM_ID = 1L;
+  private static final Long MEMBER_ID = 1L;
+  private static final Long CATEGORY_ID = 1L;
+
+  @Mock
+  private SimpleScheduleRepository simpleScheduleRepository;
+  @Mock
+  private RepeatScheduleRepository repeatScheduleRepository;
+  @Mock
+  private TeamRepository teamRepository;
+  @Mock
+  private ScheduleCategoryRepository categoryRepository;
+  @Mock
+  private TeamParticipantsRepository teamParticipantsRepository;
+  @Mock
+  private TeamMembershipCache teamMembershipCache;
+  @Mock
+  private TeamParticipantsScheduleRepository teamParticipantsScheduleRepository;
+  @Mock
+  private TeamParticipantsScheduleJdbcRepository teamParticipantsScheduleJdbcRepository;
+  @Mock
+  private TeamParticipantsService teamParticipantsService;
+  @Mock
+  private ScheduleCalendarRepository scheduleCalendarRepository;
+  @Mock
+  private ScheduleCalendarCache scheduleCalendarCache;
+
+  @InjectMocks
+  private ScheduleService scheduleService;
+
+  @Test
+  @DisplayName("단순 일정 추가 - 일정 참여자는 요청한 순서대로 저장")
+  void addSimpleSchedule_keepRequestOrder() {
+    //given
+    givenTeamAndCategory();
+    when(teamParticipantsRepository.findAllByTeam_TeamIdAndTeamParticipantsIdIn(eq(TEAM_ID), anyCollection()))
+        .thenReturn(List.of(participants(1L), participants(2L), participants(3L)));
+
+    //when
+    SimpleSchedule result = scheduleService.addSimpleScheduleAndSave(request(List.of(3L, 1L, 2L)), MEMBER_ID);
+
+    //then
+    List<Long> savedIds = result.getTeamParticipantsSchedules().stream()
+        .map(TeamParticipantsSchedule::getTeamParticipants)
+        .map(TeamParticipants::getTeamParticipantsId)
+        .collect(Collectors.toList());
+    assertEquals(List.of(3L, 1L, 2L), savedIds);
+    verify(simpleScheduleRepository).save(result);
+  }
+
+  @Test
+  @DisplayName("단순 일정 추가 - 실패[존재하지 않는 팀 참가자]")
+  void addSimpleSchedule_fail_unknownParticipants() {
+    //given
+    givenTeamAndCategory();
+    when(teamParticipantsRepository.findAllByTeam_TeamIdAndTeamParticipantsIdIn(eq(TEAM_ID), anyCollection()))
+        .thenReturn(List.of(participants(1L)));
+    when(teamParticipantsRepository.findAllById(List.of(99L))).thenReturn(List.of());
+
+    //when
+    CustomException result = assertThrows(CustomException.class,
+        () -> scheduleService.addSimpleScheduleAndSave(request(List.of(1L, 99L)), MEMBER_ID));
+
+    //then
+    assertEquals(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION, result.getErrorCode());
+    verify(simpleScheduleRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("단순 일정 추가 - 실패[다른 팀의 팀 참가자]")
+  void addSimpleSchedule_fail_otherTeamParticipants() {
+    //given
+    givenTeamAndCategory();
+    when(teamParticipantsRepository.findAllByTeam_TeamIdAndTeamParticipantsIdIn(eq(TEAM_ID), anyCollection()))
+        .thenReturn(List.of(participants(1L)));
+    when(teamParticipantsRepository.findAllById(List.of(5L))).thenReturn(List.of(participants(5L)));
+
+    //when
+    CustomException result = assertThrows(CustomException.class,
+        () -> scheduleService.addSimpleScheduleAndSave(request(List.of(1L, 5L)), MEMBER_ID));
+
+    //then
+    assertEquals(TEAM_PARTICIPANTS_NOT_VALID_EXCEPTION, result.getErrorCode());
+    verify(simpleScheduleRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("단순 일정 추가 - 실패[중복된 팀 참가자]")
+  void addSimpleSchedule_fail_duplicateParticipants() {
+    //given
+    givenTeamAndCategory();
+
+    //when
+    CustomException result = assertThrows(CustomException.class,
+        () -> scheduleService.addSimpleScheduleAndSave(request(List.of(1L, 2L, 1L)), MEMBER_ID));
+
+    //then
+    assertEquals(TEAM_PARTICIPANTS_ID_DUPLICATE_EXCEPTION, result.getErrorCode());
+    verify(teamParticipantsRepository, never())
+        .findAllByTeam_TeamIdAndTeamParticipantsIdIn(any(), anyCollection());
+    verify(simpleScheduleRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("단순 일정 수정 - 기존 참여자와 겹치는 참여자는 두고, 빠진 참여자만 삭제 / 새 참여자만 추가")
+  void editSimpleSchedule_reassignDifference() {
+    //given
+    Long simpleScheduleId = 10L;
+    givenTeamAndCategory();
+    when(teamParticipantsRepository.findAllByTeam_TeamIdAndTeamParticipantsIdIn(eq(TEAM_ID), anyCollection()))
+        .thenReturn(List.of(participants(3L), participants(4L), participants(5L)));
+    when(simpleScheduleRepository.findById(simpleScheduleId))
+        .thenReturn(Optional.of(SimpleSchedule.builder().simpleScheduleId(simpleScheduleId).build()));
+    when(teamParticipantsScheduleRepository.findAllTeamParticipantsIdBySimpleScheduleId(simpleScheduleId))
+        .thenReturn(List.of(1L, 2L, 3L));
+
+    SimpleScheduleInfoEditRequest editRequest = SimpleScheduleInfoEditRequest.builder()
+        .simpleScheduleId(simpleScheduleId)
+        .teamId(TEAM_ID)
+        .categoryId(CATEGORY_ID)
+        .teamParticipantsIds(List.of(5L, 3L, 4L))
+        .build();
+
+    //when
+    scheduleService.editSimpleScheduleInfoAndSave(editRequest, MEMBER_ID);
+
+    //then
+    ArgumentCaptor<Collection<Long>> deletedCaptor = ArgumentCaptor.forClass(Collection.class);
+    ArgumentCaptor<Collection<Long>> insertedCaptor = ArgumentCaptor.forClass(Collection.class);
+    verify(teamParticipantsScheduleRepository)
+        .deleteAllBySimpleScheduleIdAndTeamParticipantsIdIn(eq(simpleScheduleId), deletedCaptor.capture());
+    verify(teamParticipantsScheduleJdbcRepository)
+        .batchInsertBySimpleSchedule(eq(simpleScheduleId), insertedCaptor.capture());
+    assertEquals(Set.of(1L, 2L), new HashSet<>(deletedCaptor.getValue()));
+    assertEquals(List.of(5L, 4L), List.copyOf(insertedCaptor.getValue()));
+  }
+
+  @Test
+  @DisplayName("반복 일정 전체 수정 - 기존 참여자와 겹치는 참여자는 두고, 빠진 참여자만 삭제 / 새 참여자만 추가")
+  void editRepeatSchedule_reassignDifference() {
+    //given
+    Long repeatScheduleId = 20L;
+    givenTeamAndCategory();
+    when(teamParticipantsRepository.findAllByTeam_TeamIdAndTeamParticipantsIdIn(eq(TEAM_ID), anyCollection()))
+        .thenReturn(List.of(participants(2L), participants(3L)));
+    RepeatSchedule repeatSchedule = RepeatSchedule.builder()
+        .repeatScheduleId(repeatScheduleId)
+        .startDt(LocalDateTime.of(2024, 3, 4, 10, 0))
+        .build();
+    when(repeatScheduleRepository.findByOriginRepeatScheduleId(repeatScheduleId)).thenReturn(repeatSchedule);
+    when(repeatScheduleRepository.findById(repeatScheduleId)).thenReturn(Optional.of(repeatSchedule));
+    when(teamParticipantsScheduleRepository.findAllTeamParticipantsIdByRepeatScheduleId(repeatScheduleId))
+        .thenReturn(List.of(1L, 2L));
+
+    RepeatScheduleInfoEditRequest editRequest = RepeatScheduleInfoEditRequest.builder()
+        .repeatScheduleId(repeatScheduleId)
+        .teamId(TEAM_ID)
+        .categoryId(CATEGORY_ID)
+        .startDt(LocalDateTime.of(2024, 3, 11, 10, 0))
+        .endDt(LocalDateTime.of(2024, 3, 11, 11, 0))
+        .repeatCycle(RepeatCycle.WEEKLY)
+        .editOption(EditOption.ALL_SCHEDULES)
+        .teamParticipantsIds(List.of(2L, 3L))
+        .build();
+
+    //when
+    scheduleService.editRepeatScheduleInfoAndSave(editRequest, MEMBER_ID);
+
+    //then
+    ArgumentCaptor<Collection<Long>> deletedCaptor = ArgumentCaptor.forClass(Collection.class);
+    ArgumentCaptor<Collection<Long>> insertedCaptor = ArgumentCaptor.forClass(Collection.class);
+    verify(teamParticipantsScheduleRepository)
+        .deleteAllByRepeatScheduleIdAndTeamParticipantsIdIn(eq(repeatScheduleId), deletedCaptor.capture());
+    verify(teamParticipantsScheduleJdbcRepository)
+        .batchInsertByRepeatSchedule(eq(repeatScheduleId), insertedCaptor.capture());
+    assertEquals(Set.of(1L), new HashSet<>(deletedCaptor.getValue()));
+    assertEquals(List.of(3L), List.copyOf(insertedCaptor.getValue()));
+  }
+
+  @Test
+  @DisplayName("단순 일정 수정 - 참여자가 그대로면 삭제하지 않고 추가할 참여자도 없음")
+  void editSimpleSchedule_sameParticipants() {
+    //given
+    Long simpleScheduleId = 10L;
+    givenTeamAndCategory();
+    when(teamParticipantsRepository.findAllByTeam_TeamIdAndTeamParticipantsIdIn(eq(TEAM_ID), anyCollection()))
+        .thenReturn(List.of(participants(1L), participants(2L)));
+    when(simpleScheduleRepository.findById(simpleScheduleId))
+        .thenReturn(Optional.of(SimpleSchedule.builder().simpleScheduleId(simpleScheduleId).build()));
+    when(teamParticipantsScheduleRepository.findAllTeamParticipantsIdBySimpleScheduleId(simpleScheduleId))
+        .thenReturn(List.of(2L, 1L));
+
+    SimpleScheduleInfoEditRequest editRequest = SimpleScheduleInfoEditRequest.builder()
+        .simpleScheduleId(simpleScheduleId)
+        .teamId(TEAM_ID)
+        .categoryId(CATEGORY_ID)
+        .teamParticipantsIds(List.of(1L, 2L))
+        .build();
+
+    //when
+    scheduleService.editSimpleScheduleInfoAndSave(editRequest, MEMBER_ID);
+
+    //then
+    verify(teamParticipantsScheduleRepository, never())
+        .deleteAllBySimpleScheduleIdAndTeamParticipantsIdIn(anyLong(), anyCollection());
+    verify(teamParticipantsScheduleJdbcRepository).batchInsertBySimpleSchedule(simpleScheduleId, Set.of());
+  }
+
+  private void givenTeamAndCategory() {
+    when(teamRepository.findById(TEAM_ID))
+        .thenReturn(Optional.of(Team.builder().teamId(TEAM_ID).build()));
+    when(categoryRepository.findById(CATEGORY_ID))
+        .thenReturn(Optional.of(ScheduleCategory.builder().scheduleCategoryId(CATEGORY_ID).build()));
+  }
+
+  private TeamParticipants participants(Long teamParticipantsId) {
+    return TeamParticipants.builder()
+        .teamParticipantsId(teamParticipantsId)
+        .build();
+  }
+
+  private ScheduleRequest request(List<Long> teamParticipantsIds) {
+    return ScheduleRequest.builder()
+        .teamId(TEAM_ID)
+        .categoryId(CATEGORY_ID)
+        .title("회의")
+        .startDt(LocalDateTime.of(2024, 3, 4, 10, 0))
+        .endDt(LocalDateTime.of(2024, 3, 4, 11, 0))
+        .teamParticipantsIds(teamParticipantsIds)
+        .build();
+  }
+}
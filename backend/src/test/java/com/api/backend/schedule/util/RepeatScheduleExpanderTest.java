@@ -0,0 +1,79 @@
+package com.api.backend.schedule.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.api.backend.schedule.data.type.RepeatCycle;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RepeatScheduleExpanderTest {
+
+  private final LocalDateTime windowStart = LocalDateTime.of(2024, 3, 1, 0, 0);
+  private final LocalDateTime windowEnd = LocalDateTime.of(2024, 3, 31, 23, 59, 59);
+
+  @Test
+  @DisplayName("매주 반복 일정 - 조회 구간 안의 회차만 계산")
+  void expandWeekly() {
+    //given
+    LocalDateTime startDt = LocalDateTime.of(2023, 1, 4, 10, 0);
+    LocalDateTime endDt = LocalDateTime.of(2023, 1, 4, 11, 0);
+
+    //when
+    List<LocalDateTime> result = RepeatScheduleExpander.expandOccurrenceStarts(
+        startDt, endDt, RepeatCycle.WEEKLY, windowStart, windowEnd);
+
+    //then
+    assertEquals(4, result.size());
+    assertEquals(LocalDateTime.of(2024, 3, 6, 10, 0), result.get(0));
+    assertEquals(LocalDateTime.of(2024, 3, 27, 10, 0), result.get(3));
+  }
+
+  @Test
+  @DisplayName("매달 반복 일정 - 구간 시작 전에 시작해 구간에 걸친 회차 포함")
+  void expandMonthlyOverlappingWindowStart() {
+    //given
+    LocalDateTime startDt = LocalDateTime.of(2023, 6, 29, 9, 0);
+    LocalDateTime endDt = LocalDateTime.of(2023, 7, 2, 9, 0);
+
+    //when
+    List<LocalDateTime> result = RepeatScheduleExpander.expandOccurrenceStarts(
+        startDt, endDt, RepeatCycle.MONTHLY, windowStart, windowEnd);
+
+    //then
+    assertEquals(2, result.size());
+    assertEquals(LocalDateTime.of(2024, 2, 29, 9, 0), result.get(0));
+    assertEquals(LocalDateTime.of(2024, 3, 29, 9, 0), result.get(1));
+  }
+
+  @Test
+  @DisplayName("매년 반복 일정 - 해당 월이 아니면 빈 목록")
+  void expandYearlyOutsideWindow() {
+    //given
+    LocalDateTime startDt = LocalDateTime.of(2020, 5, 10, 9, 0);
+    LocalDateTime endDt = LocalDateTime.of(2020, 5, 10, 18, 0);
+
+    //when
+    List<LocalDateTime> result = RepeatScheduleExpander.expandOccurrenceStarts(
+        startDt, endDt, RepeatCycle.YEARLY, windowStart, windowEnd);
+
+    //then
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  @DisplayName("조회 구간 이후에 시작하는 반복 일정 - 빈 목록")
+  void expandStartsAfterWindow() {
+    //given
+    LocalDateTime startDt = LocalDateTime.of(2024, 4, 1, 9, 0);
+
+    //when
+    List<LocalDateTime> result = RepeatScheduleExpander.expandOccurrenceStarts(
+        startDt, startDt.plusHours(1), RepeatCycle.WEEKLY, windowStart, windowEnd);
+
+    //then
+    assertTrue(result.isEmpty());
+  }
+}
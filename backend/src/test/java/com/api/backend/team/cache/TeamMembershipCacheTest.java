@@ -0,0 +1,122 @@
+package com.api.backend.team.cache;
+
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETEING_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.global.exception.CustomException;
+import com.api.backend.global.redis.RedisService;
+import com.api.backend.team.data.dto.TeamMembership;
+import com.api.backend.team.data.repository.TeamParticipantsRepository;
+import com.api.backend.team.data.type.TeamRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class TeamMembershipCacheTest {
+
+  @Mock
+  private TeamParticipantsRepository teamParticipantsRepository;
+  @Mock
+  private RedisService redisService;
+  @Mock
+  private RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TeamMembershipCache teamMembershipCache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    teamMembershipCache = new TeamMembershipCache(
+        10, Duration.ofMinutes(1), false, teamParticipantsRepository,
+        redisService, redisMessageListenerContainer, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("팀 참가 정보 조회 - 두번째 조회는 캐시에서 반환")
+  void getMembership_Hit() {
+    //given
+    when(teamParticipantsRepository.findMembership(1L, 2L))
+        .thenReturn(Optional.of(membership(1L, 2L, null)));
+
+    //when
+    teamMembershipCache.getMembership(1L, 2L);
+    TeamMembership result = teamMembershipCache.getMembership(1L, 2L);
+
+    //then
+    verify(teamParticipantsRepository, times(1)).findMembership(1L, 2L);
+    assertEquals(10L, result.getTeamParticipantsId());
+    assertEquals(1.0, meterRegistry.counter("team.membership.cache", "result", "hit").count());
+    assertEquals(1.0, meterRegistry.counter("team.membership.cache", "result", "miss").count());
+  }
+
+  @Test
+  @DisplayName("팀 참가 정보 조회 실패 - 참가하지 않은 팀은 캐시하지 않음")
+  void getMembership_Fail_NotFound() {
+    //given
+    when(teamParticipantsRepository.findMembership(1L, 2L)).thenReturn(Optional.empty());
+
+    //when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> teamMembershipCache.getMembership(1L, 2L));
+
+    //then
+    assertEquals(TEAM_PARTICIPANTS_NOT_FOUND_EXCEPTION, exception.getErrorCode());
+    assertEquals(0, teamMembershipCache.size());
+  }
+
+  @Test
+  @DisplayName("해체 중인 팀 - 활성 참가 정보 조회 시 예외")
+  void getActiveMembership_Fail_Deleting() {
+    //given
+    when(teamParticipantsRepository.findMembership(1L, 2L))
+        .thenReturn(Optional.of(membership(1L, 2L, LocalDate.now().plusDays(30))));
+
+    //when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> teamMembershipCache.getActiveMembership(1L, 2L));
+
+    //then
+    assertEquals(TEAM_IS_DELETEING_EXCEPTION, exception.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("팀 무효화 - 해당 팀의 참가 정보만 제거")
+  void evictTeam() {
+    //given
+    when(teamParticipantsRepository.findMembership(1L, 2L))
+        .thenReturn(Optional.of(membership(1L, 2L, null)));
+    when(teamParticipantsRepository.findMembership(1L, 3L))
+        .thenReturn(Optional.of(membership(1L, 3L, null)));
+    teamMembershipCache.getMembership(1L, 2L);
+    teamMembershipCache.getMembership(1L, 3L);
+
+    //when
+    teamMembershipCache.evictTeam(2L);
+    teamMembershipCache.getMembership(1L, 2L);
+    teamMembershipCache.getMembership(1L, 3L);
+
+    //then
+    verify(teamParticipantsRepository, times(2)).findMembership(1L, 2L);
+    verify(teamParticipantsRepository, times(1)).findMembership(1L, 3L);
+    assertEquals(1.0, meterRegistry.counter("team.membership.cache.invalidations").count());
+  }
+
+  private TeamMembership membership(Long memberId, Long teamId, LocalDate restorationDt) {
+    return new TeamMembership(10L, teamId, memberId, TeamRole.MATE, "닉네임", restorationDt, false);
+  }
+}
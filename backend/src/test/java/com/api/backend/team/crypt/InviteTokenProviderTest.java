@@ -0,0 +1,73 @@
+package com.api.backend.team.crypt;
+
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_CODE_NOT_VALID_EXCEPTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.api.backend.global.exception.CustomException;
+import com.api.backend.team.crypt.InviteTokenProvider.InviteToken;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InviteTokenProviderTest {
+
+  private static final String INVITE_CODE = "dsfefsefnklsd";
+
+  @Test
+  @DisplayName("초대 토큰 검증 - 성공")
+  void verify_success() {
+    //given
+    InviteTokenProvider inviteTokenProvider = new InviteTokenProvider("current-secret", List.of());
+    String token = inviteTokenProvider.createToken(1L, INVITE_CODE, expireAt());
+
+    //when
+    InviteToken inviteToken = inviteTokenProvider.verify(token);
+
+    //then
+    assertEquals(1L, inviteToken.getTeamId());
+    assertTrue(inviteTokenProvider.matchesCode(inviteToken, INVITE_CODE));
+    assertFalse(inviteTokenProvider.matchesCode(inviteToken, "changed-code"));
+  }
+
+  @Test
+  @DisplayName("초대 토큰 검증 - 실패[변조]")
+  void verify_fail_tampered() {
+    //given
+    InviteTokenProvider inviteTokenProvider = new InviteTokenProvider("current-secret", List.of());
+    char[] token = inviteTokenProvider.createToken(1L, INVITE_CODE, expireAt()).toCharArray();
+    token[5] = token[5] == 'A' ? 'B' : 'A';
+
+    //when
+    CustomException result = assertThrows(CustomException.class,
+        () -> inviteTokenProvider.verify(new String(token)));
+
+    //then
+    assertEquals(TEAM_CODE_NOT_VALID_EXCEPTION, result.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("초대 토큰 검증 - 이전 키로 발급한 토큰은 교체 후에도 사용 가능")
+  void verify_rotatedKey() {
+    //given
+    String token = new InviteTokenProvider("previous-secret", List.of())
+        .createToken(1L, INVITE_CODE, expireAt());
+    InviteTokenProvider rotated =
+        new InviteTokenProvider("current-secret", List.of("previous-secret"));
+    InviteTokenProvider withoutPrevious =
+        new InviteTokenProvider("current-secret", List.of());
+
+    //when
+    InviteToken inviteToken = rotated.verify(token);
+
+    //then
+    assertTrue(rotated.matchesCode(inviteToken, INVITE_CODE));
+    assertThrows(CustomException.class, () -> withoutPrevious.verify(token));
+  }
+
+  private static long expireAt() {
+    return System.currentTimeMillis() + 60 * 1000;
+  }
+}
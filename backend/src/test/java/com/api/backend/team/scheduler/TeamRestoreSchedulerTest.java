@@ -1,54 +1,79 @@
 package com.api.backend.team.scheduler;
 
+import static com.api.backend.team.scheduler.TeamDisbandScheduler.RESTORE_EXPIRE_CHUNK_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.api.backend.team.data.entity.Team;
-import com.api.backend.team.data.repository.TeamRepository;
+import com.api.backend.team.event.TeamRestorationExpiredEvent;
+import com.api.backend.team.service.TeamPurgeService;
+import com.api.backend.team.service.TeamService;
 import java.time.LocalDate;
-import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 @ExtendWith(MockitoExtension.class)
 class TeamRestoreSchedulerTest {
 
   @Mock
-  private TeamRepository teamRepository;
+  private TeamService teamService;
+
+  @Mock
+  private TeamPurgeService teamPurgeService;
+
+  @Mock
+  private ApplicationEventPublisher applicationEventPublisher;
 
   @InjectMocks
   private TeamDisbandScheduler teamDisbandScheduler;
 
   @Test
-  @DisplayName("매일 자정에 팀 해체 기한이 지났을 경우")
+  @DisplayName("매일 자정에 팀 해체 기한이 지났을 경우 - 묶음이 가득 차면 다음 묶음을 이어서 처리")
   void teamRestoreCheckAndUpdate() {
-    // arrange
-    LocalDate today = LocalDate.now();
-    LocalDate pastDate = today.minusDays(1);
-    LocalDate futureDate = today.plusDays(1);
+    //given
+    List<Long> fullChunk = LongStream.rangeClosed(1, RESTORE_EXPIRE_CHUNK_SIZE)
+        .boxed()
+        .collect(Collectors.toList());
+    List<Long> lastChunk = List.of(1001L, 1002L);
+    when(teamService.expireRestorations(any(LocalDate.class), eq(RESTORE_EXPIRE_CHUNK_SIZE)))
+        .thenReturn(fullChunk, lastChunk);
 
-    Team teamWithPastDate = new Team();
-    teamWithPastDate.setRestorationDt(pastDate);
-
-    Team teamWithFutureDate = new Team();
-    teamWithFutureDate.setRestorationDt(futureDate);
+    //when
+    teamDisbandScheduler.teamRestoreCheckAndUpdate();
 
-    List<Team> teams = Arrays.asList(teamWithPastDate, teamWithFutureDate);
+    //then
+    ArgumentCaptor<TeamRestorationExpiredEvent> captor =
+        ArgumentCaptor.forClass(TeamRestorationExpiredEvent.class);
+    verify(teamService, times(2)).expireRestorations(any(LocalDate.class), eq(RESTORE_EXPIRE_CHUNK_SIZE));
+    verify(applicationEventPublisher, times(2)).publishEvent(captor.capture());
+    assertEquals(lastChunk, captor.getAllValues().get(1).getTeamIds());
+  }
 
-    // given
-    when(teamRepository.findAllByRestorationDtIsNotNull()).thenReturn(teams);
+  @Test
+  @DisplayName("매일 자정에 팀 해체 기한이 지난 팀이 없을 경우 - 이벤트를 발행하지 않음")
+  void teamRestoreCheckAndUpdate_Empty() {
+    //given
+    when(teamService.expireRestorations(any(LocalDate.class), eq(RESTORE_EXPIRE_CHUNK_SIZE)))
+        .thenReturn(List.of());
 
-    // when
+    //when
     teamDisbandScheduler.teamRestoreCheckAndUpdate();
 
-    // then
-    verify(teamRepository, times(1)).findAllByRestorationDtIsNotNull();
+    //then
+    verify(applicationEventPublisher, never()).publishEvent(any());
   }
-}
\ No newline at end of file
+}
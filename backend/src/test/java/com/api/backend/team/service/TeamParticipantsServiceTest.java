@@ -18,6 +18,7 @@ import com.api.backend.file.type.FileFolder;
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.member.data.dto.TeamParticipantUpdateRequest;
 import com.api.backend.member.data.entity.Member;
+import com.api.backend.team.cache.TeamMembershipCache;
 import com.api.backend.team.data.entity.Team;
 import com.api.backend.team.data.entity.TeamParticipants;
 import com.api.backend.team.data.repository.TeamParticipantsRepository;
@@ -42,6 +43,8 @@ class TeamParticipantsServiceTest {
   private TeamService teamService;
   @Mock
   private FileProcessService fileProcessService;
+  @Mock
+  private TeamMembershipCache teamMembershipCache;
 
   @InjectMocks
   private TeamParticipantsService teamParticipantsService;
@@ -0,0 +1,139 @@
+package com.api.backend.team.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.api.backend.comment.service.CommentService;
+import com.api.backend.documents.service.DocumentService;
+import com.api.backend.file.service.FileProcessService;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.data.entity.Team;
+import com.api.backend.team.data.entity.TeamPurgeCheckpoint;
+import com.api.backend.team.data.repository.TeamPurgeCheckpointRepository;
+import com.api.backend.team.data.repository.TeamPurgeJdbcRepository;
+import com.api.backend.team.data.repository.TeamRepository;
+import com.api.backend.team.data.type.TeamPurgePhase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class TeamPurgeServiceTest {
+
+  @Mock
+  private TeamRepository teamRepository;
+  @Mock
+  private TeamPurgeJdbcRepository teamPurgeJdbcRepository;
+  @Mock
+  private TeamPurgeCheckpointRepository teamPurgeCheckpointRepository;
+  @Mock
+  private DocumentService documentService;
+  @Mock
+  private CommentService commentService;
+  @Mock
+  private FileProcessService fileProcessService;
+  @Mock
+  private TeamMembershipCache teamMembershipCache;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TeamPurgeService teamPurgeService;
+
+  private final Team team = Team.builder()
+      .teamId(1L)
+      .profileUrl("profileUrl")
+      .isDelete(true)
+      .build();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    teamPurgeService = new TeamPurgeService(
+        100, 1000, teamRepository, teamPurgeJdbcRepository, teamPurgeCheckpointRepository,
+        documentService, commentService, fileProcessService, teamMembershipCache,
+        Runnable::run, meterRegistry);
+
+    when(teamRepository.findDeletedTeamsAfter(eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(team));
+  }
+
+  @Test
+  @DisplayName("해체된 팀 삭제 - 모든 단계가 끝나면 팀과 checkpoint 삭제")
+  void purgeDeletedTeams() {
+    //given
+    when(teamPurgeCheckpointRepository.findAllByTeamIdIn(List.of(1L))).thenReturn(List.of());
+    when(documentService.deleteAllDocsInTeams(List.of(1L))).thenReturn(3L);
+    when(commentService.deleteAllCommentsInTeams(List.of(1L))).thenReturn(2L);
+    when(teamPurgeJdbcRepository.deleteTeamRows(List.of(1L), 1000)).thenReturn(10L);
+
+    //when
+    int purgedCount = teamPurgeService.purgeDeletedTeams();
+
+    //then
+    assertEquals(1, purgedCount);
+    verify(fileProcessService).deleteImage("profileUrl");
+    verify(teamRepository).deleteAllByIdsInQuery(List.of(1L));
+    verify(teamPurgeCheckpointRepository).deleteAllByTeamIdInQuery(List.of(1L));
+    verify(teamMembershipCache).evictTeam(1L);
+    assertEquals(5.0, meterRegistry.counter("team.purge.deleted", "phase", "MONGO").count());
+    assertEquals(10.0, meterRegistry.counter("team.purge.deleted", "phase", "MYSQL").count());
+  }
+
+  @Test
+  @DisplayName("해체된 팀 삭제 실패 - 실패한 단계가 있으면 팀을 남기고 끝난 단계만 기록")
+  void purgeDeletedTeams_Fail_Phase() {
+    //given
+    when(teamPurgeCheckpointRepository.findAllByTeamIdIn(List.of(1L))).thenReturn(List.of());
+    when(teamPurgeJdbcRepository.deleteTeamRows(List.of(1L), 1000))
+        .thenThrow(new IllegalStateException("lock wait timeout"));
+
+    //when
+    int purgedCount = teamPurgeService.purgeDeletedTeams();
+
+    //then
+    ArgumentCaptor<List<TeamPurgeCheckpoint>> captor = ArgumentCaptor.forClass(List.class);
+    verify(teamPurgeCheckpointRepository, times(2)).saveAll(captor.capture());
+    assertEquals(0, purgedCount);
+    assertEquals(List.of(TeamPurgePhase.MONGO, TeamPurgePhase.FILE),
+        List.of(captor.getAllValues().get(0).get(0).getPhase(),
+            captor.getAllValues().get(1).get(0).getPhase()));
+    verify(teamRepository, never()).deleteAllByIdsInQuery(anyList());
+  }
+
+  @Test
+  @DisplayName("해체된 팀 삭제 재시작 - checkpoint 에 기록된 단계는 건너뜀")
+  void purgeDeletedTeams_Resume() {
+    //given
+    when(teamPurgeCheckpointRepository.findAllByTeamIdIn(List.of(1L))).thenReturn(List.of(
+        checkpoint(TeamPurgePhase.MONGO), checkpoint(TeamPurgePhase.FILE)));
+
+    //when
+    int purgedCount = teamPurgeService.purgeDeletedTeams();
+
+    //then
+    assertEquals(1, purgedCount);
+    verify(documentService, never()).deleteAllDocsInTeams(anyList());
+    verify(fileProcessService, never()).deleteImage(any());
+    verify(teamPurgeJdbcRepository).deleteTeamRows(List.of(1L), 1000);
+    verify(teamRepository).deleteAllByIdsInQuery(List.of(1L));
+  }
+
+  private TeamPurgeCheckpoint checkpoint(TeamPurgePhase phase) {
+    return TeamPurgeCheckpoint.builder()
+        .teamId(1L)
+        .phase(phase)
+        .build();
+  }
+}
@@ -2,6 +2,7 @@ package com.api.backend.team.service;
 
 import static com.api.backend.global.exception.type.ErrorCode.PASSWORD_NOT_MATCH_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_CODE_NOT_VALID_EXCEPTION;
+import static com.api.backend.global.exception.type.ErrorCode.TEAM_EXPIRED_DATE_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETEING_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_IS_DELETE_TRUE_EXCEPTION;
 import static com.api.backend.global.exception.type.ErrorCode.TEAM_LIMIT_VALID_EXCEPTION;
@@ -14,11 +15,12 @@ import static com.api.backend.team.data.ResponseMessage.KICK_OUT_TEAM_PARTICIPAN
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,7 +30,8 @@ import com.api.backend.file.type.FileFolder;
 import com.api.backend.global.exception.CustomException;
 import com.api.backend.member.data.entity.Member;
 import com.api.backend.member.data.repository.MemberRepository;
-import com.api.backend.team.crypt.SimpleEncryption;
+import com.api.backend.team.cache.TeamMembershipCache;
+import com.api.backend.team.crypt.InviteTokenProvider;
 import com.api.backend.team.data.dto.TeamCreateRequest;
 import com.api.backend.team.data.dto.TeamCreateResponse;
 import com.api.backend.team.data.dto.TeamDisbandRequest;
@@ -51,6 +54,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
@@ -63,10 +67,13 @@ class TeamServiceTest {
   private TeamParticipantsRepository teamParticipantsRepository;
   @Mock
   private FileProcessService fileProcessService;
-  @Mock
-  private SimpleEncryption simpleEncryption;
+  @Spy
+  private InviteTokenProvider inviteTokenProvider =
+      new InviteTokenProvider("test-invite-secret", List.of());
   @Mock
   private MemberRepository memberRepository;
+  @Mock
+  private TeamMembershipCache teamMembershipCache;
 
 
   @InjectMocks
@@ -133,22 +140,22 @@ class TeamServiceTest {
     //given
     Long teamId = 1L;
     Long userId = 1L;
-    String nowString = LocalDate.now().toString();
     Team team = Team.builder()
         .teamId(1L)
         .inviteCode("dsfefsefnklsd")
         .build();
     when(teamRepository.findById(teamId))
         .thenReturn(Optional.of(team));
-    when(simpleEncryption.encrypt(anyString()))
-        .thenReturn(LocalDate.now().toString());
     when(teamParticipantsRepository.existsByTeam_TeamIdAndMember_MemberId(teamId, userId))
         .thenReturn(true);
     //when
     String result = teamService.getTeamUrl(teamId, userId);
 
     //then
-    assertEquals(result, teamId + "/" + team.getInviteCode() + "/" + nowString);
+    String prefix = teamId + "/invite/";
+    assertTrue(result.startsWith(prefix));
+    assertEquals(teamId,
+        inviteTokenProvider.verify(result.substring(prefix.length())).getTeamId());
   }
 
   @Test
@@ -178,11 +185,9 @@ class TeamServiceTest {
   @DisplayName("팀에 팀원 추가 로직 - 성공")
   void updateTeamParticipants_success() {
     //given
-    LocalDate localDate =  LocalDate.now().plusDays(1);
-    String dateString = localDate.toString();
     Long id = 1L;
     Long userId = 1L;
-    String code = "dsfefsefnklsd";
+    String inviteToken = createInviteToken(id, "dsfefsefnklsd");
     Team team = Team.builder()
         .teamId(1L)
         .name("test")
@@ -202,8 +207,6 @@ class TeamServiceTest {
 
     when(teamRepository.findById(anyLong()))
         .thenReturn(Optional.of(team));
-    when(simpleEncryption.decrypt(dateString))
-        .thenReturn(localDate);
     when(teamParticipantsRepository.existsByTeam_TeamIdAndMember_MemberId(
         anyLong(), anyLong()
     )).thenReturn(false);
@@ -212,8 +215,8 @@ class TeamServiceTest {
     when(teamParticipantsRepository.save(any()))
         .thenReturn(teamParticipants);
     //when
-    TeamParticipantsUpdateResponse result = teamService.updateTeamParticipants(id, code, userId,
-        dateString);
+    TeamParticipantsUpdateResponse result =
+        teamService.updateTeamParticipants(id, inviteToken, userId);
 
     //then
     assertEquals(result.getTeamId(), team.getTeamId());
@@ -225,10 +228,9 @@ class TeamServiceTest {
   @DisplayName("팀에 팀원 추가 로직 - 실패[code]")
   void updateTeamParticipants_fail_code() {
     //given
-    String dateString = LocalDate.now().minusDays(1).toString();
     Long id = 1L;
     Long userId = 1L;
-    String code = "sadsadasd";
+    String inviteToken = createInviteToken(id, "sadsadasd");
     Team team = Team.builder()
         .teamId(1L)
         .inviteCode("2/dsfefsefnklsd")
@@ -239,7 +241,7 @@ class TeamServiceTest {
     //when
     CustomException result = assertThrows(
         CustomException.class,
-        () -> teamService.updateTeamParticipants(id, code, userId, dateString)
+        () -> teamService.updateTeamParticipants(id, inviteToken, userId)
     );
 
     //then
@@ -251,11 +253,9 @@ class TeamServiceTest {
   @DisplayName("팀에 팀원 추가 로직 - 실패[existUser]")
   void updateTeamParticipants_fail_exist_user() {
     //given
-    LocalDate localDate =  LocalDate.now().plusDays(1);
-    String dateString = localDate.toString();
     Long id = 1L;
     Long userId = 1L;
-    String code = "dsfefsefnklsd";
+    String inviteToken = createInviteToken(id, "dsfefsefnklsd");
     Team team = Team.builder()
         .teamId(1L)
         .inviteCode("dsfefsefnklsd")
@@ -264,15 +264,13 @@ class TeamServiceTest {
         .build();
     when(teamRepository.findById(anyLong()))
         .thenReturn(Optional.of(team));
-    when(simpleEncryption.decrypt(dateString))
-        .thenReturn(localDate);
     when(teamParticipantsRepository.existsByTeam_TeamIdAndMember_MemberId(anyLong(), anyLong()))
         .thenReturn(true);
 
     //when
     CustomException result = assertThrows(
         CustomException.class,
-        () -> teamService.updateTeamParticipants(id, code, userId, dateString)
+        () -> teamService.updateTeamParticipants(id, inviteToken, userId)
     );
 
     //then
@@ -284,11 +282,9 @@ class TeamServiceTest {
   @DisplayName("팀에 팀원 추가 로직 - 실패[인원 제한]")
   void updateTeamParticipants_fail_member_limit() {
     //given
-    LocalDate localDate =  LocalDate.now().plusDays(1);
-    String dateString = localDate.toString();
     Long teamId = 1L;
     Long userId = 1L;
-    String code = "dsfefsefnklsd";
+    String inviteToken = createInviteToken(teamId, "dsfefsefnklsd");
     Team team = Team.builder()
         .teamId(1L)
         .inviteCode("dsfefsefnklsd")
@@ -297,13 +293,11 @@ class TeamServiceTest {
         .build();
     when(teamRepository.findById(teamId))
         .thenReturn(Optional.of(team));
-    when(simpleEncryption.decrypt(dateString))
-        .thenReturn(localDate);
 
     //when
     CustomException result = assertThrows(
         CustomException.class,
-        () -> teamService.updateTeamParticipants(teamId, code, userId, dateString)
+        () -> teamService.updateTeamParticipants(teamId, inviteToken, userId)
     );
 
     //then
@@ -311,6 +305,26 @@ class TeamServiceTest {
     assertEquals(result.getErrorCode().getCode(), TEAM_LIMIT_VALID_EXCEPTION.getCode());
   }
 
+  @Test
+  @DisplayName("팀에 팀원 추가 로직 - 실패[만료] 팀을 조회하지 않음")
+  void updateTeamParticipants_fail_expired() {
+    //given
+    Long teamId = 1L;
+    Long userId = 1L;
+    String inviteToken = inviteTokenProvider.createToken(
+        teamId, "dsfefsefnklsd", System.currentTimeMillis() - 1000);
+
+    //when
+    CustomException result = assertThrows(
+        CustomException.class,
+        () -> teamService.updateTeamParticipants(teamId, inviteToken, userId)
+    );
+
+    //then
+    assertEquals(result.getErrorMessage(), TEAM_EXPIRED_DATE_EXCEPTION.getErrorMessage());
+    verify(teamRepository, never()).findById(anyLong());
+  }
+
 
   @Test
   @DisplayName("팀원 강퇴 로직 - 성공")
@@ -781,4 +795,9 @@ class TeamServiceTest {
     //then
     assertEquals(team.getName(),"testTeam");
   }
-}
\ No newline at end of file
+
+  private String createInviteToken(Long teamId, String inviteCode) {
+    return inviteTokenProvider.createToken(
+        teamId, inviteCode, System.currentTimeMillis() + 60 * 1000);
+  }
+}